@@ -168,6 +168,20 @@ public interface SessionHeaderEncoder
 
     long startMessage(MutableAsciiBuffer buffer, int offset);
 
+    /**
+     * Enables the header template. When enabled, runs of header fields that are expected to stay the same between
+     * messages, such as the comp ids, are encoded once and then block copied into later messages. Fields that change
+     * per message, such as MsgSeqNum and SendingTime, are always encoded. Setting or resetting a templated field
+     * re-encodes the template. Templated fields copy the values that they're set to rather than wrapping them, and
+     * getting a templated field's buffer also re-encodes the template, so modify that buffer before encoding the next
+     * message rather than holding onto it.
+     *
+     * @param headerTemplateEnabled true to enable the header template, false to disable it.
+     */
+    void headerTemplateEnabled(boolean headerTemplateEnabled);
+
+    boolean headerTemplateEnabled();
+
     SessionHeaderEncoder msgType(CharSequence value);
 
     SessionHeaderEncoder msgType(DirectBuffer value);
@@ -51,6 +51,16 @@ public final class CodecGenerationTool
      */
     public static final String FIX_CODECS_ALLOW_DUPLICATE_FIELDS = "fix.codecs.allow_duplicate_fields";
 
+    /**
+     * String system property naming a projection file. When set, decoders for just the messages and fields listed
+     * in the file are also generated into the <code>decoder_projection</code> package. See
+     * {@link DictionaryProjection} for the file format.
+     * <p>
+     * Tags that aren't in the projection are skipped when decoding, so projected decoders shouldn't be used with
+     * unknown field rejection enabled.
+     */
+    public static final String FIX_CODECS_PROJECTION = "fix.codecs.projection";
+
     public static void main(final String[] args) throws Exception
     {
         if (args.length < 2)
@@ -135,6 +145,27 @@ public final class CodecGenerationTool
                 true,
                 codecRejectUnknownEnumValueEnabled).generate();
         }
+
+        final String projectionFile = System.getProperty(FIX_CODECS_PROJECTION);
+        if (projectionFile != null)
+        {
+            final Dictionary projectedDictionary = DictionaryProjection.project(
+                dictionary, DictionaryProjection.parse(new File(projectionFile)));
+            final PackageOutputManager projectionDecoderOutput =
+                new PackageOutputManager(outputPath, DECODER_PROJECTION_PACKAGE);
+
+            new DecoderGenerator(
+                projectedDictionary,
+                1,
+                DECODER_PROJECTION_PACKAGE,
+                PARENT_PACKAGE,
+                ENCODER_PACKAGE, projectionDecoderOutput,
+                Validation.class,
+                RejectUnknownField.class,
+                RejectUnknownEnumValue.class,
+                FLYWEIGHTS_ENABLED,
+                codecRejectUnknownEnumValueEnabled).generate();
+        }
     }
 
     private static Dictionary parseDictionary(final File xmlFile, final Dictionary parentDictionary) throws Exception
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.dictionary;
+
+import uk.co.real_logic.artio.dictionary.ir.*;
+import uk.co.real_logic.artio.dictionary.ir.Dictionary;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Restricts a dictionary to a subset of its messages and, within each of those messages, a subset of fields.
+ * Decoders generated from a projected dictionary skip the tags that aren't listed, and have no buffers or
+ * getters for them.
+ * <p>
+ * A projection file has one line per message of the form <code>MessageName=Field1,Field2,...</code>. Blank lines
+ * and lines starting with <code>#</code> are ignored. Groups are listed by the name of their number field, eg
+ * <code>NoPartyIDs</code>, and are kept whole. Components are flattened into their message, and a component is
+ * kept whole if its name is listed. The header and trailer are always kept whole.
+ * <p>
+ * Session messages, such as <code>Logon</code> or <code>Heartbeat</code>, can't be projected as their decoders
+ * implement the <code>Abstract*Decoder</code> interfaces that the session layer relies upon.
+ */
+public final class DictionaryProjection
+{
+    private static final String GROUP_COUNTER_SUFFIX = "GroupCounter";
+    private static final Set<String> SESSION_MESSAGES = new HashSet<>(Arrays.asList(
+        "Logon",
+        "Logout",
+        "Reject",
+        "TestRequest",
+        "SequenceReset",
+        "Heartbeat",
+        "ResendRequest",
+        "UserRequest"));
+
+    private DictionaryProjection()
+    {
+    }
+
+    public static Map<String, Set<String>> parse(final File projectionFile) throws IOException
+    {
+        final Map<String, Set<String>> messageToFields = new HashMap<>();
+        for (final String rawLine : Files.readAllLines(projectionFile.toPath(), UTF_8))
+        {
+            final String line = rawLine.trim();
+            if (line.isEmpty() || line.startsWith("#"))
+            {
+                continue;
+            }
+
+            final int separator = line.indexOf('=');
+            if (separator == -1)
+            {
+                throw new IllegalArgumentException("Invalid projection line, expected Message=Fields: " + line);
+            }
+
+            final Set<String> fields = messageToFields.computeIfAbsent(
+                line.substring(0, separator).trim(), name -> new HashSet<>());
+            for (final String field : line.substring(separator + 1).split(","))
+            {
+                final String fieldName = field.trim();
+                if (!fieldName.isEmpty())
+                {
+                    fields.add(fieldName);
+                }
+            }
+        }
+
+        return messageToFields;
+    }
+
+    public static Dictionary project(final Dictionary dictionary, final Map<String, Set<String>> messageToFields)
+    {
+        final Set<String> sessionMessages = new HashSet<>(messageToFields.keySet());
+        sessionMessages.retainAll(SESSION_MESSAGES);
+        if (!sessionMessages.isEmpty())
+        {
+            throw new IllegalArgumentException("Session messages can't be projected: " + sessionMessages);
+        }
+
+        final List<Message> messages = new ArrayList<>();
+        for (final Message message : dictionary.messages())
+        {
+            final Set<String> fields = messageToFields.get(message.name());
+            if (fields != null)
+            {
+                final Message projectedMessage = new Message(
+                    message.name(), message.fullType(), message.category());
+                projectEntries(message.entries(), fields, false, projectedMessage.entries());
+                messages.add(projectedMessage);
+            }
+        }
+
+        final Set<String> unknownMessages = new HashSet<>(messageToFields.keySet());
+        messages.forEach(message -> unknownMessages.remove(message.name()));
+        if (!unknownMessages.isEmpty())
+        {
+            throw new IllegalArgumentException("Unknown messages in projection: " + unknownMessages);
+        }
+
+        return new Dictionary(
+            messages,
+            dictionary.fields(),
+            Collections.emptyMap(),
+            dictionary.header(),
+            dictionary.trailer(),
+            dictionary.specType(),
+            dictionary.majorVersion(),
+            dictionary.minorVersion());
+    }
+
+    private static void projectEntries(
+        final List<Entry> entries, final Set<String> fields, final boolean keepAll, final List<Entry> projectedEntries)
+    {
+        for (final Entry entry : entries)
+        {
+            entry.forEach(
+                (field) ->
+                {
+                    if (keepAll || fields.contains(field.name()))
+                    {
+                        projectedEntries.add(entry);
+                    }
+                },
+                (group) ->
+                {
+                    final String numberFieldName = groupNumberFieldName(group);
+                    if (keepAll || fields.contains(numberFieldName))
+                    {
+                        final Field numberField = (Field)group.numberField().element();
+                        final Group projectedGroup = Group.of(
+                            new Field(numberField.number(), numberFieldName, Field.Type.NUMINGROUP));
+                        projectEntries(group.entries(), fields, true, projectedGroup.entries());
+                        projectedEntries.add(new Entry(entry.required(), projectedGroup));
+                    }
+                },
+                (component) -> projectEntries(
+                    component.entries(), fields, keepAll || fields.contains(component.name()), projectedEntries));
+        }
+    }
+
+    private static String groupNumberFieldName(final Group group)
+    {
+        final String name = group.numberField().name();
+        return name.endsWith(GROUP_COUNTER_SUFFIX) ?
+            name.substring(0, name.length() - GROUP_COUNTER_SUFFIX.length()) : name;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package uk.co.real_logic.artio.dictionary.generation;
 
+import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import uk.co.real_logic.artio.fields.DecimalFloat;
 
@@ -43,6 +44,40 @@ public final class CodecUtil
     private static final char ZERO = '0';
     private static final char DOT = '.';
 
+    /**
+     * Builds the table used by generated decoders to map a tag to its field ordinal. The table holds pairs of tag and
+     * ordinal, indexed by a multiplicative hash of the tag and using linear probing on collisions. Empty slots have
+     * a tag of 0 and an ordinal of -1.
+     *
+     * @param tags the tags of the fields in ordinal order.
+     * @param multiplier the odd multiplier of the hash.
+     * @param bits log2 of the number of slots in the table, there must be more slots than tags.
+     * @return the table of tag and ordinal pairs.
+     */
+    public static int[] newFieldOrdinalTable(final int[] tags, final int multiplier, final int bits)
+    {
+        final int shift = Integer.SIZE - bits;
+        final int mask = (2 << bits) - 1;
+        final int[] table = new int[2 << bits];
+        for (int i = 1; i < table.length; i += 2)
+        {
+            table[i] = -1;
+        }
+
+        for (int ordinal = 0; ordinal < tags.length; ordinal++)
+        {
+            int slot = ((tags[ordinal] * multiplier) >>> shift) << 1;
+            while (table[slot] != 0)
+            {
+                slot = (slot + 2) & mask;
+            }
+            table[slot] = tags[ordinal];
+            table[slot + 1] = ordinal;
+        }
+
+        return table;
+    }
+
     // NB: only valid for ASCII bytes.
     @Deprecated // Will be removed in a future version
     public static byte[] toBytes(final CharSequence value, final byte[] oldBuffer)
@@ -137,6 +172,28 @@ public final class CodecUtil
         }
     }
 
+    public static void copyInto(
+        final MutableDirectBuffer buffer, final DirectBuffer value, final int offset, final int length)
+    {
+        if (buffer.capacity() < length)
+        {
+            buffer.wrap(new byte[length]);
+        }
+
+        buffer.putBytes(0, value, offset, length);
+    }
+
+    public static void copyInto(
+        final MutableDirectBuffer buffer, final byte[] value, final int offset, final int length)
+    {
+        if (buffer.capacity() < length)
+        {
+            buffer.wrap(new byte[length]);
+        }
+
+        buffer.putBytes(0, value, offset, length);
+    }
+
     public static boolean equals(
         final char[] value,
         final char[] expected,
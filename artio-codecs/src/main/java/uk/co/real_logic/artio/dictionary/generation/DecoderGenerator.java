@@ -34,6 +34,7 @@ import java.util.stream.Stream;
 import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static uk.co.real_logic.artio.dictionary.generation.AggregateType.*;
 import static uk.co.real_logic.artio.dictionary.generation.ConstantGenerator.sizeHashSet;
 import static uk.co.real_logic.artio.dictionary.generation.EncoderGenerator.encoderClassName;
@@ -64,6 +65,8 @@ public class DecoderGenerator extends Generator
         "UserRequestDecoder"));
 
     public static final String REQUIRED_FIELDS = "REQUIRED_FIELDS";
+    private static final int GOLDEN_RATIO_MULTIPLIER = 0x9E3779B9;
+    private static final int PERFECT_HASH_ATTEMPTS = 1_000;
     private static final String GROUP_FIELDS = "GROUP_FIELDS";
     private static final String ALL_GROUP_FIELDS = "ALL_GROUP_FIELDS";
 
@@ -106,6 +109,7 @@ public class DecoderGenerator extends Generator
     }
 
     private Aggregate currentAggregate = null;
+    private Map<String, Integer> currentFieldOrdinals = Collections.emptyMap();
 
     private final int initialBufferSize;
     private final String encoderPackage;
@@ -240,7 +244,8 @@ public class DecoderGenerator extends Generator
             interfaces.add(SessionHeaderDecoder.class.getSimpleName());
         }
 
-        out.append(classDeclaration(className, interfaces, false));
+        // Nested group classes are static so that, like messages, they can hold static field ordinal tables
+        out.append(classDeclaration(className, interfaces, isGroup));
         generateValidation(out, aggregate, type);
         if (isMessage)
         {
@@ -338,23 +343,25 @@ public class DecoderGenerator extends Generator
         return formatPropertyName(iteratorClassName(group));
     }
 
-    protected String resetRequiredFloat(final String name)
+    protected String resetRequiredFloat(final String name, final String beforeReset)
     {
         final String lengthReset = flyweightsEnabled ? "        %1$sLength = 0;\n" : "";
 
         return String.format(
             "    public void %2$s()\n" +
             "    {\n" +
+            "%3$s" +
             lengthReset +
             "        %1$s.reset();\n" +
             "    }\n\n",
             formatPropertyName(name),
-            nameOfResetMethod(name));
+            nameOfResetMethod(name),
+            beforeReset);
     }
 
-    protected String resetRequiredInt(final Field field)
+    protected String resetRequiredInt(final Field field, final String beforeReset)
     {
-        return resetFieldValue(field, "MISSING_INT");
+        return resetFieldValue(field, "MISSING_INT", beforeReset);
     }
 
     private String additionalReset(final boolean isGroup)
@@ -365,9 +372,10 @@ public class DecoderGenerator extends Generator
             "        {\n" +
             "            invalidTagId = Decoder.NO_ERROR;\n" +
             "            rejectReason = Decoder.NO_ERROR;\n" +
-            "            missingRequiredFields.clear();\n" +
+            "            Arrays.fill(missingRequiredFieldBits, 0L);\n" +
             (isGroup ? "" :
                 "            unknownFields.clear();\n" +
+                "            Arrays.fill(visitedFieldBits, 0L);\n" +
                 "            alreadyVisitedFields.clear();\n") +
             "        }\n";
     }
@@ -377,6 +385,7 @@ public class DecoderGenerator extends Generator
     {
         final List<Field> requiredFields = requiredFields(aggregate.entries()).collect(toList());
         out.append(generateFieldDictionary(requiredFields, REQUIRED_FIELDS, true));
+        out.append(generateFieldOrdinals(aggregate, requiredFields, type));
 
         if (aggregate.containsGroup())
         {
@@ -427,9 +436,8 @@ public class DecoderGenerator extends Generator
 
         out.append(String.format(
             (isGroup ? generateAllGroupFields(aggregate) :
-            "    private final IntHashSet alreadyVisitedFields = new IntHashSet(%5$d);\n\n" +
+            "    private final IntHashSet alreadyVisitedFields = new IntHashSet(%1$d);\n\n" +
             "    private final IntHashSet unknownFields = new IntHashSet(10);\n\n") +
-            "    private final IntHashSet missingRequiredFields = new IntHashSet(%1$d);\n\n" +
             "    private int invalidTagId = Decoder.NO_ERROR;\n\n" +
             "    public int invalidTagId()\n" +
             "    {\n" +
@@ -447,24 +455,195 @@ public class DecoderGenerator extends Generator
             "        {\n" +
             "            return false;\n" +
             "        }\n" +
-            "        final IntIterator missingFieldsIterator = missingRequiredFields.iterator();\n" +
             (isMessage ? "        final IntIterator unknownFieldsIterator = unknownFields.iterator();\n" : "") +
             "%2$s" +
-            "        if (missingFieldsIterator.hasNext())\n" +
+            "        for (int i = 0; i < missingRequiredFieldBits.length; i++)\n" +
             "        {\n" +
-            "            invalidTagId = missingFieldsIterator.nextValue();\n" +
-            "            rejectReason = " + REQUIRED_TAG_MISSING + ";\n" +
-            "            return false;\n" +
+            "            final long missingBits = missingRequiredFieldBits[i];\n" +
+            "            if (missingBits != 0)\n" +
+            "            {\n" +
+            "                invalidTagId = FIELD_ORDINAL_TAGS[(i << 6) + Long.numberOfTrailingZeros(missingBits)];\n" +
+            "                rejectReason = " + REQUIRED_TAG_MISSING + ";\n" +
+            "                return false;\n" +
+            "            }\n" +
             "        }\n" +
             "%3$s" +
             "%4$s" +
             "        return true;\n" +
             "    }\n\n",
-            sizeHashSet(requiredFields),
+            // Only tags without a field ordinal, ie unknown tags, end up in alreadyVisitedFields
+            10,
             messageValidation,
             enumValidation,
-            groupValidation,
-            2 * aggregate.allFieldsIncludingComponents().count()));
+            groupValidation));
+    }
+
+    // Each field that the decode method has a case for gets a dense ordinal, so that the fields seen and the
+    // required fields still missing can be tracked in long bitmasks rather than hash sets.
+    private String generateFieldOrdinals(
+        final Aggregate aggregate, final List<Field> requiredFields, final AggregateType type)
+    {
+        final List<Field> fields = decodedFields(aggregate.entries());
+        final int bitsetLength = (fields.size() + 63) >> 6;
+        final long[] requiredFieldBits = new long[bitsetLength];
+        final Set<String> requiredFieldNames = requiredFields
+            .stream()
+            .map(Field::name)
+            .collect(toSet());
+
+        final StringJoiner fieldOrdinalTags = new StringJoiner(", ");
+        for (int ordinal = 0; ordinal < fields.size(); ordinal++)
+        {
+            final String constantName = constantName(fields.get(ordinal).name());
+            fieldOrdinalTags.add("Constants." + constantName);
+
+            if (requiredFieldNames.contains(fields.get(ordinal).name()))
+            {
+                requiredFieldBits[ordinal >> 6] |= 1L << ordinal;
+            }
+        }
+
+        final String requiredFieldBitValues = Arrays
+            .stream(requiredFieldBits)
+            .mapToObj(bits -> String.format("0x%xL", bits))
+            .collect(joining(", "));
+
+        return String.format(
+            "    private static final int NO_FIELD_ORDINAL = -1;\n\n" +
+            "    private static final int[] FIELD_ORDINAL_TAGS = { %1$s };\n\n" +
+            "    private static final long[] REQUIRED_FIELD_BITS = { %2$s };\n\n" +
+            "    private final long[] missingRequiredFieldBits = new long[%3$d];\n\n" +
+            "    private final long[] visitedFieldBits = new long[%3$d];\n\n" +
+            "%4$s" +
+            "    private boolean markVisited(final int fieldOrdinal, final int tag)\n" +
+            "    {\n" +
+            "        if (fieldOrdinal == NO_FIELD_ORDINAL)\n" +
+            "        {\n" +
+            "            return %5$s.add(tag);\n" +
+            "        }\n" +
+            "        final int index = fieldOrdinal >> 6;\n" +
+            "        final long bit = 1L << fieldOrdinal;\n" +
+            "        final long visitedBits = visitedFieldBits[index];\n" +
+            "        visitedFieldBits[index] = visitedBits | bit;\n" +
+            "        return (visitedBits & bit) == 0;\n" +
+            "    }\n\n",
+            fieldOrdinalTags,
+            requiredFieldBitValues,
+            bitsetLength,
+            fieldOrdinalMethod(fields),
+            type == GROUP ? "seenFields" : "alreadyVisitedFields");
+    }
+
+    // Maps tags to ordinals with a multiplicative hash into a power of two sized table of tag and ordinal pairs.
+    // A perfect hash is used if one can be found, otherwise lookups probe linearly in a table that is at most half
+    // full.
+    private String fieldOrdinalMethod(final List<Field> fields)
+    {
+        final int[] tags = fields.stream().mapToInt(Field::number).toArray();
+        final int minimumBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, tags.length - 1)));
+        for (int bits = minimumBits; bits <= minimumBits + 1; bits++)
+        {
+            final int shift = Integer.SIZE - bits;
+            final int multiplier = findPerfectHashMultiplier(tags, bits, shift);
+            if (multiplier != 0)
+            {
+                return String.format(
+                    "    // Pairs of tag and field ordinal, indexed by a perfect hash of the tag\n" +
+                    "    private static final int[] FIELD_ORDINAL_TABLE =\n" +
+                    "        newFieldOrdinalTable(FIELD_ORDINAL_TAGS, 0x%1$x, %2$d);\n\n" +
+                    "    private int fieldOrdinal(final int tag)\n" +
+                    "    {\n" +
+                    "        final int slot = ((tag * 0x%1$x) >>> %3$d) << 1;\n" +
+                    "        return FIELD_ORDINAL_TABLE[slot] == tag ?\n" +
+                    "            FIELD_ORDINAL_TABLE[slot + 1] : NO_FIELD_ORDINAL;\n" +
+                    "    }\n\n",
+                    multiplier,
+                    bits,
+                    shift);
+            }
+        }
+
+        final int bits = minimumBits + 1;
+        final int shift = Integer.SIZE - bits;
+        return String.format(
+            "    // Pairs of tag and field ordinal, indexed by a hash of the tag with linear probing\n" +
+            "    private static final int[] FIELD_ORDINAL_TABLE =\n" +
+            "        newFieldOrdinalTable(FIELD_ORDINAL_TAGS, 0x%1$x, %2$d);\n\n" +
+            "    private int fieldOrdinal(final int tag)\n" +
+            "    {\n" +
+            "        int slot = ((tag * 0x%1$x) >>> %3$d) << 1;\n" +
+            "        int slotTag;\n" +
+            "        while ((slotTag = FIELD_ORDINAL_TABLE[slot]) != tag)\n" +
+            "        {\n" +
+            "            if (slotTag == 0)\n" +
+            "            {\n" +
+            "                return NO_FIELD_ORDINAL;\n" +
+            "            }\n" +
+            "            slot = (slot + 2) & %4$d;\n" +
+            "        }\n" +
+            "        return FIELD_ORDINAL_TABLE[slot + 1];\n" +
+            "    }\n\n",
+            GOLDEN_RATIO_MULTIPLIER,
+            bits,
+            shift,
+            (2 << bits) - 1);
+    }
+
+    private static int findPerfectHashMultiplier(final int[] tags, final int bits, final int shift)
+    {
+        final boolean[] usedSlots = new boolean[1 << bits];
+        for (int attempt = 1; attempt <= PERFECT_HASH_ATTEMPTS; attempt++)
+        {
+            final int multiplier = (GOLDEN_RATIO_MULTIPLIER * attempt) | 1;
+            Arrays.fill(usedSlots, false);
+            boolean collision = false;
+            for (final int tag : tags)
+            {
+                final int slot = (tag * multiplier) >>> shift;
+                if (usedSlots[slot])
+                {
+                    collision = true;
+                    break;
+                }
+                usedSlots[slot] = true;
+            }
+
+            if (!collision)
+            {
+                return multiplier;
+            }
+        }
+
+        return 0;
+    }
+
+    private List<Field> decodedFields(final List<Entry> entries)
+    {
+        final Map<String, Field> nameToField = new LinkedHashMap<>();
+        entries
+            .stream()
+            .flatMap(this::extractDecodedFields)
+            .forEach(field -> nameToField.putIfAbsent(field.name(), field));
+        return new ArrayList<>(nameToField.values());
+    }
+
+    private Map<String, Integer> fieldOrdinals(final Aggregate aggregate)
+    {
+        final Map<String, Integer> fieldOrdinals = new HashMap<>();
+        final List<Field> fields = decodedFields(aggregate.entries());
+        for (int ordinal = 0; ordinal < fields.size(); ordinal++)
+        {
+            fieldOrdinals.put(fields.get(ordinal).name(), ordinal);
+        }
+        return fieldOrdinals;
+    }
+
+    private Stream<Field> extractDecodedFields(final Entry entry)
+    {
+        return entry.match(
+            (e, field) -> Stream.of(field),
+            (e, group) -> Stream.of((Field)group.numberField().element()),
+            (e, component) -> component.entries().stream().flatMap(this::extractDecodedFields));
     }
 
     private String generateAllGroupFields(final Aggregate groupAggregate)
@@ -1054,6 +1233,8 @@ public class DecoderGenerator extends Generator
         ) : field.type().isMultiValue() ? enumStringBasedWrapperField : "";
 
         final String lazyInitialisation = fieldLazyInstantialisation(field, fieldName);
+        final String lazyDecodedField = flyweightsEnabled && hasLazyDecode(type) ?
+            String.format("    private boolean %1$sDecoded;\n\n", fieldName) : "";
 
         return String.format(
             "    private %1$s %2$s%3$s;\n\n" +
@@ -1070,7 +1251,7 @@ public class DecoderGenerator extends Generator
             javaTypeOf(type),
             fieldName,
             fieldInitialisation(type),
-            hasField(entry),
+            lazyDecodedField + hasField(entry),
             optionalCheck,
             optionalGetter(entry),
             offsetField,
@@ -1144,9 +1325,10 @@ public class DecoderGenerator extends Generator
                 }
                 final String associatedFieldName = formatPropertyName(associatedLengthField.name());
                 return String.format(
-                    "        if (buffer != null && %2$s > 0)\n" +
+                    "        if (!%1$sDecoded && buffer != null && %2$s > 0)\n" +
                     "        {\n" +
                     "            %1$s = buffer.getBytes(%1$s, %1$sOffset, %2$s);\n" +
+                    "            %1$sDecoded = true;\n" +
                     "        }\n",
                     fieldName,
                     associatedFieldName);
@@ -1168,9 +1350,10 @@ public class DecoderGenerator extends Generator
         }
 
         return String.format(
-            "        if (buffer != null && %1$sLength > 0)\n" +
+            "        if (!%1$sDecoded && buffer != null && %1$sLength > 0)\n" +
             "        {\n" +
             "            %1$s = %2$s;\n" +
+            "            %1$sDecoded = true;\n" +
             "        }\n",
             fieldName,
             decodeMethod);
@@ -1326,14 +1509,19 @@ public class DecoderGenerator extends Generator
             "        int seenFieldCount = 0;\n" +
             "        if (" + CODEC_VALIDATION_ENABLED + ")\n" +
             "        {\n" +
-            "            missingRequiredFields.copy(" + REQUIRED_FIELDS + ");\n" +
-            (isGroup ? "" : "            alreadyVisitedFields.clear();\n") +
+            "            System.arraycopy(\n" +
+            "                REQUIRED_FIELD_BITS, 0, missingRequiredFieldBits, 0, REQUIRED_FIELD_BITS.length);\n" +
+            (isGroup ? "" :
+            "            Arrays.fill(visitedFieldBits, 0L);\n" +
+            "            alreadyVisitedFields.clear();\n") +
             "        }\n" +
             "        this.buffer = buffer;\n" +
             "        final int end = offset + length;\n" +
             "        int position = offset;\n" +
             (hasCommonCompounds ? "        position += header.decode(buffer, position, length);\n" : "") +
-            (isGroup ? "        seenFields.clear();\n" : "") +
+            (isGroup ?
+            "        Arrays.fill(visitedFieldBits, 0L);\n" +
+            "        seenFields.clear();\n" : "") +
             "        int tag;\n\n" +
             "        while (position < end)\n" +
             "        {\n" +
@@ -1343,6 +1531,7 @@ public class DecoderGenerator extends Generator
             "               return position;\n" +
             "            }\n" +
             "            tag = buffer.getInt(position, equalsPosition);\n" +
+            (isGroup ? "" : "            final int fieldOrdinal = fieldOrdinal(tag);\n") +
             endGroupCheck +
             "            final int valueOffset = equalsPosition + 1;\n" +
             "            int endOfField = buffer.scan(valueOffset, end, START_OF_HEADER);\n" +
@@ -1362,17 +1551,20 @@ public class DecoderGenerator extends Generator
             "                }\n" +
             headerValidation(isHeader) +
             (isGroup ? "" :
-            "                if (!alreadyVisitedFields.add(tag))\n" +
+            "                if (!markVisited(fieldOrdinal, tag))\n" +
             "                {\n" +
             "                    invalidTagId = tag;\n" +
             "                    rejectReason = " + TAG_APPEARS_MORE_THAN_ONCE + ";\n" +
             "                }\n") +
-
-            "                missingRequiredFields.remove(tag);\n" +
+            "                if (fieldOrdinal != NO_FIELD_ORDINAL)\n" +
+            "                {\n" +
+            "                    missingRequiredFieldBits[fieldOrdinal >> 6] &= ~(1L << fieldOrdinal);\n" +
+            "                }\n" +
             "                seenFieldCount++;\n" +
             "            }\n" +
-            "            switch (tag)\n" +
+            "            switch (fieldOrdinal)\n" +
             "            {\n\n";
+        currentFieldOrdinals = fieldOrdinals(aggregate);
         final String body = entries.stream()
             .map(this::decodeEntry)
             .collect(joining("\n", "", "\n"));
@@ -1452,7 +1644,8 @@ public class DecoderGenerator extends Generator
         if (isGroup)
         {
             endGroupCheck = String.format(
-                "            if (!seenFields.add(tag))\n" +
+                "            final int fieldOrdinal = fieldOrdinal(tag);\n" +
+                "            if (!markVisited(fieldOrdinal, tag))\n" +
                 "            {\n" +
                 "                if (next == null)\n" +
                 "                {\n" +
@@ -1578,18 +1771,20 @@ public class DecoderGenerator extends Generator
         final String fieldName = formatPropertyName(name);
 
         return String.format(
-            "            case Constants.%s:\n" +
+            "            case %s: // %s\n" +
             "%s" +
             "%s" +
             "%s" +
             "%s" +
             "%s" +
             "                break;\n",
+            currentFieldOrdinals.get(name),
             constantName(name),
             optionalAssign(entry),
             fieldDecodeMethod(field, fieldName),
             storeOffsetForVariableLengthFields(field.type(), fieldName),
-            storeLengthForVariableLengthFields(field.type(), fieldName),
+            storeLengthForVariableLengthFields(field.type(), fieldName) +
+            invalidateLazyDecode(field.type(), fieldName),
             suffix);
     }
 
@@ -1600,6 +1795,19 @@ public class DecoderGenerator extends Generator
             "";
     }
 
+    // Flyweight getters decode their value on first access after each decode() and then return the cached value
+    private static boolean hasLazyDecode(final Type type)
+    {
+        return type != Type.BOOLEAN && type != Type.CHAR;
+    }
+
+    private String invalidateLazyDecode(final Type type, final String fieldName)
+    {
+        return flyweightsEnabled && hasLazyDecode(type) ?
+            String.format("                %sDecoded = false;\n", fieldName) :
+            "";
+    }
+
     private String storeOffsetForVariableLengthFields(final Type type, final String fieldName)
     {
         return type.hasOffsetField(flyweightsEnabled) ?
@@ -1728,9 +1936,9 @@ public class DecoderGenerator extends Generator
         return !entry.required();
     }
 
-    protected String resetTemporalValue(final String name)
+    protected String resetTemporalValue(final String name, final String beforeReset)
     {
-        return resetNothing(name);
+        return resetNothing(name, beforeReset);
     }
 
     protected String resetComponents(final List<Entry> entries, final StringBuilder methods)
@@ -1742,16 +1950,18 @@ public class DecoderGenerator extends Generator
             .collect(joining());
     }
 
-    protected String resetStringBasedData(final String name)
+    protected String resetStringBasedData(final String name, final String beforeReset)
     {
         return String.format(
             "    public void %1$s()\n" +
                     "    {\n" +
+                    "%3$s" +
                     "        %2$sOffset = 0;\n" +
                     "        %2$sLength = 0;\n" +
                     "    }\n\n",
             nameOfResetMethod(name),
-            formatPropertyName(name));
+            formatPropertyName(name),
+            beforeReset);
     }
 
     protected String groupEntryAppendTo(final Group group, final String name)
@@ -1961,9 +2171,9 @@ public class DecoderGenerator extends Generator
         }
     }
 
-    protected String optionalReset(final Field field, final String name)
+    protected String optionalReset(final Field field, final String name, final String beforeReset)
     {
-        return resetByFlag(name);
+        return resetByFlag(name, beforeReset);
     }
 
     protected boolean appendToChecksHasGetter(final Entry entry, final Field field)
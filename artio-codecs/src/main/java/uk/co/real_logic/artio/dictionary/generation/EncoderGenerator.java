@@ -59,6 +59,17 @@ public class EncoderGenerator extends Generator
         "TestRequestEncoder",
         "SequenceResetEncoder"));
 
+    // Header fields that normally change from message to message, so aren't worth keeping in the header template
+    private static final Set<String> PER_MESSAGE_HEADER_FIELDS = new HashSet<>(Arrays.asList(
+        "MsgSeqNum",
+        "PossDupFlag",
+        "PossResend",
+        "SendingTime",
+        "OrigSendingTime",
+        "LastMsgSeqNumProcessed"));
+
+    private static final String INVALIDATE_HEADER_TEMPLATE = "        headerTemplateValid = false;\n";
+
     private static final String SUFFIX =
         "        buffer.putSeparator(position);\n" +
         "        position++;\n" +
@@ -289,8 +300,8 @@ public class EncoderGenerator extends Generator
         }
 
         precomputedHeaders(out, aggregate.entries());
-        generateSetters(out, className, aggregate.entries());
-        out.append(encodeMethod(aggregate.entries(), type));
+        generateSetters(out, className, aggregate.entries(), isHeader);
+        out.append(isHeader ? headerEncodeMethod(aggregate.entries()) : encodeMethod(aggregate.entries(), type));
         out.append(completeResetMethod(aggregate, isMessage, type));
         out.append(generateAppendTo(aggregate, isMessage));
         out.append("}\n");
@@ -311,7 +322,14 @@ public class EncoderGenerator extends Generator
             default:
                 additionalReset = "";
         }
-        return super.completeResetMethod(isMessage, aggregate.entries(), additionalReset);
+
+        return super.completeResetMethod(
+            isMessage, aggregate.entries(), additionalReset, (entry) -> invalidateHeaderTemplate(type, entry));
+    }
+
+    private String invalidateHeaderTemplate(final AggregateType type, final Entry entry)
+    {
+        return type == HEADER && isHeaderTemplateField(entry) ? INVALIDATE_HEADER_TEMPLATE : "";
     }
 
     private void generateGroupClass(final Group group, final Writer out) throws IOException
@@ -375,7 +393,8 @@ public class EncoderGenerator extends Generator
         }
     }
 
-    private void generateSetters(final Writer out, final String className, final List<Entry> entries)
+    private void generateSetters(
+        final Writer out, final String className, final List<Entry> entries, final boolean isHeader)
         throws IOException
     {
         final List<String> optionalFields = ENCODER_OPTIONAL_SESSION_FIELDS.get(className);
@@ -383,7 +402,14 @@ public class EncoderGenerator extends Generator
 
         for (final Entry entry : entries)
         {
-            generateSetter(className, entry, out, missingOptionalFields);
+            if (isHeader && isHeaderTemplateField(entry))
+            {
+                out.append(generateFieldSetter(className, (Field)entry.element(), missingOptionalFields, true));
+            }
+            else
+            {
+                generateSetter(className, entry, out, missingOptionalFields);
+            }
         }
 
         generateMissingOptionalSessionFields(out, className, missingOptionalFields);
@@ -485,20 +511,27 @@ public class EncoderGenerator extends Generator
         if (!isBodyLength(entry))
         {
             entry.forEach(
-                (field) -> out.append(generateFieldSetter(className, field, optionalFields)),
+                (field) -> out.append(generateFieldSetter(className, field, optionalFields, false)),
                 (group) -> generateGroup(className, group, out, optionalFields),
                 (component) -> generateComponentField(encoderClassName(entry.name()), component, out));
         }
     }
 
-    private String generateFieldSetter(final String className, final Field field, final Set<String> optionalFields)
+    // Header template fields invalidate the template whenever they may change, so they copy values into their own
+    // buffers rather than wrapping the caller's ones.
+    private String generateFieldSetter(
+        final String className,
+        final Field field,
+        final Set<String> optionalFields,
+        final boolean isHeaderTemplateField)
     {
         final String name = field.name();
         final String fieldName = formatPropertyName(name);
         final String hasField =
             String.format("    private boolean has%1$s;\n\n", name) + hasGetter(name);
 
-        final String hasAssign = String.format("        has%s = true;\n", name);
+        final String hasAssign = String.format("        has%s = true;\n", name) +
+            (isHeaderTemplateField ? INVALIDATE_HEADER_TEMPLATE : "");
 
         final String enumSetter = hasEnumGenerated(field) && !field.type().isMultiValue() ?
             enumSetter(className, fieldName, field.name()) : "";
@@ -518,7 +551,7 @@ public class EncoderGenerator extends Generator
             case EXCHANGE:
             case COUNTRY:
             case LANGUAGE:
-                return generateStringSetter(className, fieldName, name, enumSetter);
+                return generateStringSetter(className, fieldName, name, enumSetter, isHeaderTemplateField);
             case BOOLEAN:
                 return generateSetter.apply("boolean");
 
@@ -552,7 +585,7 @@ public class EncoderGenerator extends Generator
             case MONTHYEAR:
             case TZTIMEONLY:
             case TZTIMESTAMP:
-                return generateBytesSetter(className, fieldName, name);
+                return generateBytesSetter(className, fieldName, name, isHeaderTemplateField);
 
             default: throw new UnsupportedOperationException("Unknown type: " + field.type());
         }
@@ -586,17 +619,25 @@ public class EncoderGenerator extends Generator
             formatPropertyName(numberField.name())));
     }
 
-    private String generateBytesSetter(final String className, final String fieldName, final String name)
+    private String generateBytesSetter(
+        final String className, final String fieldName, final String name, final boolean isHeaderTemplateField)
     {
+        final String setValue = isHeaderTemplateField ?
+            "        copyInto(%1$s, value, offset, length);\n" +
+            "        %1$sOffset = 0;\n" :
+            "        %1$s.wrap(value);\n" +
+            "        %1$sOffset = offset;\n";
+        final String onChange = isHeaderTemplateField ? INVALIDATE_HEADER_TEMPLATE : "";
+
         return String.format(
             "    private final MutableDirectBuffer %1$s = new UnsafeBuffer();\n\n" +
             "    private int %1$sOffset = 0;\n\n" +
             "    private int %1$sLength = 0;\n\n" +
             "    public %2$s %1$s(final DirectBuffer value, final int offset, final int length)\n" +
             "    {\n" +
-            "        %1$s.wrap(value);\n" +
-            "        %1$sOffset = offset;\n" +
+            setValue +
             "        %1$sLength = length;\n" +
+            "%4$s" +
             "        return this;\n" +
             "    }\n\n" +
             "    public %2$s %1$s(final DirectBuffer value, final int length)\n" +
@@ -609,9 +650,9 @@ public class EncoderGenerator extends Generator
             "    }\n\n" +
             "    public %2$s %1$s(final byte[] value, final int offset, final int length)\n" +
             "    {\n" +
-            "        %1$s.wrap(value);\n" +
-            "        %1$sOffset = offset;\n" +
+            setValue +
             "        %1$sLength = length;\n" +
+            "%4$s" +
             "        return this;\n" +
             "    }\n\n" +
             "    public %2$s %1$s(final byte[] value, final int length)\n" +
@@ -628,6 +669,7 @@ public class EncoderGenerator extends Generator
             "    }\n\n" +
             "    public MutableDirectBuffer %1$s()\n" +
             "    {\n" +
+            "%4$s" +
             "        return %1$s;\n" +
             "    }\n\n" +
             "    public String %1$sAsString()\n" +
@@ -636,15 +678,23 @@ public class EncoderGenerator extends Generator
             "    }\n\n",
             fieldName,
             className,
-            name);
+            name,
+            onChange);
     }
 
     private String generateStringSetter(
         final String className,
         final String fieldName,
         final String name,
-        final String enumSetter)
+        final String enumSetter,
+        final boolean isHeaderTemplateField)
     {
+        final String setView = isHeaderTemplateField ?
+            "            copyInto(%1$s, buffer, value.offset(), value.length());\n" +
+            "            %1$sOffset = 0;\n" :
+            "            %1$s.wrap(buffer);\n" +
+            "            %1$sOffset = value.offset();\n";
+
         return String.format(
             "%2$s" +
             "    public %3$s %1$s(final CharSequence value)\n" +
@@ -652,6 +702,7 @@ public class EncoderGenerator extends Generator
             "        toBytes(value, %1$s);\n" +
             "        %1$sOffset = 0;\n" +
             "        %1$sLength = value.length();\n" +
+            "%5$s" +
             "        return this;\n" +
             "    }\n\n" +
             "    public %3$s %1$s(final AsciiSequenceView value)\n" +
@@ -659,10 +710,10 @@ public class EncoderGenerator extends Generator
             "        final DirectBuffer buffer = value.buffer();\n" +
             "        if (buffer != null)\n" +
             "        {\n" +
-            "            %1$s.wrap(buffer);\n" +
-            "            %1$sOffset = value.offset();\n" +
+            setView +
             "            %1$sLength = value.length();\n" +
             "        }\n" +
+            "%5$s" +
             "        return this;\n" +
             "    }\n\n" +
             "    public %3$s %1$s(final char[] value)\n" +
@@ -678,13 +729,15 @@ public class EncoderGenerator extends Generator
             "        toBytes(value, %1$s, offset, length);\n" +
             "        %1$sOffset = 0;\n" +
             "        %1$sLength = length;\n" +
+            "%5$s" +
             "        return this;\n" +
             "    }\n\n" +
             "%4$s",
             fieldName,
-            generateBytesSetter(className, fieldName, name),
+            generateBytesSetter(className, fieldName, name, isHeaderTemplateField),
             className,
-            enumSetter);
+            enumSetter,
+            isHeaderTemplateField ? INVALIDATE_HEADER_TEMPLATE : "");
     }
 
     private String generateSetter(
@@ -796,10 +849,6 @@ public class EncoderGenerator extends Generator
                 prefix = MESSAGE_ENCODE_PREFIX;
                 break;
 
-            case HEADER:
-                prefix = HEADER_ENCODE_PREFIX;
-                break;
-
             default:
                 prefix = OTHER_ENCODE_PREFIX;
                 break;
@@ -819,13 +868,6 @@ public class EncoderGenerator extends Generator
                 "        return trailer.finishMessage(buffer, messageStart, position);\n" +
                 "    }\n\n";
         }
-        else if (aggregateType == AggregateType.HEADER)
-        {
-            suffix =
-                "\n" +
-                "        return Encoder.result(position - start, start);\n" +
-                "    }\n\n";
-        }
         else if (aggregateType == AggregateType.TRAILER)
         {
             suffix =
@@ -851,6 +893,124 @@ public class EncoderGenerator extends Generator
         return prefix + body + suffix;
     }
 
+    // Consecutive header fields that are expected to stay the same between messages are encoded once and then
+    // copied from the header template until one of them is set or reset.
+    private String headerEncodeMethod(final List<Entry> entries)
+    {
+        final StringBuilder body = new StringBuilder();
+        final StringBuilder run = new StringBuilder();
+        int runCount = 0;
+        for (final Entry entry : entries)
+        {
+            if (isBodyLength(entry) || isBeginString(entry) || isCheckSum(entry))
+            {
+                continue;
+            }
+
+            if (isHeaderTemplateField(entry))
+            {
+                run.append(encodeEntry(entry));
+            }
+            else
+            {
+                runCount = appendHeaderTemplateRun(body, run, runCount);
+                body.append(encodeEntry(entry));
+            }
+        }
+        runCount = appendHeaderTemplateRun(body, run, runCount);
+
+        return headerTemplateMembers(runCount) +
+            HEADER_ENCODE_PREFIX + "\n" +
+            "        final boolean useHeaderTemplate = headerTemplateValid;\n" +
+            "        headerTemplateValid = false;\n" +
+            "\n" +
+            body +
+            "\n" +
+            "        headerTemplateValid = headerTemplateEnabled;\n" +
+            "        return Encoder.result(position - start, start);\n" +
+            "    }\n\n";
+    }
+
+    private int appendHeaderTemplateRun(final StringBuilder body, final StringBuilder run, final int runIndex)
+    {
+        if (run.length() == 0)
+        {
+            return runIndex;
+        }
+
+        body.append(String.format(
+            "        if (useHeaderTemplate)\n" +
+            "        {\n" +
+            "            position += copyHeaderTemplate(buffer, position, %1$d);\n" +
+            "        }\n" +
+            "        else\n" +
+            "        {\n" +
+            "            final int runStart = position;\n" +
+            "%2$s" +
+            "            appendHeaderTemplate(buffer, runStart, position, %1$d);\n" +
+            "        }\n",
+            runIndex,
+            run.toString().replaceAll("(?m)^(?=.)", "    ")));
+        run.setLength(0);
+
+        return runIndex + 1;
+    }
+
+    private String headerTemplateMembers(final int runCount)
+    {
+        return String.format(
+            "    private boolean headerTemplateEnabled;\n\n" +
+            "    private boolean headerTemplateValid;\n\n" +
+            "    private byte[] headerTemplate = new byte[64];\n\n" +
+            "    private final int[] headerTemplateOffsets = new int[%d];\n\n" +
+            "    public void headerTemplateEnabled(final boolean headerTemplateEnabled)\n" +
+            "    {\n" +
+            "        if (this.headerTemplateEnabled != headerTemplateEnabled)\n" +
+            "        {\n" +
+            "            this.headerTemplateEnabled = headerTemplateEnabled;\n" +
+            "            headerTemplateValid = false;\n" +
+            "        }\n" +
+            "    }\n\n" +
+            "    public boolean headerTemplateEnabled()\n" +
+            "    {\n" +
+            "        return headerTemplateEnabled;\n" +
+            "    }\n\n" +
+            "    private int copyHeaderTemplate(final MutableAsciiBuffer buffer, final int offset, final int run)\n" +
+            "    {\n" +
+            "        final int templateOffset = headerTemplateOffsets[run];\n" +
+            "        final int templateLength = headerTemplateOffsets[run + 1] - templateOffset;\n" +
+            "        buffer.putBytes(offset, headerTemplate, templateOffset, templateLength);\n" +
+            "        return templateLength;\n" +
+            "    }\n\n" +
+            "    private void appendHeaderTemplate(\n" +
+            "        final MutableAsciiBuffer buffer, final int runStart, final int runEnd, final int run)\n" +
+            "    {\n" +
+            "        final int templateOffset = headerTemplateOffsets[run];\n" +
+            "        final int templateEnd = templateOffset + runEnd - runStart;\n" +
+            "        if (templateEnd > headerTemplate.length)\n" +
+            "        {\n" +
+            "            headerTemplate = Arrays.copyOf(\n" +
+            "                headerTemplate, Math.max(templateEnd, headerTemplate.length * 2));\n" +
+            "        }\n" +
+            "        buffer.getBytes(runStart, headerTemplate, templateOffset, runEnd - runStart);\n" +
+            "        headerTemplateOffsets[run + 1] = templateEnd;\n" +
+            "    }\n\n",
+            runCount + 1);
+    }
+
+    private boolean isHeaderTemplateField(final Entry entry)
+    {
+        if (!entry.isField() || isBodyLength(entry) || isBeginString(entry) || isCheckSum(entry))
+        {
+            return false;
+        }
+
+        final Field field = (Field)entry.element();
+        final Field.Type type = field.type();
+        return !PER_MESSAGE_HEADER_FIELDS.contains(field.name()) &&
+            type != Field.Type.DATA && type != Field.Type.XMLDATA && type != Field.Type.LENGTH;
+    }
+
     private String encodeEntry(final Entry entry)
     {
         if (isBodyLength(entry) || isBeginString(entry) || isCheckSum(entry))
@@ -1095,14 +1255,14 @@ public class EncoderGenerator extends Generator
             formatPropertyName(element.name())));
     }
 
-    protected String resetRequiredFloat(final String name)
+    protected String resetRequiredFloat(final String name, final String beforeReset)
     {
-        return resetByFlag(name);
+        return resetByFlag(name, beforeReset);
     }
 
-    protected String resetRequiredInt(final Field field)
+    protected String resetRequiredInt(final Field field, final String beforeReset)
     {
-        return resetByFlag(field.name());
+        return resetByFlag(field.name(), beforeReset);
     }
 
     protected boolean hasFlag(final Entry entry, final Field field)
@@ -1112,9 +1272,9 @@ public class EncoderGenerator extends Generator
             type.isFloatBased() || type.isIntBased() || type.isCharBased();
     }
 
-    protected String resetTemporalValue(final String name)
+    protected String resetTemporalValue(final String name, final String beforeReset)
     {
-        return resetLength(name);
+        return resetLength(name, beforeReset);
     }
 
     protected String resetComponents(final List<Entry> entries, final StringBuilder methods)
@@ -1126,9 +1286,9 @@ public class EncoderGenerator extends Generator
             .collect(joining());
     }
 
-    protected String resetStringBasedData(final String name)
+    protected String resetStringBasedData(final String name, final String beforeReset)
     {
-        return resetLength(name);
+        return resetLength(name, beforeReset);
     }
 
     protected String groupEntryAppendTo(final Group group, final String name)
@@ -1163,9 +1323,9 @@ public class EncoderGenerator extends Generator
             encoderClassName(name));
     }
 
-    protected String optionalReset(final Field field, final String name)
+    protected String optionalReset(final Field field, final String name, final String beforeReset)
     {
-        return field.type().hasLengthField(false) ? resetLength(name) : resetByFlag(name);
+        return field.type().hasLengthField(false) ? resetLength(name, beforeReset) : resetByFlag(name, beforeReset);
     }
 
     protected boolean appendToChecksHasGetter(final Entry entry, final Field field)
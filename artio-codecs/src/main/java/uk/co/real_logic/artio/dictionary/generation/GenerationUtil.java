@@ -38,6 +38,7 @@ public final class GenerationUtil
     public static final String ENCODER_PACKAGE = PARENT_PACKAGE + ".builder";
     public static final String DECODER_PACKAGE = PARENT_PACKAGE + ".decoder";
     public static final String DECODER_FLYWEIGHT_PACKAGE = PARENT_PACKAGE + ".decoder_flyweight";
+    public static final String DECODER_PROJECTION_PACKAGE = PARENT_PACKAGE + ".decoder_projection";
     public static final String INDENT = "    ";
 
     private GenerationUtil()
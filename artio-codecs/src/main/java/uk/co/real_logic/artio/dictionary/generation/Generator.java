@@ -198,10 +198,28 @@ public abstract class Generator
         final boolean isMessage,
         final List<Entry> entries,
         final String additionalReset)
+    {
+        return completeResetMethod(isMessage, entries, additionalReset, (entry) -> "");
+    }
+
+    /**
+     * Generates the reset method and the reset methods of each entry.
+     *
+     * @param isMessage true if this is a message, rather than a group or component.
+     * @param entries the entries to reset.
+     * @param additionalReset code that the reset method runs after resetting the entries.
+     * @param beforeFieldReset code that each field's reset method runs before resetting the field.
+     * @return the generated reset methods.
+     */
+    protected String completeResetMethod(
+        final boolean isMessage,
+        final List<Entry> entries,
+        final String additionalReset,
+        final Function<Entry, String> beforeFieldReset)
     {
         final StringBuilder methods = new StringBuilder();
 
-        final String resetEntries = resetEntries(entries, methods);
+        final String resetEntries = resetEntries(entries, methods, beforeFieldReset);
 
         if (isMessage)
         {
@@ -239,18 +257,25 @@ public abstract class Generator
 
     protected String resetEntries(final List<Entry> entries, final StringBuilder methods)
     {
-        return resetFields(entries, methods) +
+        return resetEntries(entries, methods, (entry) -> "");
+    }
+
+    private String resetEntries(
+        final List<Entry> entries, final StringBuilder methods, final Function<Entry, String> beforeFieldReset)
+    {
+        return resetFields(entries, methods, beforeFieldReset) +
             resetComponents(entries, methods) +
             resetGroups(entries, methods);
     }
 
-    private String resetFields(final List<Entry> entries, final StringBuilder methods)
+    private String resetFields(
+        final List<Entry> entries, final StringBuilder methods, final Function<Entry, String> beforeFieldReset)
     {
         return resetAllBy(
             entries,
             methods,
             Entry::isField,
-            (entry) -> resetField(entry.required(), (Field)entry.element()),
+            (entry) -> resetField(entry.required(), (Field)entry.element(), beforeFieldReset.apply(entry)),
             this::callResetMethod);
     }
 
@@ -286,7 +311,7 @@ public abstract class Generator
 
     protected abstract String resetGroup(Entry entry);
 
-    private String resetField(final boolean isRequired, final Field field)
+    private String resetField(final boolean isRequired, final Field field, final String beforeReset)
     {
         final String name = field.name();
 
@@ -297,7 +322,7 @@ public abstract class Generator
 
         if (!isRequired)
         {
-            return optionalReset(field, name);
+            return optionalReset(field, name, beforeReset);
         }
 
         switch (field.type())
@@ -307,7 +332,7 @@ public abstract class Generator
             case SEQNUM:
             case NUMINGROUP:
             case DAYOFMONTH:
-                return resetRequiredInt(field);
+                return resetRequiredInt(field, beforeReset);
 
             case FLOAT:
             case PRICE:
@@ -315,17 +340,17 @@ public abstract class Generator
             case QTY:
             case PERCENTAGE:
             case AMT:
-                return resetRequiredFloat(name);
+                return resetRequiredFloat(name, beforeReset);
 
             case CHAR:
-                return resetFieldValue(field, "MISSING_CHAR");
+                return resetFieldValue(field, "MISSING_CHAR", beforeReset);
 
             case DATA:
             case XMLDATA:
-                return resetFieldValue(field, "null");
+                return resetFieldValue(field, "null", beforeReset);
 
             case BOOLEAN:
-                return resetFieldValue(field, "false");
+                return resetFieldValue(field, "false", beforeReset);
 
             case STRING:
             case MULTIPLEVALUESTRING:
@@ -335,7 +360,7 @@ public abstract class Generator
             case EXCHANGE:
             case COUNTRY:
             case LANGUAGE:
-                return resetStringBasedData(name);
+                return resetStringBasedData(name, beforeReset);
 
             case UTCTIMESTAMP:
             case LOCALMKTDATE:
@@ -344,22 +369,22 @@ public abstract class Generator
             case MONTHYEAR:
             case TZTIMEONLY:
             case TZTIMESTAMP:
-                return resetTemporalValue(name);
+                return resetTemporalValue(name, beforeReset);
 
             default:
                 throw new IllegalArgumentException("Unknown type: " + field.type());
         }
     }
 
-    protected abstract String resetRequiredInt(Field field);
+    protected abstract String resetRequiredInt(Field field, String beforeReset);
 
-    protected abstract String optionalReset(Field field, String name);
+    protected abstract String optionalReset(Field field, String name, String beforeReset);
 
-    protected abstract String resetTemporalValue(String name);
+    protected abstract String resetTemporalValue(String name, String beforeReset);
 
     protected abstract String resetComponents(List<Entry> entries, StringBuilder methods);
 
-    protected abstract String resetStringBasedData(String name);
+    protected abstract String resetStringBasedData(String name, String beforeReset);
 
     protected String nameOfResetMethod(final String name)
     {
@@ -393,13 +418,15 @@ public abstract class Generator
             String.format("    private boolean has%1$s;\n\n", name);
     }
 
-    protected String resetNothing(final String name)
+    protected String resetNothing(final String name, final String beforeReset)
     {
         return String.format(
             "    public void %1$s()\n" +
             "    {\n" +
+            "%2$s" +
             "    }\n\n",
-            nameOfResetMethod(name));
+            nameOfResetMethod(name),
+            beforeReset);
     }
 
     private boolean isNotResettableField(final String name)
@@ -417,31 +444,35 @@ public abstract class Generator
         return isBodyLength(name) || isCheckSum(name);
     }
 
-    protected abstract String resetRequiredFloat(String name);
+    protected abstract String resetRequiredFloat(String name, String beforeReset);
 
-    protected String resetLength(final String name)
+    protected String resetLength(final String name, final String beforeReset)
     {
         return String.format(
             "    public void %1$s()\n" +
             "    {\n" +
+            "%3$s" +
             "        %2$sLength = 0;\n" +
             "    }\n\n",
             nameOfResetMethod(name),
-            formatPropertyName(name));
+            formatPropertyName(name),
+            beforeReset);
     }
 
-    protected String resetByFlag(final String name)
+    protected String resetByFlag(final String name, final String beforeReset)
     {
         return String.format(
             "    public void %2$s()\n" +
             "    {\n" +
+            "%3$s" +
             "        has%1$s = false;\n" +
             "    }\n\n",
             name,
-            nameOfResetMethod(name));
+            nameOfResetMethod(name),
+            beforeReset);
     }
 
-    protected String resetFieldValue(final Field field, final String resetValue)
+    protected String resetFieldValue(final Field field, final String resetValue, final String beforeReset)
     {
         final String name = field.name();
         final boolean hasLengthField = field.type().hasLengthField(flyweightsEnabled);
@@ -450,12 +481,14 @@ public abstract class Generator
         return String.format(
             "    public void %1$s()\n" +
             "    {\n" +
+            "%4$s" +
             lengthReset +
             "        %2$s = %3$s;\n" +
             "    }\n\n",
             nameOfResetMethod(name),
             formatPropertyName(name),
-            resetValue);
+            resetValue,
+            beforeReset);
     }
 
     protected String generateAppendTo(final Aggregate aggregate, final boolean hasCommonCompounds)
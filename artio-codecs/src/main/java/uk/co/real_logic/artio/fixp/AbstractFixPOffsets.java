@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.fixp;
+
+import org.agrona.DirectBuffer;
+
+/**
+ * Offsets of the session level fields within the messages of a binary FIXP protocol, keyed by template id.
+ */
+public abstract class AbstractFixPOffsets
+{
+    public static final int MISSING_OFFSET = -1;
+
+    public abstract int seqNumOffset(int templateId);
+
+    public abstract int seqNum(int templateId, DirectBuffer buffer, int messageOffset);
+
+    public abstract int possRetransOffset(int templateId);
+
+    public abstract int possRetrans(int templateId, DirectBuffer buffer, int messageOffset);
+
+    public abstract int sendingTimeEpochOffset(int templateId);
+}
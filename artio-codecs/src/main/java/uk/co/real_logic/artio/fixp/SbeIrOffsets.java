@@ -0,0 +1,215 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.fixp;
+
+import org.agrona.DirectBuffer;
+import org.agrona.LangUtil;
+import org.agrona.collections.Int2IntHashMap;
+import uk.co.real_logic.sbe.PrimitiveType;
+import uk.co.real_logic.sbe.ir.Encoding;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.ir.IrDecoder;
+import uk.co.real_logic.sbe.ir.Signal;
+import uk.co.real_logic.sbe.ir.Token;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumSet;
+import java.util.List;
+
+import static uk.co.real_logic.sbe.PrimitiveType.*;
+
+/**
+ * Finds the offsets of the sequence number, possible retransmission and sending time fields of each message in an
+ * SBE schema from its intermediate representation. This lets binary FIXP protocols reuse the same offset extraction
+ * by supplying their own IR and field ids.
+ *
+ * The first field with a given id in each message is found, including those within repeating groups. The sequence
+ * number and possible retransmission fields are read according to their encoding, which must be the same integer
+ * type of at most 4 bytes in every message, and the sending time must be an 8 byte integer. Schemas that don't match
+ * this are rejected.
+ */
+public class SbeIrOffsets extends AbstractFixPOffsets
+{
+    private static final EnumSet<PrimitiveType> INT_TYPES = EnumSet.of(INT8, UINT8, INT16, UINT16, INT32, UINT32);
+    private static final EnumSet<PrimitiveType> TIMESTAMP_TYPES = EnumSet.of(INT64, UINT64);
+
+    private final Int2IntHashMap templateIdToSeqNumOffset = new Int2IntHashMap(MISSING_OFFSET);
+    private final Int2IntHashMap templateIdToPossRetransOffset = new Int2IntHashMap(MISSING_OFFSET);
+    private final Int2IntHashMap templateIdToSendingTimeEpochOffset = new Int2IntHashMap(MISSING_OFFSET);
+    private final PrimitiveType seqNumType;
+    private final PrimitiveType possRetransType;
+    private final ByteOrder byteOrder;
+
+    public SbeIrOffsets(final Ir ir, final int seqNumId, final int possRetransId, final int sendingTimeEpochId)
+    {
+        byteOrder = ir.byteOrder();
+
+        PrimitiveType seqNumType = null;
+        PrimitiveType possRetransType = null;
+        for (final List<Token> messageTokens : ir.messages())
+        {
+            final Token beginMessage = messageTokens.get(0);
+            final int templateId = beginMessage.id();
+            seqNumType = sameType(seqNumId, seqNumType, findOffset(
+                messageTokens, templateId, seqNumId, INT_TYPES, templateIdToSeqNumOffset));
+            possRetransType = sameType(possRetransId, possRetransType, findOffset(
+                messageTokens, templateId, possRetransId, INT_TYPES, templateIdToPossRetransOffset));
+            findOffset(
+                messageTokens, templateId, sendingTimeEpochId, TIMESTAMP_TYPES, templateIdToSendingTimeEpochOffset);
+        }
+
+        this.seqNumType = seqNumType;
+        this.possRetransType = possRetransType;
+    }
+
+    public static Ir loadSbeIr(final Class<?> resourceClass, final String irFile)
+    {
+        try
+        {
+            final InputStream stream = resourceClass.getResourceAsStream(irFile);
+            final int length = stream.available();
+            final byte[] bytes = new byte[length];
+            int remaining = length;
+            while (remaining > 0)
+            {
+                remaining -= stream.read(bytes, length - remaining, remaining);
+            }
+            try (IrDecoder irDecoder = new IrDecoder(ByteBuffer.wrap(bytes)))
+            {
+                return irDecoder.decode();
+            }
+        }
+        catch (final Exception e)
+        {
+            LangUtil.rethrowUnchecked(e);
+            return null;
+        }
+    }
+
+    private static PrimitiveType sameType(final int fieldId, final PrimitiveType type, final PrimitiveType newType)
+    {
+        if (type != null && newType != null && type != newType)
+        {
+            throw new IllegalArgumentException(String.format(
+                "Field %d must be encoded on the wire as the same type in every message, but is both %s and %s",
+                fieldId,
+                type,
+                newType));
+        }
+
+        return newType == null ? type : newType;
+    }
+
+    // Returns the field's type, or null if the message doesn't contain it
+    private static PrimitiveType findOffset(
+        final List<Token> messageTokens,
+        final int templateId,
+        final int fieldId,
+        final EnumSet<PrimitiveType> supportedTypes,
+        final Int2IntHashMap templateIdToFieldOffset)
+    {
+        final int size = messageTokens.size();
+        for (int i = 1; i < size; i++)
+        {
+            final Token token = messageTokens.get(i);
+            if (token.signal() == Signal.BEGIN_FIELD && token.id() == fieldId)
+            {
+                final Token typeToken = messageTokens.get(i + 1);
+                final Signal typeSignal = typeToken.signal();
+                final Encoding encoding = typeToken.encoding();
+                final PrimitiveType type = encoding.primitiveType();
+                final boolean isPrimitive = typeSignal == Signal.ENCODING || typeSignal == Signal.BEGIN_ENUM;
+                final boolean isConstant = encoding.presence() == Encoding.Presence.CONSTANT;
+                if (!isPrimitive || isConstant || !supportedTypes.contains(type))
+                {
+                    throw new IllegalArgumentException(String.format(
+                        "Field %s (%d) of template %d must be encoded on the wire as one of %s, but is %s",
+                        token.name(),
+                        fieldId,
+                        templateId,
+                        supportedTypes,
+                        !isPrimitive ? typeSignal : isConstant ? "a constant" : type));
+                }
+
+                templateIdToFieldOffset.put(templateId, token.offset());
+                return type;
+            }
+        }
+
+        return null;
+    }
+
+    public int seqNumOffset(final int templateId)
+    {
+        return templateIdToSeqNumOffset.get(templateId);
+    }
+
+    public int possRetransOffset(final int templateId)
+    {
+        return templateIdToPossRetransOffset.get(templateId);
+    }
+
+    public int sendingTimeEpochOffset(final int templateId)
+    {
+        return templateIdToSendingTimeEpochOffset.get(templateId);
+    }
+
+    public int seqNum(final int templateId, final DirectBuffer buffer, final int messageOffset)
+    {
+        final int seqNumOffset = seqNumOffset(templateId);
+        if (seqNumOffset == MISSING_OFFSET)
+        {
+            return MISSING_OFFSET;
+        }
+
+        return getInt(seqNumType, buffer, messageOffset + seqNumOffset);
+    }
+
+    public int possRetrans(final int templateId, final DirectBuffer buffer, final int messageOffset)
+    {
+        final int possRetransOffset = possRetransOffset(templateId);
+        if (possRetransOffset == MISSING_OFFSET)
+        {
+            return MISSING_OFFSET;
+        }
+
+        return getInt(possRetransType, buffer, messageOffset + possRetransOffset);
+    }
+
+    private int getInt(final PrimitiveType type, final DirectBuffer buffer, final int offset)
+    {
+        switch (type)
+        {
+            case INT8:
+                return buffer.getByte(offset);
+
+            case UINT8:
+                return buffer.getByte(offset) & 0xFF;
+
+            case INT16:
+                return buffer.getShort(offset, byteOrder);
+
+            case UINT16:
+                return buffer.getShort(offset, byteOrder) & 0xFFFF;
+
+            default:
+                // INT32 or UINT32, uint32 values above Integer.MAX_VALUE are returned as negative ints.
+                return buffer.getInt(offset, byteOrder);
+        }
+    }
+}
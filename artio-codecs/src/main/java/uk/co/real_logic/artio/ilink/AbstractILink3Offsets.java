@@ -15,15 +15,15 @@
  */
 package uk.co.real_logic.artio.ilink;
 
-import org.agrona.DirectBuffer;
 import org.agrona.ErrorHandler;
+import org.agrona.LangUtil;
+import uk.co.real_logic.artio.fixp.SbeIrOffsets;
+import uk.co.real_logic.sbe.ir.Ir;
 
 import java.lang.reflect.InvocationTargetException;
 
-public abstract class AbstractILink3Offsets
+public abstract class AbstractILink3Offsets extends SbeIrOffsets
 {
-    public static final int MISSING_OFFSET = -1;
-
     public static AbstractILink3Offsets make(final ErrorHandler errorHandler)
     {
         try
@@ -31,21 +31,23 @@ public abstract class AbstractILink3Offsets
             final Class<?> cls = Class.forName("uk.co.real_logic.artio.ilink.ILink3Offsets");
             return (AbstractILink3Offsets)cls.getConstructor().newInstance();
         }
+        catch (final InvocationTargetException e)
+        {
+            // The iLink3 implementation is on the classpath but its schema couldn't be loaded.
+            LangUtil.rethrowUnchecked(e.getCause());
+            return null;
+        }
         catch (final ClassNotFoundException | NoSuchMethodException | InstantiationException |
-            IllegalAccessException | InvocationTargetException e)
+            IllegalAccessException e)
         {
             errorHandler.onError(e);
             return null;
         }
     }
 
-    public abstract int seqNumOffset(int templateId);
-
-    public abstract int seqNum(int templateId, DirectBuffer buffer, int messageOffset);
-
-    public abstract int possRetransOffset(int templateId);
-
-    public abstract int possRetrans(int templateId, DirectBuffer buffer, int messageOffset);
-
-    public abstract int sendingTimeEpochOffset(int templateId);
+    protected AbstractILink3Offsets(
+        final Ir ir, final int seqNumId, final int possRetransId, final int sendingTimeEpochId)
+    {
+        super(ir, seqNumId, possRetransId, sendingTimeEpochId);
+    }
 }
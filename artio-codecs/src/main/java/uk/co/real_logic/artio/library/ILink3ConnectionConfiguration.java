@@ -36,6 +36,8 @@ public final class ILink3ConnectionConfiguration
     public static final int DEFAULT_REQUESTED_KEEP_ALIVE_INTERVAL = 10_000;
     public static final int KEEP_ALIVE_INTERVAL_MAX_VALUE = 65534;
     public static final long AUTOMATIC_INITIAL_SEQUENCE_NUMBER = -1L;
+    public static final int DEFAULT_RETRANSMIT_REQUESTS_IN_FLIGHT = 1;
+    public static final int DEFAULT_MAX_BUFFERED_MESSAGES_LENGTH = 4 * 1024 * 1024;
 
     public static final String HOST_PROP_NAME = "host";
     public static final String PORT_PROP_NAME = "port";
@@ -49,6 +51,9 @@ public final class ILink3ConnectionConfiguration
     public static final String INITIAL_SENT_SEQUENCE_NUMBER_PROP_NAME = "initialSentSequenceNumber";
     public static final String INITIAL_RECEIVED_SEQUENCE_NUMBER_PROP_NAME = "initialReceivedSequenceNumber";
     public static final String RE_ESTABLISH_LAST_SESSION_PROP_NAME = "re_establish_last_session";
+    public static final String RETRANSMIT_REQUESTS_IN_FLIGHT_PROP_NAME = "retransmitRequestsInFlight";
+    public static final String BUFFER_MESSAGES_DURING_RETRANSMIT_PROP_NAME = "bufferMessagesDuringRetransmit";
+    public static final String MAX_BUFFERED_MESSAGES_LENGTH_PROP_NAME = "maxBufferedMessagesLength";
 
     private final String host;
     private final int port;
@@ -66,6 +71,9 @@ public final class ILink3ConnectionConfiguration
     private final ILink3ConnectionHandler handler;
     private final boolean useBackupHost;
     private final String backupHost;
+    private final int retransmitRequestsInFlight;
+    private final boolean bufferMessagesDuringRetransmit;
+    private final int maxBufferedMessagesLength;
 
     /**
      * Load the ILink3SessionConfiguration from a properties file.
@@ -92,6 +100,12 @@ public final class ILink3ConnectionConfiguration
             INITIAL_RECEIVED_SEQUENCE_NUMBER_PROP_NAME);
         getIfPresent(properties, v -> builder.reEstablishLastConnection(parseBoolean(v)),
             RE_ESTABLISH_LAST_SESSION_PROP_NAME);
+        getIfPresent(properties, v -> builder.retransmitRequestsInFlight(parseInt(v)),
+            RETRANSMIT_REQUESTS_IN_FLIGHT_PROP_NAME);
+        getIfPresent(properties, v -> builder.bufferMessagesDuringRetransmit(parseBoolean(v)),
+            BUFFER_MESSAGES_DURING_RETRANSMIT_PROP_NAME);
+        getIfPresent(properties, v -> builder.maxBufferedMessagesLength(parseInt(v)),
+            MAX_BUFFERED_MESSAGES_LENGTH_PROP_NAME);
 
         return builder;
     }
@@ -199,6 +213,21 @@ public final class ILink3ConnectionConfiguration
         return useBackupHost;
     }
 
+    public int retransmitRequestsInFlight()
+    {
+        return retransmitRequestsInFlight;
+    }
+
+    public boolean bufferMessagesDuringRetransmit()
+    {
+        return bufferMessagesDuringRetransmit;
+    }
+
+    public int maxBufferedMessagesLength()
+    {
+        return maxBufferedMessagesLength;
+    }
+
     private void validate()
     {
         Verify.notNull(host, "host");
@@ -223,6 +252,18 @@ public final class ILink3ConnectionConfiguration
         {
             throw new IllegalArgumentException("port must be positive, but is: " + port);
         }
+
+        if (retransmitRequestsInFlight <= 0)
+        {
+            throw new IllegalArgumentException("retransmitRequestsInFlight must be positive, but is: " +
+                retransmitRequestsInFlight);
+        }
+
+        if (maxBufferedMessagesLength <= 0)
+        {
+            throw new IllegalArgumentException("maxBufferedMessagesLength must be positive, but is: " +
+                maxBufferedMessagesLength);
+        }
     }
 
     public String toString()
@@ -239,6 +280,9 @@ public final class ILink3ConnectionConfiguration
             ", initialSentSequenceNumber=" + initialSentSequenceNumber +
             ", accessKeyId=" + accessKeyId +
             ", handler=" + handler +
+            ", retransmitRequestsInFlight=" + retransmitRequestsInFlight +
+            ", bufferMessagesDuringRetransmit=" + bufferMessagesDuringRetransmit +
+            ", maxBufferedMessagesLength=" + maxBufferedMessagesLength +
             '}';
     }
 
@@ -263,7 +307,10 @@ public final class ILink3ConnectionConfiguration
         final boolean reEstablishLastConnection,
         final ILink3ConnectionHandler handler,
         final boolean useBackupHost,
-        final String backupHost)
+        final String backupHost,
+        final int retransmitRequestsInFlight,
+        final boolean bufferMessagesDuringRetransmit,
+        final int maxBufferedMessagesLength)
     {
         this.host = host;
         this.port = port;
@@ -282,6 +329,9 @@ public final class ILink3ConnectionConfiguration
         this.handler = handler;
         this.useBackupHost = useBackupHost;
         this.backupHost = backupHost;
+        this.retransmitRequestsInFlight = retransmitRequestsInFlight;
+        this.bufferMessagesDuringRetransmit = bufferMessagesDuringRetransmit;
+        this.maxBufferedMessagesLength = maxBufferedMessagesLength;
 
         validate();
     }
@@ -304,6 +354,9 @@ public final class ILink3ConnectionConfiguration
         private ILink3ConnectionHandler handler;
         private boolean useBackupHost;
         private String backupHost;
+        private int retransmitRequestsInFlight = DEFAULT_RETRANSMIT_REQUESTS_IN_FLIGHT;
+        private boolean bufferMessagesDuringRetransmit = false;
+        private int maxBufferedMessagesLength = DEFAULT_MAX_BUFFERED_MESSAGES_LENGTH;
 
         public ILink3ConnectionConfiguration build()
         {
@@ -323,7 +376,10 @@ public final class ILink3ConnectionConfiguration
                 reEstablishLastConnection,
                 handler,
                 useBackupHost,
-                backupHost);
+                backupHost,
+                retransmitRequestsInFlight,
+                bufferMessagesDuringRetransmit,
+                maxBufferedMessagesLength);
         }
 
         /**
@@ -541,5 +597,53 @@ public final class ILink3ConnectionConfiguration
             this.backupHost = backupHost;
             return this;
         }
+
+        /**
+         * Sets the maximum number of RetransmitRequest messages that can be awaiting a reply at once when recovering
+         * from a sequence number gap. Gaps larger than
+         * {@link ILink3ConnectionConfiguration#retransmitRequestMessageLimit()} are split into several requests and
+         * by default each one is only sent once the previous one has been filled. Sending them ahead of time reduces
+         * the time it takes to recover a large gap, but this value should be kept within the limits set by the
+         * exchange.
+         *
+         * @param retransmitRequestsInFlight the maximum number of RetransmitRequest messages awaiting a reply.
+         * @return this
+         */
+        public Builder retransmitRequestsInFlight(final int retransmitRequestsInFlight)
+        {
+            this.retransmitRequestsInFlight = retransmitRequestsInFlight;
+            return this;
+        }
+
+        /**
+         * Sets whether business messages received whilst a sequence number gap is being filled are held back until
+         * the gap has been filled, so that your handler receives messages in sequence number order. They are
+         * buffered off-heap, up to {@link #maxBufferedMessagesLength(int)}. By default they're passed to your handler
+         * as soon as they're received.
+         *
+         * @param bufferMessagesDuringRetransmit true to hold back messages until the gap has been filled.
+         * @return this
+         */
+        public Builder bufferMessagesDuringRetransmit(final boolean bufferMessagesDuringRetransmit)
+        {
+            this.bufferMessagesDuringRetransmit = bufferMessagesDuringRetransmit;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of bytes of business messages that are held back whilst a sequence number gap is
+         * being filled when {@link #bufferMessagesDuringRetransmit(boolean)} is enabled. If a message would exceed
+         * this then the messages held back so far, followed by that message, are passed to your handler straight
+         * away, and messages are passed on as soon as they're received until every outstanding gap has been filled,
+         * as if buffering was disabled.
+         *
+         * @param maxBufferedMessagesLength the maximum number of bytes of messages that are held back.
+         * @return this
+         */
+        public Builder maxBufferedMessagesLength(final int maxBufferedMessagesLength)
+        {
+            this.maxBufferedMessagesLength = maxBufferedMessagesLength;
+            return this;
+        }
     }
 }
@@ -149,6 +149,26 @@ public class CharFormatter
         }
     }
 
+    public String formatString()
+    {
+        return formatString;
+    }
+
+    public int encodedSoFar()
+    {
+        return encodedSoFar;
+    }
+
+    public char[] value(final int index)
+    {
+        return values[index];
+    }
+
+    public int valueLength(final int index)
+    {
+        return lengths[index];
+    }
+
     public int putIntAscii(final char[] buffer, final int index, final int value)
     {
         if (value == 0)
@@ -25,7 +25,9 @@ import uk.co.real_logic.artio.util.float_parsing.DecimalFloatParser;
 
 import java.nio.ByteBuffer;
 
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
 
 public final class MutableAsciiBuffer extends UnsafeBuffer implements AsciiBuffer
 {
@@ -35,6 +37,11 @@ public final class MutableAsciiBuffer extends UnsafeBuffer implements AsciiBuffe
     private static final byte Y = (byte)'Y';
     private static final byte N = (byte)'N';
 
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LOW_BYTES_OF_SHORTS = 0x00FF00FF00FF00FFL;
+    private static final long LOW_BITS_OF_SHORTS = 0x0001000100010001L;
+
     public MutableAsciiBuffer()
     {
         super(0, 0);
@@ -219,29 +226,56 @@ public final class MutableAsciiBuffer extends UnsafeBuffer implements AsciiBuffe
 
     public int scan(final int startInclusive, final int endExclusive, final byte terminator)
     {
-        int indexValue = UNKNOWN_INDEX;
-        for (int i = startInclusive; i < endExclusive; i++)
+        // Searches a word at a time, using the classic SWAR "has zero byte" test on the word xor'd with the
+        // terminator. The lowest byte flagged is always a genuine match, so little endian words give the first match.
+        final long pattern = (terminator & 0xFFL) * LOW_BITS;
+        int index = startInclusive;
+        final int lastWordStart = endExclusive - SIZE_OF_LONG;
+        while (index <= lastWordStart)
         {
-            final byte value = getByte(i);
-            if (value == terminator)
+            final long word = getLong(index, LITTLE_ENDIAN) ^ pattern;
+            final long matches = (word - LOW_BITS) & ~word & HIGH_BITS;
+            if (matches != 0)
+            {
+                return index + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+
+            index += SIZE_OF_LONG;
+        }
+
+        for (; index < endExclusive; index++)
+        {
+            if (getByte(index) == terminator)
             {
-                indexValue = i;
-                break;
+                return index;
             }
         }
 
-        return indexValue;
+        return UNKNOWN_INDEX;
     }
 
     public int computeChecksum(final int startInclusive, final int endExclusive)
     {
+        // Sums a word at a time: adds adjacent bytes into 16 bit lanes, then multiplies to sum the lanes into the
+        // top 16 bits of the word. Bytes are summed as unsigned values so that the result is always in [0, 255].
         int total = 0;
-        for (int index = startInclusive; index < endExclusive; index++)
+        int index = startInclusive;
+        final int lastWordStart = endExclusive - SIZE_OF_LONG;
+        while (index <= lastWordStart)
+        {
+            final long word = getLong(index);
+            final long pairs = (word & LOW_BYTES_OF_SHORTS) + ((word >>> 8) & LOW_BYTES_OF_SHORTS);
+            total += (int)((pairs * LOW_BITS_OF_SHORTS) >>> 48);
+
+            index += SIZE_OF_LONG;
+        }
+
+        for (; index < endExclusive; index++)
         {
-            total += getByte(index);
+            total += getByte(index) & 0xFF;
         }
 
-        return total % 256;
+        return total & 0xFF;
     }
 
     public int putAscii(final int index, final String string)
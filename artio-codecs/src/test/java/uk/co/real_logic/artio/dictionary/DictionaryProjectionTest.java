@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.dictionary;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import uk.co.real_logic.artio.dictionary.ir.Dictionary;
+import uk.co.real_logic.artio.dictionary.ir.Entry;
+import uk.co.real_logic.artio.dictionary.ir.Group;
+import uk.co.real_logic.artio.dictionary.ir.Message;
+
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DictionaryProjectionTest
+{
+    private static final String EXAMPLE_FILE = "example_dictionary.xml";
+
+    private static Dictionary dictionary;
+
+    @BeforeClass
+    public static void setUp() throws Exception
+    {
+        dictionary = new DictionaryParser(false)
+            .parse(DictionaryProjectionTest.class.getResourceAsStream(EXAMPLE_FILE), null);
+    }
+
+    @Test
+    public void shouldOnlyKeepProjectedMessagesAndFields()
+    {
+        final Dictionary projected = project("NewOrderSingle", "ClOrdID", "Symbol", "Side");
+
+        assertEquals(1, projected.messages().size());
+        final Message message = projected.messages().get(0);
+        assertEquals("NewOrderSingle", message.name());
+        assertEquals("D", message.fullType());
+        assertThat(entryNames(message.entries()), contains("ClOrdID", "Symbol", "Side"));
+        assertTrue(projected.components().isEmpty());
+    }
+
+    @Test
+    public void shouldKeepProjectedGroupsWhole()
+    {
+        final Dictionary projected = project("NewOrderSingle", "ClOrdID", "NoTradingSessions");
+
+        final List<Entry> entries = projected.messages().get(0).entries();
+        assertThat(entryNames(entries), contains("ClOrdID", "TradingSessionsGroup"));
+        final Group group = (Group)entries.get(1).element();
+        assertEquals("NoTradingSessionsGroupCounter", group.numberField().name());
+        assertThat(entryNames(group.entries()), contains("TradingSessionID"));
+    }
+
+    @Test
+    public void shouldFlattenProjectedComponents()
+    {
+        final Dictionary projected = project("NewOrderSingle", "Text");
+
+        assertThat(entryNames(projected.messages().get(0).entries()), contains("Text"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnknownMessages()
+    {
+        project("NotAMessage", "Text");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectSessionMessages()
+    {
+        project("Heartbeat", "TestReqID");
+    }
+
+    private static Dictionary project(final String messageName, final String... fields)
+    {
+        final Map<String, Set<String>> messageToFields = new HashMap<>();
+        messageToFields.put(messageName, new HashSet<>(Arrays.asList(fields)));
+        return DictionaryProjection.project(dictionary, messageToFields);
+    }
+
+    private static List<String> entryNames(final List<Entry> entries)
+    {
+        return entries.stream().map(Entry::name).collect(toList());
+    }
+}
@@ -66,6 +66,7 @@ public final class ExampleDictionary
     public static final String OTHER_MESSAGE_DECODER = TEST_PACKAGE + ".OtherMessageDecoder";
     public static final String OTHER_MESSAGE_ENCODER = TEST_PACKAGE + ".OtherMessageEncoder";
     public static final String ENUM_TEST_MESSAGE_DECODER = TEST_PACKAGE + ".EnumTestMessageDecoder";
+    public static final String MANY_FIELDS_MESSAGE_DECODER = TEST_PACKAGE + ".ManyFieldsMessageDecoder";
     public static final String ENUM_TEST_MESSAGE_ENCODER = TEST_PACKAGE + ".EnumTestMessageEncoder";
 
     public static final String PRINTER = TEST_PACKAGE + ".PrinterImpl";
@@ -423,6 +424,27 @@ public final class ExampleDictionary
         "8=FIX.4.4\0019=0049\00135=Z\001700=one\001701=10\001702=b\001703=123.456\001" +
         "704=one\001705=10\001706=b\00110=209\001";
 
+    // More fields than fit into a single word of the generated decoder's bitsets
+    public static final int MANY_FIELDS_COUNT = 70;
+    public static final int MANY_FIELDS_FIRST_TAG = 2000;
+    public static final int MANY_FIELDS_SECOND_WORD_REQUIRED_TAG = MANY_FIELDS_FIRST_TAG + 65;
+    public static final int MANY_FIELDS_LAST_TAG = MANY_FIELDS_FIRST_TAG + MANY_FIELDS_COUNT - 1;
+
+    public static final String MF_ALL_REQUIRED_FIELDS =
+        "8=FIX.4.4\0019=0049\00135=MF\0012000=0\0012064=64\0012065=65\0012069=69\00110=209\001";
+
+    public static final String MF_MISSING_SECOND_WORD_FIELDS =
+        "8=FIX.4.4\0019=0049\00135=MF\0012000=0\0012064=64\00110=209\001";
+
+    public static final String MF_MISSING_LAST_FIELD =
+        "8=FIX.4.4\0019=0049\00135=MF\0012000=0\0012065=65\00110=209\001";
+
+    public static final String MF_MISSING_BOTH_WORDS_FIELDS =
+        "8=FIX.4.4\0019=0049\00135=MF\0012064=64\00110=209\001";
+
+    public static final String MF_SECOND_WORD_FIELD_TWICE =
+        "8=FIX.4.4\0019=0049\00135=MF\0012000=0\0012065=65\0012069=69\0012069=69\00110=209\001";
+
     public static final String RF_NO_FIELDS =
         "8=FIX.4.4\0019=0049\00135=Z\00110=209\001";
 
@@ -641,8 +663,24 @@ public final class ExampleDictionary
             .addValue("a", "APPLE").addValue("b", "BANANA"));
 
 
+        final Message manyFieldsMessage = new Message("ManyFieldsMessage", "MF", APP);
+        for (int i = 0; i < MANY_FIELDS_COUNT; i++)
+        {
+            final int tag = MANY_FIELDS_FIRST_TAG + i;
+            final Field field = registerField(messageEgFields, tag, "ManyField" + i, INT);
+            if (tag == MANY_FIELDS_FIRST_TAG || tag == MANY_FIELDS_SECOND_WORD_REQUIRED_TAG ||
+                tag == MANY_FIELDS_LAST_TAG)
+            {
+                manyFieldsMessage.requiredEntry(field);
+            }
+            else
+            {
+                manyFieldsMessage.optionalEntry(field);
+            }
+        }
+
         final List<Message> messages = asList(heartbeat, otherMessage, fieldsMessage, allReqFieldTypesMessage,
-            enumTestMessage);
+            enumTestMessage, manyFieldsMessage);
 
         final Map<String, Component> components = new HashMap<>();
         components.put(EG_COMPONENT, egComponent);
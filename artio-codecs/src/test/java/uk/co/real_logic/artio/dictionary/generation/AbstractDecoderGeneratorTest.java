@@ -74,8 +74,9 @@ public abstract class AbstractDecoderGeneratorTest
     private static Class<?> fieldsMessage;
     private static Class<?> allReqFieldTypesMessage;
     private static Class<?> enumTestMessage;
+    private static Class<?> manyFieldsMessage;
 
-    private final MutableAsciiBuffer buffer = new MutableAsciiBuffer(new byte[8 * 1024]);
+    final MutableAsciiBuffer buffer = new MutableAsciiBuffer(new byte[8 * 1024]);
 
     static void generate(final boolean flyweightStringsEnabled) throws Exception
     {
@@ -97,6 +98,7 @@ public abstract class AbstractDecoderGeneratorTest
         compileInMemory(HEADER_DECODER, sourcesWithValidation);
         otherMessage = compileInMemory(OTHER_MESSAGE_DECODER, sourcesWithValidation);
         enumTestMessage = compileInMemory(ENUM_TEST_MESSAGE_DECODER, sourcesWithValidation);
+        manyFieldsMessage = compileInMemory(MANY_FIELDS_MESSAGE_DECODER, sourcesWithValidation);
 
         heartbeatWithoutValidation = compileInMemory(HEARTBEAT_DECODER, sourcesWithoutValidation);
         heartbeatWithoutEnumValueValidation = compileInMemory(HEARTBEAT_DECODER, sourcesWithNoEnumValueValidation);
@@ -627,6 +629,60 @@ public abstract class AbstractDecoderGeneratorTest
         assertInvalid(decoder, REQUIRED_TAG_MISSING, 117);
     }
 
+    @Test
+    public void shouldValidateMessageWithMoreFieldsThanFitInOneBitsetWord() throws Exception
+    {
+        final Decoder decoder = decodeManyFieldsMessage(MF_ALL_REQUIRED_FIELDS);
+
+        assertValid(decoder);
+        assertEquals(69, Reflection.get(decoder, "manyField69"));
+    }
+
+    @Test
+    public void shouldValidateMissingRequiredFieldInSecondBitsetWord() throws Exception
+    {
+        final Decoder decoder = decodeManyFieldsMessage(MF_MISSING_LAST_FIELD);
+
+        assertInvalid(decoder, REQUIRED_TAG_MISSING, MANY_FIELDS_LAST_TAG);
+    }
+
+    @Test
+    public void shouldReportFirstMissingRequiredFieldAcrossBitsetWords() throws Exception
+    {
+        assertInvalid(
+            decodeManyFieldsMessage(MF_MISSING_SECOND_WORD_FIELDS),
+            REQUIRED_TAG_MISSING,
+            MANY_FIELDS_SECOND_WORD_REQUIRED_TAG);
+
+        assertInvalid(
+            decodeManyFieldsMessage(MF_MISSING_BOTH_WORDS_FIELDS),
+            REQUIRED_TAG_MISSING,
+            MANY_FIELDS_FIRST_TAG);
+    }
+
+    @Test
+    public void shouldValidateTagsAppearingMoreThanOnceInSecondBitsetWord() throws Exception
+    {
+        final Decoder decoder = decodeManyFieldsMessage(MF_SECOND_WORD_FIELD_TWICE);
+
+        assertInvalid(decoder, TAG_APPEARS_MORE_THAN_ONCE, MANY_FIELDS_LAST_TAG);
+    }
+
+    @Test
+    public void shouldRestoreBitsetsOfMessageWithManyFieldsBetweenDecodes() throws Exception
+    {
+        final Decoder decoder = decodeManyFieldsMessage(MF_SECOND_WORD_FIELD_TWICE);
+        assertInvalid(decoder);
+
+        decoder.reset();
+        decode(MF_ALL_REQUIRED_FIELDS, decoder);
+        assertValid(decoder);
+
+        decoder.reset();
+        decode(MF_MISSING_LAST_FIELD, decoder);
+        assertInvalid(decoder, REQUIRED_TAG_MISSING, MANY_FIELDS_LAST_TAG);
+    }
+
     // --------------------------------------------------------------
     // Without Validation
     // --------------------------------------------------------------
@@ -1676,7 +1732,7 @@ public abstract class AbstractDecoderGeneratorTest
         return (SessionHeaderDecoder)get(decoder, "header");
     }
 
-    private Decoder decodeHeartbeat(final String example) throws Exception
+    Decoder decodeHeartbeat(final String example) throws Exception
     {
         final Decoder decoder = newHeartbeat();
         decode(example, decoder);
@@ -1689,6 +1745,13 @@ public abstract class AbstractDecoderGeneratorTest
         return (Decoder)heartbeat.getConstructor().newInstance();
     }
 
+    private Decoder decodeManyFieldsMessage(final String example) throws Exception
+    {
+        final Decoder decoder = (Decoder)manyFieldsMessage.getConstructor().newInstance();
+        decode(example, decoder);
+        return decoder;
+    }
+
     private Decoder decodeHeartbeatWithoutEnumValue(final String example) throws Exception
     {
         final Decoder decoder = (Decoder)heartbeatWithoutEnumValueValidation.getConstructor().newInstance();
@@ -1710,7 +1773,7 @@ public abstract class AbstractDecoderGeneratorTest
         return decoder;
     }
 
-    private void decode(final String example, final Decoder decoder)
+    void decode(final String example, final Decoder decoder)
     {
         buffer.putAscii(1, example);
         decoder.decode(buffer, 1, example.length());
@@ -1746,12 +1809,12 @@ public abstract class AbstractDecoderGeneratorTest
         return (boolean)getField(decoder, HAS_BOOLEAN_FIELD);
     }
 
-    private Object getFloatField(final Decoder decoder) throws Exception
+    Object getFloatField(final Decoder decoder) throws Exception
     {
         return get(decoder, FLOAT_FIELD);
     }
 
-    private Object getIntField(final Object decoder) throws Exception
+    Object getIntField(final Object decoder) throws Exception
     {
         return get(decoder, INT_FIELD);
     }
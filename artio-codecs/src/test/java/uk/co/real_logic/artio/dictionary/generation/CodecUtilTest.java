@@ -59,4 +59,26 @@ public class CodecUtilTest
         final int secondHash = CodecUtil.hashCode("abczyx".toCharArray(), 3, 3);
         assertEquals(firstHash, secondHash);
     }
+
+    @Test
+    public void shouldMapEveryTagToItsOrdinalWhenHashesCollide()
+    {
+        final int[] tags = { 35, 49, 56, 34, 52, 10, 8, 9 };
+        // A multiplier of 1 with 4 bits maps every small tag to slot 0
+        final int bits = 4;
+        final int[] table = CodecUtil.newFieldOrdinalTable(tags, 1, bits);
+
+        assertEquals(2 << bits, table.length);
+        for (int ordinal = 0; ordinal < tags.length; ordinal++)
+        {
+            int slot = 0;
+            while (table[slot] != tags[ordinal])
+            {
+                slot += 2;
+            }
+            assertEquals(ordinal, table[slot + 1]);
+        }
+        assertEquals(0, table[2 * tags.length]);
+        assertEquals(-1, table[2 * tags.length + 1]);
+    }
 }
@@ -16,12 +16,58 @@
 package uk.co.real_logic.artio.dictionary.generation;
 
 import org.junit.BeforeClass;
+import org.junit.Test;
+import uk.co.real_logic.artio.builder.Decoder;
+import uk.co.real_logic.artio.fields.DecimalFloat;
+
+import static org.junit.Assert.assertEquals;
+import static uk.co.real_logic.artio.dictionary.ExampleDictionary.ENCODED_MESSAGE;
+import static uk.co.real_logic.artio.dictionary.generation.CodecUtil.MISSING_INT;
 
 public class DecoderGeneratorFlyweightTest extends AbstractDecoderGeneratorTest
 {
+    private static final String INT_FIELD_VALUE = "116=2";
+    private static final String FLOAT_FIELD_VALUE = "117=1.1";
+
     @BeforeClass
     public static void generate() throws Exception
     {
         generate(true);
     }
+
+    @Test
+    public void shouldReuseLazilyDecodedValuesUntilNextDecode() throws Exception
+    {
+        final Decoder decoder = decodeHeartbeat(ENCODED_MESSAGE);
+
+        assertEquals(2, getIntField(decoder));
+        assertEquals(new DecimalFloat(11, 1), getFloatField(decoder));
+
+        buffer.putAscii(1 + ENCODED_MESSAGE.indexOf(INT_FIELD_VALUE), "116=1");
+        buffer.putAscii(1 + ENCODED_MESSAGE.indexOf(FLOAT_FIELD_VALUE), "117=1.3");
+
+        assertEquals(2, getIntField(decoder));
+        assertEquals(new DecimalFloat(11, 1), getFloatField(decoder));
+
+        decoder.decode(buffer, 1, ENCODED_MESSAGE.length());
+
+        assertEquals(1, getIntField(decoder));
+        assertEquals(new DecimalFloat(13, 1), getFloatField(decoder));
+    }
+
+    @Test
+    public void shouldNotReuseLazilyDecodedValuesAfterReset() throws Exception
+    {
+        final Decoder decoder = decodeHeartbeat(ENCODED_MESSAGE);
+
+        assertEquals(2, getIntField(decoder));
+
+        decoder.reset();
+
+        assertEquals(MISSING_INT, getIntField(decoder));
+
+        decode(ENCODED_MESSAGE.replace(INT_FIELD_VALUE, "116=1"), decoder);
+
+        assertEquals(1, getIntField(decoder));
+    }
 }
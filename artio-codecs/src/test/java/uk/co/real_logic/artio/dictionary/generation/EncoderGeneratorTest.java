@@ -17,6 +17,7 @@ package uk.co.real_logic.artio.dictionary.generation;
 
 import org.agrona.AsciiSequenceView;
 import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.generation.StringWriterOutputManager;
 import org.hamcrest.Matcher;
@@ -24,6 +25,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import uk.co.real_logic.artio.EncodingException;
 import uk.co.real_logic.artio.builder.Encoder;
+import uk.co.real_logic.artio.builder.SessionHeaderEncoder;
 import uk.co.real_logic.artio.fields.DecimalFloat;
 import uk.co.real_logic.artio.fields.UtcTimestampEncoder;
 import uk.co.real_logic.artio.util.MutableAsciiBuffer;
@@ -912,6 +914,75 @@ public class EncoderGeneratorTest
         assertEncodesTo(encoder, "8=FIX.4.4\0019=6\00135=AB\00110=247\001");
     }
 
+    @Test
+    public void shouldReencodeHeaderTemplateFieldsAfterTheyChange() throws Exception
+    {
+        final Encoder encoder = (Encoder)otherMessage.getConstructor().newInstance();
+        final SessionHeaderEncoder header = (SessionHeaderEncoder)get(encoder, "header");
+        header.headerTemplateEnabled(true);
+        header.senderCompID("abc").msgSeqNum(1);
+
+        assertThat(encodeToString(encoder), containsString("\00135=AB\00149=abc\00134=1\001"));
+
+        header.msgSeqNum(2);
+        assertThat(encodeToString(encoder), containsString("\00135=AB\00149=abc\00134=2\001"));
+
+        header.senderCompID("de");
+        assertThat(encodeToString(encoder), containsString("\00135=AB\00149=de\00134=2\001"));
+    }
+
+    @Test
+    public void shouldCopyHeaderTemplateFieldsWhilstTheyAreUnchanged() throws Exception
+    {
+        final Encoder encoder = (Encoder)otherMessage.getConstructor().newInstance();
+        final SessionHeaderEncoder header = (SessionHeaderEncoder)get(encoder, "header");
+        header.headerTemplateEnabled(true);
+        header.senderCompID("abc").msgSeqNum(1);
+        encodeToString(encoder);
+
+        overwriteHeaderTemplate(header, "49=abc", "49=xyz");
+        header.msgSeqNum(2);
+        assertThat(encodeToString(encoder), containsString("\00135=AB\00149=xyz\00134=2\001"));
+
+        header.headerTemplateEnabled(false);
+        assertThat(encodeToString(encoder), containsString("\00135=AB\00149=abc\00134=2\001"));
+    }
+
+    @Test
+    public void shouldInvalidateHeaderTemplateWhenTemplatedFieldMayHaveChanged() throws Exception
+    {
+        final Encoder encoder = (Encoder)otherMessage.getConstructor().newInstance();
+        final SessionHeaderEncoder header = (SessionHeaderEncoder)get(encoder, "header");
+        header.headerTemplateEnabled(true);
+        header.senderCompID("abc").msgSeqNum(1);
+        encodeToString(encoder);
+
+        overwriteHeaderTemplate(header, "49=abc", "49=xyz");
+        header.senderCompID("abc");
+        assertThat(encodeToString(encoder), containsString("\00149=abc\001"));
+
+        overwriteHeaderTemplate(header, "49=abc", "49=xyz");
+        ((MutableDirectBuffer)get(header, "senderCompID")).putByte(0, (byte)'d');
+        assertThat(encodeToString(encoder), containsString("\00149=dbc\001"));
+
+        overwriteHeaderTemplate(header, "49=dbc", "49=xyz");
+        call(header, "resetSenderCompID");
+        assertThat(encodeToString(encoder), not(containsString("\00149=")));
+    }
+
+    @Test
+    public void shouldCopyValuesThatHeaderTemplateFieldsAreSetTo() throws Exception
+    {
+        final Encoder encoder = (Encoder)otherMessage.getConstructor().newInstance();
+        final SessionHeaderEncoder header = (SessionHeaderEncoder)get(encoder, "header");
+        header.headerTemplateEnabled(true);
+        final byte[] senderCompID = "abc".getBytes(StandardCharsets.US_ASCII);
+        header.senderCompID(senderCompID).msgSeqNum(1);
+
+        senderCompID[0] = 'x';
+        assertThat(encodeToString(encoder), containsString("\00149=abc\001"));
+    }
+
     private void setNestedField(final Object group) throws Exception
     {
         final Object nestedGroup = getNestedGroup(group, 1);
@@ -1053,6 +1124,22 @@ public class EncoderGeneratorTest
         setCharSequence(trailer, "checkSum", "12");
     }
 
+    private void overwriteHeaderTemplate(
+        final SessionHeaderEncoder header, final String encodedField, final String replacement) throws Exception
+    {
+        final byte[] headerTemplate = (byte[])getField(header, "headerTemplate");
+        final int index = new String(headerTemplate, StandardCharsets.US_ASCII).indexOf(encodedField);
+        assertNotEquals(encodedField, -1, index);
+        final byte[] replacementBytes = replacement.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(replacementBytes, 0, headerTemplate, index, replacementBytes.length);
+    }
+
+    private String encodeToString(final Encoder encoder)
+    {
+        final long result = encoder.encode(buffer, 1);
+        return buffer.getAscii(Encoder.offset(result), Encoder.length(result));
+    }
+
     private void assertEncodesTo(final Encoder encoder, final String expectedValue)
     {
         final long result = encoder.encode(buffer, 1);
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.fixp;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.ir.IrGenerator;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+import uk.co.real_logic.sbe.xml.XmlSchemaParser;
+
+import java.io.InputStream;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.junit.Assert.assertEquals;
+import static uk.co.real_logic.artio.fixp.AbstractFixPOffsets.MISSING_OFFSET;
+
+public class SbeIrOffsetsTest
+{
+    private static final int SEQ_NUM_ID = 9726;
+    private static final int POSS_RETRANS_ID = 9765;
+    private static final int SENDING_TIME_EPOCH_ID = 5297;
+    private static final int UUID_ID = 39001;
+
+    private static final int SEQUENCE_TEMPLATE_ID = 506;
+    private static final int EXECUTION_REPORT_TEMPLATE_ID = 522;
+    private static final int GROUP_ONLY_REPORT_TEMPLATE_ID = 524;
+
+    private static final Ir IR = parseIr("fixp-session-schema.xml");
+
+    private final SbeIrOffsets offsets = new SbeIrOffsets(IR, SEQ_NUM_ID, POSS_RETRANS_ID, SENDING_TIME_EPOCH_ID);
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[64]);
+
+    @Test
+    public void shouldLoadOffsetsOfRootBlockFields()
+    {
+        assertEquals(0, offsets.seqNumOffset(EXECUTION_REPORT_TEMPLATE_ID));
+        assertEquals(12, offsets.sendingTimeEpochOffset(EXECUTION_REPORT_TEMPLATE_ID));
+        assertEquals(20, offsets.possRetransOffset(EXECUTION_REPORT_TEMPLATE_ID));
+    }
+
+    @Test
+    public void shouldSupportMissingOffsets()
+    {
+        assertEquals(MISSING_OFFSET, offsets.seqNumOffset(SEQUENCE_TEMPLATE_ID));
+        assertEquals(MISSING_OFFSET, offsets.possRetransOffset(SEQUENCE_TEMPLATE_ID));
+        assertEquals(MISSING_OFFSET, offsets.sendingTimeEpochOffset(SEQUENCE_TEMPLATE_ID));
+        assertEquals(MISSING_OFFSET, offsets.seqNum(SEQUENCE_TEMPLATE_ID, buffer, 0));
+        assertEquals(MISSING_OFFSET, offsets.possRetrans(SEQUENCE_TEMPLATE_ID, buffer, 0));
+    }
+
+    @Test
+    public void shouldFindFieldsWithinRepeatingGroups()
+    {
+        // Offsets of fields within a group are relative to the start of the group entry
+        assertEquals(0, offsets.seqNumOffset(GROUP_ONLY_REPORT_TEMPLATE_ID));
+    }
+
+    @Test
+    public void shouldReadFieldsAccordingToTheirEncoding()
+    {
+        final int messageOffset = 8;
+
+        buffer.putInt(messageOffset, 70_000, LITTLE_ENDIAN);
+        buffer.putByte(messageOffset + 20, (byte)1);
+        assertEquals(70_000, offsets.seqNum(EXECUTION_REPORT_TEMPLATE_ID, buffer, messageOffset));
+        assertEquals(1, offsets.possRetrans(EXECUTION_REPORT_TEMPLATE_ID, buffer, messageOffset));
+
+        buffer.setMemory(0, buffer.capacity(), (byte)0xFF);
+        assertEquals(0xFF, offsets.possRetrans(EXECUTION_REPORT_TEMPLATE_ID, buffer, messageOffset));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectSequenceNumbersEncodedAsDifferentTypes()
+    {
+        new SbeIrOffsets(parseIr("fixp-mixed-session-schema.xml"), SEQ_NUM_ID, POSS_RETRANS_ID, SENDING_TIME_EPOCH_ID);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectSequenceNumbersTooLargeForAnInt()
+    {
+        new SbeIrOffsets(IR, SENDING_TIME_EPOCH_ID, POSS_RETRANS_ID, SENDING_TIME_EPOCH_ID);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectSendingTimesThatArentEightBytes()
+    {
+        new SbeIrOffsets(IR, SEQ_NUM_ID, POSS_RETRANS_ID, SEQ_NUM_ID);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectPossRetransTooLargeForAnInt()
+    {
+        new SbeIrOffsets(IR, SEQ_NUM_ID, UUID_ID, SENDING_TIME_EPOCH_ID);
+    }
+
+    private static Ir parseIr(final String schemaFile)
+    {
+        try (InputStream stream = SbeIrOffsetsTest.class.getResourceAsStream(schemaFile))
+        {
+            return new IrGenerator().generate(XmlSchemaParser.parse(stream, ParserOptions.DEFAULT));
+        }
+        catch (final Exception e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+}
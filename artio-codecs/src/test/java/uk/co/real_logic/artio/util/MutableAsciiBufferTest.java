@@ -15,12 +15,15 @@
  */
 package uk.co.real_logic.artio.util;
 
+import org.junit.Test;
 import org.junit.experimental.theories.DataPoints;
 import org.junit.experimental.theories.Theories;
 import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 
 import static org.junit.Assert.assertEquals;
+import static uk.co.real_logic.artio.dictionary.SessionConstants.START_OF_HEADER;
+import static uk.co.real_logic.artio.util.AsciiBuffer.UNKNOWN_INDEX;
 
 @RunWith(Theories.class)
 public class MutableAsciiBufferTest
@@ -55,4 +58,70 @@ public class MutableAsciiBufferTest
         assertEquals("Wrong length for " + value, length, MutableAsciiBuffer.lengthInAscii(value));
     }
 
+    @Test
+    public void shouldScanForFirstTerminatorWithinRange()
+    {
+        final int length = 40;
+        for (int i = 0; i < length; i++)
+        {
+            string.putByte(i, (byte)('a' + (i % 20)));
+        }
+
+        for (int start = 0; start < 10; start++)
+        {
+            for (int end = start; end <= length; end++)
+            {
+                for (int match = start; match < length; match++)
+                {
+                    final byte terminator = string.getByte(match);
+                    assertEquals(
+                        "start=" + start + ", end=" + end + ", match=" + match,
+                        naiveScan(start, end, terminator),
+                        string.scan(start, end, terminator));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotFindTerminatorOutsideRange()
+    {
+        string.putAscii(0, "8=FIX.4.4\0019=12\001");
+
+        assertEquals(UNKNOWN_INDEX, string.scan(0, 9, START_OF_HEADER));
+        assertEquals(9, string.scan(0, 10, START_OF_HEADER));
+        assertEquals(14, string.scan(10, 20, START_OF_HEADER));
+    }
+
+    @Test
+    public void shouldComputeChecksumOfNonAsciiBytes()
+    {
+        final int length = 37;
+        int total = 0;
+        for (int i = 0; i < length; i++)
+        {
+            final byte value = (byte)(200 + i);
+            string.putByte(i, value);
+            total += value & 0xFF;
+        }
+
+        for (int start = 0; start < 9; start++)
+        {
+            assertEquals(total % 256, string.computeChecksum(start, length));
+            total -= string.getByte(start) & 0xFF;
+        }
+    }
+
+    private int naiveScan(final int startInclusive, final int endExclusive, final byte terminator)
+    {
+        for (int i = startInclusive; i < endExclusive; i++)
+        {
+            if (string.getByte(i) == terminator)
+            {
+                return i;
+            }
+        }
+
+        return UNKNOWN_INDEX;
+    }
 }
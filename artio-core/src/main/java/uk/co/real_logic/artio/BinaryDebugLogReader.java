@@ -0,0 +1,265 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio;
+
+import org.agrona.IoUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.AgentRunner;
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.MessageHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.ringbuffer.ManyToOneRingBuffer;
+import uk.co.real_logic.artio.sbe_util.MessageDumper;
+import uk.co.real_logic.artio.sbe_util.MessageSchemaIr;
+import uk.co.real_logic.artio.util.CharFormatter;
+import uk.co.real_logic.sbe.json.JsonPrinter;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.agrona.BitUtil.SIZE_OF_BYTE;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static uk.co.real_logic.artio.BinaryDebugLogWriter.*;
+import static uk.co.real_logic.artio.CommonConfiguration.*;
+
+/**
+ * Reads the debug logging written by the {@link DebugLogger} when {@link CommonConfiguration#DEBUG_BINARY_FILE} is
+ * set, formatting each record into the same text that the {@link PrintingDebugAppender} would have printed. Records
+ * that the writer had to drop are reported as a count in a line of their own.
+ *
+ * Since this class generates Java objects for every record you're recommended to run it in a different process to
+ * the normal Artio Engine if you're operating in a latency sensitive environment.
+ */
+public class BinaryDebugLogReader implements Agent
+{
+    public static void main(final String[] args)
+    {
+        final String fileName = args.length > 0 ? args[0] : DEBUG_BINARY_FILE;
+        if (fileName == null)
+        {
+            System.err.println("Usage: BinaryDebugLogReader <file>, or set " + DEBUG_BINARY_FILE_PROPERTY);
+            System.exit(-1);
+        }
+
+        final BinaryDebugLogReader reader = new BinaryDebugLogReader(
+            new UnsafeBuffer(IoUtil.mapExistingFile(new File(fileName), "debug log")),
+            System.out::println);
+        final AgentRunner runner = new AgentRunner(
+            CommonConfiguration.backoffIdleStrategy(), Throwable::printStackTrace, null, reader);
+        runner.run();
+    }
+
+    private static final LogTag[] LOG_TAGS = LogTag.values();
+
+    private final Long2ObjectHashMap<String> threadIdToName = new Long2ObjectHashMap<>();
+    private final Map<String, CharFormatter> formatters = new HashMap<>();
+    private final JsonPrinter jsonPrinter = new JsonPrinter(MessageSchemaIr.SCHEMA_IR);
+    private final StringBuilder builder = new StringBuilder();
+    private final MessageHandler onRecordFunc = this::onRecord;
+    private final Consumer<String> lineConsumer;
+    private final ManyToOneRingBuffer ringBuffer;
+    private final AtomicBuffer threadNames;
+
+    private int readThreadNameSlots = 0;
+    private long reportedDroppedRecords = 0;
+
+    public BinaryDebugLogReader(final AtomicBuffer buffer, final Consumer<String> lineConsumer)
+    {
+        this.lineConsumer = lineConsumer;
+        ringBuffer = new ManyToOneRingBuffer(ringBufferRegion(buffer));
+        threadNames = threadNameRegion(buffer);
+    }
+
+    public int doWork()
+    {
+        final int read = ringBuffer.read(onRecordFunc);
+
+        final long droppedRecords = threadNames.getLongVolatile(DROPPED_RECORDS_OFFSET);
+        if (droppedRecords != reportedDroppedRecords)
+        {
+            lineConsumer.accept("Dropped " + (droppedRecords - reportedDroppedRecords) + " debug log records");
+            reportedDroppedRecords = droppedRecords;
+            return read + 1;
+        }
+
+        return read;
+    }
+
+    public String roleName()
+    {
+        return "BinaryDebugLogReader";
+    }
+
+    private void onRecord(final int msgTypeId, final MutableDirectBuffer buffer, final int offset, final int length)
+    {
+        if (msgTypeId == LOG_RECORD_TYPE_ID)
+        {
+            final long timestamp = buffer.getLong(offset + TIMESTAMP_OFFSET);
+            final long threadId = buffer.getLong(offset + THREAD_ID_OFFSET);
+            final LogTag tag = LOG_TAGS[buffer.getInt(offset + TAG_OFFSET)];
+            final String threadName = threadName(threadId);
+
+            final StringBuilder builder = this.builder;
+            builder.setLength(0);
+            builder
+                .append(timestamp)
+                .append(':')
+                .append(threadName == null ? String.valueOf(threadId) : threadName)
+                .append(tag.logStr());
+
+            appendArguments(buffer, offset + ARGUMENTS_OFFSET, offset + length);
+
+            lineConsumer.accept(builder.toString());
+        }
+    }
+
+    private String threadName(final long threadId)
+    {
+        final String threadName = threadIdToName.get(threadId);
+        if (threadName != null)
+        {
+            return threadName;
+        }
+
+        // A thread registers its name before it writes its first record, so a new thread's name must be in the table
+        final AtomicBuffer threadNames = this.threadNames;
+        final int claimedSlots = Math.min(threadNames.getIntVolatile(THREAD_NAME_COUNT_OFFSET), MAX_THREAD_NAMES);
+        int slot = readThreadNameSlots;
+        for (; slot < claimedSlots; slot++)
+        {
+            final int slotOffset = THREAD_NAME_SLOTS_OFFSET + slot * THREAD_NAME_SLOT_LENGTH;
+            final long slotThreadId = threadNames.getLongVolatile(slotOffset + SLOT_THREAD_ID_OFFSET);
+            if (slotThreadId == 0)
+            {
+                // Claimed, but the name hasn't been written yet.
+                break;
+            }
+
+            final int nameLength = threadNames.getInt(slotOffset + SLOT_NAME_LENGTH_OFFSET);
+            threadIdToName.put(slotThreadId, getString(threadNames, slotOffset + SLOT_NAME_OFFSET, nameLength));
+        }
+        readThreadNameSlots = slot;
+
+        return threadIdToName.get(threadId);
+    }
+
+    private void appendArguments(final MutableDirectBuffer buffer, final int start, final int end)
+    {
+        final StringBuilder builder = this.builder;
+        CharFormatter formatter = null;
+
+        int offset = start;
+        while (offset < end)
+        {
+            final byte type = buffer.getByte(offset);
+            if (type == LONG_ARGUMENT)
+            {
+                final long value = buffer.getLong(offset + SIZE_OF_BYTE);
+                if (formatter == null)
+                {
+                    builder.append(value);
+                }
+                else
+                {
+                    formatter.with(value);
+                }
+                offset += SIZE_OF_BYTE + SIZE_OF_LONG;
+            }
+            else
+            {
+                final int argumentOffset = offset + ARGUMENT_HEADER_LENGTH;
+                final int argumentLength = buffer.getInt(offset + SIZE_OF_BYTE);
+                if (type == FORMAT_ARGUMENT)
+                {
+                    final String formatString = getString(buffer, argumentOffset, argumentLength);
+                    formatter = formatters.computeIfAbsent(formatString, CharFormatter::new).clear();
+                }
+                else
+                {
+                    final String value = argumentToString(type, buffer, argumentOffset, argumentLength);
+                    if (formatter == null)
+                    {
+                        builder.append(value);
+                    }
+                    else
+                    {
+                        formatter.with(value);
+                    }
+                }
+                offset = argumentOffset + argumentLength;
+            }
+        }
+
+        if (formatter != null)
+        {
+            formatter.appendTo(builder);
+        }
+    }
+
+    private String argumentToString(
+        final byte type, final MutableDirectBuffer buffer, final int offset, final int length)
+    {
+        switch (type)
+        {
+            case FIX_MESSAGE_ARGUMENT:
+            {
+                final byte[] data = new byte[length];
+                buffer.getBytes(offset, data);
+                for (int i = 0; i < length; i++)
+                {
+                    if (data[i] == DEFAULT_DEBUG_LOGGING_SEPARATOR)
+                    {
+                        data[i] = DEBUG_LOGGING_SEPARATOR;
+                    }
+                }
+                return new String(data, StandardCharsets.US_ASCII);
+            }
+
+            case BYTES_ARGUMENT:
+            {
+                final StringBuilder bytes = new StringBuilder("{");
+                for (int i = 0; i < length; i++)
+                {
+                    if (i > 0)
+                    {
+                        bytes.append(", ");
+                    }
+                    bytes.append(buffer.getByte(offset + i));
+                }
+                return bytes.append('}').toString();
+            }
+
+            case SBE_MESSAGE_ARGUMENT:
+                return MessageDumper.print(jsonPrinter, buffer, offset, length);
+
+            default:
+                return getString(buffer, offset, length);
+        }
+    }
+
+    private static String getString(final DirectBuffer buffer, final int offset, final int length)
+    {
+        final byte[] data = new byte[length];
+        buffer.getBytes(offset, data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.ringbuffer.ManyToOneRingBuffer;
+import uk.co.real_logic.artio.messages.MessageHeaderEncoder;
+import uk.co.real_logic.artio.util.CharFormatter;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BitUtil.SIZE_OF_BYTE;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.concurrent.ringbuffer.RingBufferDescriptor.TRAILER_LENGTH;
+
+/**
+ * Writes debug logging records into a many to one ring buffer without formatting them, so that logging doesn't put
+ * string formatting or IO onto the logging thread. Each record holds the timestamp, thread id and tag followed by the
+ * raw arguments of the log call. Records are dropped rather than blocking the logging thread when the buffer is full,
+ * or when they're too long for it, and counted so that the reader can report them.
+ *
+ * The names of the logging threads are written once into a fixed table after the ring buffer, rather than into the
+ * ring buffer itself, so that a reader can always label a record with its thread name, even if it attaches late.
+ *
+ * @see BinaryDebugLogReader
+ */
+final class BinaryDebugLogWriter
+{
+    static final int LOG_RECORD_TYPE_ID = 1;
+
+    // Log record layout
+    static final int TIMESTAMP_OFFSET = 0;
+    static final int THREAD_ID_OFFSET = TIMESTAMP_OFFSET + SIZE_OF_LONG;
+    static final int TAG_OFFSET = THREAD_ID_OFFSET + SIZE_OF_LONG;
+    static final int ARGUMENTS_OFFSET = TAG_OFFSET + SIZE_OF_INT;
+
+    // Thread name table layout: a count of claimed slots and of dropped records followed by fixed length slots.
+    // A slot's thread id is written last, so a non-zero thread id means that the rest of the slot is complete.
+    static final int THREAD_NAME_COUNT_OFFSET = 0;
+    static final int DROPPED_RECORDS_OFFSET = SIZE_OF_LONG;
+    static final int THREAD_NAME_SLOTS_OFFSET = CACHE_LINE_LENGTH;
+    static final int THREAD_NAME_SLOT_LENGTH = 128;
+    static final int MAX_THREAD_NAMES = 256;
+    static final int THREAD_NAME_TABLE_LENGTH = THREAD_NAME_SLOTS_OFFSET + MAX_THREAD_NAMES * THREAD_NAME_SLOT_LENGTH;
+    static final int SLOT_THREAD_ID_OFFSET = 0;
+    static final int SLOT_NAME_LENGTH_OFFSET = SLOT_THREAD_ID_OFFSET + SIZE_OF_LONG;
+    static final int SLOT_NAME_OFFSET = SLOT_NAME_LENGTH_OFFSET + SIZE_OF_INT;
+    static final int MAX_THREAD_NAME_LENGTH = THREAD_NAME_SLOT_LENGTH - SLOT_NAME_OFFSET;
+
+    // Argument types, all but longs are followed by an int length and then that many bytes. Strings are UTF-8.
+    static final byte LONG_ARGUMENT = 1;
+    static final byte STRING_ARGUMENT = 2;
+    static final byte FIX_MESSAGE_ARGUMENT = 3;
+    static final byte BYTES_ARGUMENT = 4;
+    static final byte SBE_MESSAGE_ARGUMENT = 5;
+    // Only ever the first argument, the remaining arguments are substituted into it.
+    static final byte FORMAT_ARGUMENT = 6;
+
+    static final int ARGUMENT_HEADER_LENGTH = SIZE_OF_BYTE + SIZE_OF_INT;
+
+    private static final int INITIAL_RECORD_CAPACITY = 1024;
+
+    private final ThreadLocal<Record> records = ThreadLocal.withInitial(Record::new);
+    private final ManyToOneRingBuffer ringBuffer;
+    private final AtomicBuffer threadNames;
+
+    static BinaryDebugLogWriter mapNewFile(final String fileName, final int capacity)
+    {
+        final File file = new File(fileName);
+        IoUtil.deleteIfExists(file);
+        return new BinaryDebugLogWriter(new UnsafeBuffer(IoUtil.mapNewFile(file, fileLength(capacity))));
+    }
+
+    static int fileLength(final int capacity)
+    {
+        return capacity + TRAILER_LENGTH + THREAD_NAME_TABLE_LENGTH;
+    }
+
+    static AtomicBuffer ringBufferRegion(final AtomicBuffer buffer)
+    {
+        return new UnsafeBuffer(buffer, 0, buffer.capacity() - THREAD_NAME_TABLE_LENGTH);
+    }
+
+    static AtomicBuffer threadNameRegion(final AtomicBuffer buffer)
+    {
+        return new UnsafeBuffer(buffer, buffer.capacity() - THREAD_NAME_TABLE_LENGTH, THREAD_NAME_TABLE_LENGTH);
+    }
+
+    BinaryDebugLogWriter(final AtomicBuffer buffer)
+    {
+        ringBuffer = new ManyToOneRingBuffer(ringBufferRegion(buffer));
+        threadNames = threadNameRegion(buffer);
+    }
+
+    private void registerThreadName(final long threadId, final String threadName)
+    {
+        final AtomicBuffer threadNames = this.threadNames;
+        final int slot = threadNames.getAndAddInt(THREAD_NAME_COUNT_OFFSET, 1);
+        if (slot >= MAX_THREAD_NAMES)
+        {
+            // Records from any further threads are labelled with their thread id.
+            return;
+        }
+
+        final byte[] name = threadName.getBytes(StandardCharsets.UTF_8);
+        final int nameLength = Math.min(name.length, MAX_THREAD_NAME_LENGTH);
+        final int slotOffset = THREAD_NAME_SLOTS_OFFSET + slot * THREAD_NAME_SLOT_LENGTH;
+        threadNames.putBytes(slotOffset + SLOT_NAME_OFFSET, name, 0, nameLength);
+        threadNames.putInt(slotOffset + SLOT_NAME_LENGTH_OFFSET, nameLength);
+        threadNames.putLongOrdered(slotOffset + SLOT_THREAD_ID_OFFSET, threadId);
+    }
+
+    Record record(final LogTag tag)
+    {
+        return records.get().start(tag);
+    }
+
+    long droppedRecords()
+    {
+        return threadNames.getLongVolatile(DROPPED_RECORDS_OFFSET);
+    }
+
+    final class Record
+    {
+        private final ExpandableDirectByteBuffer buffer = new ExpandableDirectByteBuffer(INITIAL_RECORD_CAPACITY);
+        private final MessageHeaderEncoder messageHeader = new MessageHeaderEncoder();
+        private final long threadId;
+
+        private int length;
+
+        Record()
+        {
+            final Thread thread = Thread.currentThread();
+            threadId = thread.getId();
+            registerThreadName(threadId, thread.getName());
+        }
+
+        Record start(final LogTag tag)
+        {
+            final ExpandableDirectByteBuffer buffer = this.buffer;
+            buffer.putLong(TIMESTAMP_OFFSET, System.currentTimeMillis());
+            buffer.putLong(THREAD_ID_OFFSET, threadId);
+            buffer.putInt(TAG_OFFSET, tag.ordinal());
+            length = ARGUMENTS_OFFSET;
+            return this;
+        }
+
+        Record with(final long value)
+        {
+            final int length = this.length;
+            buffer.putByte(length, LONG_ARGUMENT);
+            buffer.putLong(length + SIZE_OF_BYTE, value);
+            this.length = length + SIZE_OF_BYTE + SIZE_OF_LONG;
+            return this;
+        }
+
+        Record with(final CharSequence value)
+        {
+            return putString(STRING_ARGUMENT, value);
+        }
+
+        /**
+         * Writes the format string of the formatter, arguments written after this are substituted into it.
+         *
+         * @param formatter the formatter whose format string should be written.
+         * @return this
+         */
+        Record format(final CharFormatter formatter)
+        {
+            return putString(FORMAT_ARGUMENT, formatter.formatString());
+        }
+
+        /**
+         * Writes the format string of the formatter along with the values that it has already been given.
+         *
+         * @param formatter the formatter whose format string and values should be written.
+         * @return this
+         */
+        Record formatted(final CharFormatter formatter)
+        {
+            format(formatter);
+
+            final int encodedSoFar = formatter.encodedSoFar();
+            for (int i = 0; i < encodedSoFar; i++)
+            {
+                final char[] value = formatter.value(i);
+                final int valueLength = formatter.valueLength(i);
+                final int argumentOffset = putArgumentHeader(STRING_ARGUMENT, 0);
+                int offset = argumentOffset;
+                for (int j = 0; j < valueLength; )
+                {
+                    final int codePoint = Character.codePointAt(value, j, valueLength);
+                    offset = putUtf8(offset, codePoint);
+                    j += Character.charCount(codePoint);
+                }
+                completeArgument(argumentOffset, offset);
+            }
+            return this;
+        }
+
+        Record withFixMessage(final DirectBuffer messageBuffer, final int offset, final int messageLength)
+        {
+            final int argumentOffset = putArgumentHeader(FIX_MESSAGE_ARGUMENT, messageLength);
+            buffer.putBytes(argumentOffset, messageBuffer, offset, messageLength);
+            return this;
+        }
+
+        /**
+         * Writes the next messageLength bytes of the byteBuffer, advancing its position like a relative get would.
+         *
+         * @param byteBuffer the buffer to copy from.
+         * @param messageLength the number of bytes to copy.
+         * @return this
+         */
+        Record withFixMessage(final ByteBuffer byteBuffer, final int messageLength)
+        {
+            final int position = byteBuffer.position();
+            final int argumentOffset = putArgumentHeader(FIX_MESSAGE_ARGUMENT, messageLength);
+            buffer.putBytes(argumentOffset, byteBuffer, position, messageLength);
+            byteBuffer.position(position + messageLength);
+            return this;
+        }
+
+        Record withBytes(final ByteBuffer byteBuffer, final int offset, final int bytesLength)
+        {
+            final int argumentOffset = putArgumentHeader(BYTES_ARGUMENT, bytesLength);
+            buffer.putBytes(argumentOffset, byteBuffer, offset, bytesLength);
+            return this;
+        }
+
+        Record withSbeMessage(
+            final DirectBuffer messageBuffer,
+            final int offset,
+            final int messageLength,
+            final int blockLength,
+            final int templateId,
+            final int schemaId,
+            final int version)
+        {
+            final int argumentOffset = putArgumentHeader(
+                SBE_MESSAGE_ARGUMENT, MessageHeaderEncoder.ENCODED_LENGTH + messageLength);
+            messageHeader
+                .wrap(buffer, argumentOffset)
+                .blockLength(blockLength)
+                .templateId(templateId)
+                .schemaId(schemaId)
+                .version(version);
+            buffer.putBytes(argumentOffset + MessageHeaderEncoder.ENCODED_LENGTH, messageBuffer, offset, messageLength);
+            return this;
+        }
+
+        void commit()
+        {
+            final ManyToOneRingBuffer ringBuffer = BinaryDebugLogWriter.this.ringBuffer;
+            final int length = this.length;
+            if (length > ringBuffer.maxMsgLength() || !ringBuffer.write(LOG_RECORD_TYPE_ID, buffer, 0, length))
+            {
+                threadNames.getAndAddLong(DROPPED_RECORDS_OFFSET, 1);
+            }
+        }
+
+        private Record putString(final byte type, final CharSequence value)
+        {
+            final int valueLength = value.length();
+            final int argumentOffset = putArgumentHeader(type, 0);
+            int offset = argumentOffset;
+            for (int i = 0; i < valueLength; )
+            {
+                final int codePoint = Character.codePointAt(value, i);
+                offset = putUtf8(offset, codePoint);
+                i += Character.charCount(codePoint);
+            }
+            completeArgument(argumentOffset, offset);
+            return this;
+        }
+
+        // Encodes without allocating, substituting '?' for unpaired surrogates as String.getBytes() does.
+        private int putUtf8(final int offset, final int codePoint)
+        {
+            final ExpandableDirectByteBuffer buffer = this.buffer;
+            if (codePoint < 0x80)
+            {
+                buffer.putByte(offset, (byte)codePoint);
+                return offset + 1;
+            }
+            else if (codePoint < 0x800)
+            {
+                buffer.putByte(offset, (byte)(0xC0 | (codePoint >> 6)));
+                buffer.putByte(offset + 1, (byte)(0x80 | (codePoint & 0x3F)));
+                return offset + 2;
+            }
+            else if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)
+            {
+                buffer.putByte(offset, (byte)'?');
+                return offset + 1;
+            }
+            else if (codePoint < 0x10000)
+            {
+                buffer.putByte(offset, (byte)(0xE0 | (codePoint >> 12)));
+                buffer.putByte(offset + 1, (byte)(0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.putByte(offset + 2, (byte)(0x80 | (codePoint & 0x3F)));
+                return offset + 3;
+            }
+            else
+            {
+                buffer.putByte(offset, (byte)(0xF0 | (codePoint >> 18)));
+                buffer.putByte(offset + 1, (byte)(0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.putByte(offset + 2, (byte)(0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.putByte(offset + 3, (byte)(0x80 | (codePoint & 0x3F)));
+                return offset + 4;
+            }
+        }
+
+        private void completeArgument(final int argumentOffset, final int endOffset)
+        {
+            buffer.putInt(argumentOffset - SIZE_OF_INT, endOffset - argumentOffset);
+            length = endOffset;
+        }
+
+        private int putArgumentHeader(final byte type, final int argumentLength)
+        {
+            final ExpandableDirectByteBuffer buffer = this.buffer;
+            final int length = this.length;
+            buffer.putByte(length, type);
+            buffer.putInt(length + SIZE_OF_BYTE, argumentLength);
+
+            final int argumentOffset = length + ARGUMENT_HEADER_LENGTH;
+            this.length = argumentOffset + argumentLength;
+            return argumentOffset;
+        }
+    }
+}
@@ -97,6 +97,16 @@ public class CommonConfiguration
      * Property name for the file to log debug messages to, default is standard output
      */
     public static final String DEBUG_FILE_PROPERTY = "fix.core.debug.file";
+    /**
+     * Property name for a memory mapped file to write debug logging to in a binary format. When this is set the
+     * arguments of each log call are copied into a ring buffer in the file rather than being formatted on the logging
+     * thread. Use {@link BinaryDebugLogReader} to format and print the log. Each process needs its own file.
+     */
+    public static final String DEBUG_BINARY_FILE_PROPERTY = "fix.core.debug.binary_file";
+    /**
+     * Property name for the capacity of the ring buffer in the binary debug logging file, must be a power of 2.
+     */
+    public static final String DEBUG_BINARY_FILE_CAPACITY_PROPERTY = "fix.core.debug.binary_file_capacity";
     /**
      * Property name for the implementation of {@link AbstractDebugAppender} to use in order
      * print debug logging. If none set then defaults to {@link PrintingDebugAppender}
@@ -181,6 +191,9 @@ public class CommonConfiguration
     }
 
     public static final String DEBUG_FILE = System.getProperty(DEBUG_FILE_PROPERTY);
+    public static final String DEBUG_BINARY_FILE = System.getProperty(DEBUG_BINARY_FILE_PROPERTY);
+    public static final int DEBUG_BINARY_FILE_CAPACITY =
+        Integer.getInteger(DEBUG_BINARY_FILE_CAPACITY_PROPERTY, DEFAULT_DEBUG_BINARY_FILE_CAPACITY);
     public static final String APPENDER_CLASS = System.getProperty(APPENDER_CLASS_PROPERTY);
     public static final boolean TIME_MESSAGES = Boolean.getBoolean(TIME_MESSAGES_PROPERTY);
     public static final boolean FORCE_WRITES = Boolean.getBoolean(FORCE_WRITES_MESSAGES_PROPERTY);
@@ -193,6 +206,7 @@ public class CommonConfiguration
     // ------------------------------------------------
 
     public static final int DEFAULT_MONITORING_BUFFER_LENGTH = 4 * 1024 * 1024;
+    public static final int DEFAULT_DEBUG_BINARY_FILE_CAPACITY = 16 * 1024 * 1024;
     public static final String DEFAULT_DIRECTORY = optimalTmpDirName() + File.separator + "fix-%s";
     public static final String DEFAULT_MONITORING_FILE = DEFAULT_DIRECTORY + File.separator + "monitoring";
 
@@ -33,10 +33,15 @@ import static uk.co.real_logic.artio.CommonConfiguration.*;
 /**
  * A logger purely for debug data. Not optimised for high performance logging, but all logging calls must be removable
  * by the optimiser.
+ *
+ * If {@link CommonConfiguration#DEBUG_BINARY_FILE} is set then the arguments of log calls are written to a ring buffer
+ * in that file instead of being formatted on the calling thread, see {@link BinaryDebugLogReader}.
  */
 public final class DebugLogger
 {
     private static final AbstractDebugAppender APPENDER;
+    private static final BinaryDebugLogWriter BINARY_LOG = DEBUG_PRINT_MESSAGES && DEBUG_BINARY_FILE != null ?
+        BinaryDebugLogWriter.mapNewFile(DEBUG_BINARY_FILE, DEBUG_BINARY_FILE_CAPACITY) : null;
     private static final ThreadLocal<ThreadLocalLogger> THREAD_LOCAL = ThreadLocal.withInitial(ThreadLocalLogger::new);
 
     static
@@ -59,7 +64,14 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().log(tag, formatter);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).formatted(formatter).commit();
+            }
+            else
+            {
+                THREAD_LOCAL.get().log(tag, formatter);
+            }
         }
     }
 
@@ -73,8 +85,15 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            formatter.clear().with(value);
-            THREAD_LOCAL.get().log(tag, formatter, buffer, offset, length);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).format(formatter).with(value).withFixMessage(buffer, offset, length).commit();
+            }
+            else
+            {
+                formatter.clear().with(value);
+                THREAD_LOCAL.get().log(tag, formatter, buffer, offset, length);
+            }
         }
     }
 
@@ -89,8 +108,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            formatter.clear().with(first).with(second);
-            THREAD_LOCAL.get().log(tag, formatter, buffer, offset, length);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).format(formatter).with(first).with(second)
+                    .withFixMessage(buffer, offset, length).commit();
+            }
+            else
+            {
+                formatter.clear().with(first).with(second);
+                THREAD_LOCAL.get().log(tag, formatter, buffer, offset, length);
+            }
         }
     }
 
@@ -103,7 +130,14 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().log(tag, formatter, buffer, offset, length);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).formatted(formatter).withFixMessage(buffer, offset, length).commit();
+            }
+            else
+            {
+                THREAD_LOCAL.get().log(tag, formatter, buffer, offset, length);
+            }
         }
     }
 
@@ -113,7 +147,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -123,7 +166,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -133,7 +185,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -143,7 +204,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -153,7 +223,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -163,7 +242,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -173,7 +261,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -183,7 +280,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -193,7 +299,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -203,7 +318,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -213,7 +337,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -223,7 +356,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -233,7 +375,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -243,7 +394,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -253,7 +413,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -263,7 +432,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -273,7 +451,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -283,7 +470,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -293,7 +489,35 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
+        }
+    }
+
+    public static void logSbeMessage(
+        final LogTag tag,
+        final ControlNotificationUnchangedEncoder encoder)
+    {
+        if (isEnabled(tag))
+        {
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -303,7 +527,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -313,7 +546,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -323,7 +565,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -333,7 +584,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -343,7 +603,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -353,7 +622,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -363,7 +641,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -373,7 +660,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -383,7 +679,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -393,7 +698,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -402,7 +716,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -411,7 +734,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -420,7 +752,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -429,7 +770,16 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            if (BINARY_LOG != null)
+            {
+                logBinarySbeMessage(
+                    tag, encoder.buffer(), encoder.initialOffset(), encoder.encodedLength(), encoder.sbeBlockLength(),
+                    encoder.sbeTemplateId(), encoder.sbeSchemaId(), encoder.sbeSchemaVersion());
+            }
+            else
+            {
+                THREAD_LOCAL.get().logSbeMessage(tag, encoder);
+            }
         }
     }
 
@@ -451,7 +801,14 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().log(tag, prefixString, buffer, offset, length);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).with(prefixString).withFixMessage(buffer, offset, length).commit();
+            }
+            else
+            {
+                THREAD_LOCAL.get().log(tag, prefixString, buffer, offset, length);
+            }
         }
     }
 
@@ -464,7 +821,14 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().logBytes(tag, prefixString, buffer, offset, length);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).with(prefixString).withBytes(buffer, offset, length).commit();
+            }
+            else
+            {
+                THREAD_LOCAL.get().logBytes(tag, prefixString, buffer, offset, length);
+            }
         }
     }
 
@@ -476,7 +840,14 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().log(tag, prefixString, byteBuffer, length);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).with(prefixString).withFixMessage(byteBuffer, length).commit();
+            }
+            else
+            {
+                THREAD_LOCAL.get().log(tag, prefixString, byteBuffer, length);
+            }
         }
     }
 
@@ -486,7 +857,14 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().log(tag, message);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).with(message).commit();
+            }
+            else
+            {
+                THREAD_LOCAL.get().log(tag, message);
+            }
         }
     }
 
@@ -497,7 +875,14 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            THREAD_LOCAL.get().log(tag, prefixString, suffixString);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).with(prefixString).with(suffixString).commit();
+            }
+            else
+            {
+                THREAD_LOCAL.get().log(tag, prefixString, suffixString);
+            }
         }
     }
 
@@ -509,8 +894,15 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            formatter.clear().with(first).with(second);
-            THREAD_LOCAL.get().log(tag, formatter);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).format(formatter).with(first).with(second).commit();
+            }
+            else
+            {
+                formatter.clear().with(first).with(second);
+                THREAD_LOCAL.get().log(tag, formatter);
+            }
         }
     }
 
@@ -521,8 +913,15 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            formatter.clear().with(first);
-            THREAD_LOCAL.get().log(tag, formatter);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).format(formatter).with(first).commit();
+            }
+            else
+            {
+                formatter.clear().with(first);
+                THREAD_LOCAL.get().log(tag, formatter);
+            }
         }
     }
 
@@ -534,8 +933,15 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            formatter.clear().with(first).with(second);
-            THREAD_LOCAL.get().log(tag, formatter);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).format(formatter).with(first).with(second).commit();
+            }
+            else
+            {
+                formatter.clear().with(first).with(second);
+                THREAD_LOCAL.get().log(tag, formatter);
+            }
         }
     }
 
@@ -548,8 +954,15 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            formatter.clear().with(first).with(second).with(third);
-            THREAD_LOCAL.get().log(tag, formatter);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).format(formatter).with(first).with(second).with(third).commit();
+            }
+            else
+            {
+                formatter.clear().with(first).with(second).with(third);
+                THREAD_LOCAL.get().log(tag, formatter);
+            }
         }
     }
 
@@ -562,8 +975,15 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            formatter.clear().with(first).with(second).with(third);
-            THREAD_LOCAL.get().log(tag, formatter);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).format(formatter).with(first).with(second).with(third).commit();
+            }
+            else
+            {
+                formatter.clear().with(first).with(second).with(third);
+                THREAD_LOCAL.get().log(tag, formatter);
+            }
         }
     }
 
@@ -576,8 +996,15 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            formatter.clear().with(first).with(second).with(third);
-            THREAD_LOCAL.get().log(tag, formatter);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).format(formatter).with(first).with(second).with(third).commit();
+            }
+            else
+            {
+                formatter.clear().with(first).with(second).with(third);
+                THREAD_LOCAL.get().log(tag, formatter);
+            }
         }
     }
 
@@ -591,8 +1018,15 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            formatter.clear().with(first).with(second).with(third).with(fourth);
-            THREAD_LOCAL.get().log(tag, formatter);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).format(formatter).with(first).with(second).with(third).with(fourth).commit();
+            }
+            else
+            {
+                formatter.clear().with(first).with(second).with(third).with(fourth);
+                THREAD_LOCAL.get().log(tag, formatter);
+            }
         }
     }
 
@@ -606,8 +1040,15 @@ public final class DebugLogger
     {
         if (isEnabled(tag))
         {
-            formatter.clear().with(first).with(second).with(third).with(fourth);
-            THREAD_LOCAL.get().log(tag, formatter);
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).format(formatter).with(first).with(second).with(third).with(fourth).commit();
+            }
+            else
+            {
+                formatter.clear().with(first).with(second).with(third).with(fourth);
+                THREAD_LOCAL.get().log(tag, formatter);
+            }
         }
     }
 
@@ -629,6 +1070,21 @@ public final class DebugLogger
         return Thread.currentThread().getName();
     }
 
+    // Takes the encoder's fields rather than the encoder, as Artio's codecs don't share a flyweight interface.
+    private static void logBinarySbeMessage(
+        final LogTag tag,
+        final DirectBuffer buffer,
+        final int offset,
+        final int encodedLength,
+        final int blockLength,
+        final int templateId,
+        final int schemaId,
+        final int version)
+    {
+        BINARY_LOG.record(tag).withSbeMessage(
+            buffer, offset, encodedLength, blockLength, templateId, schemaId, version).commit();
+    }
+
     private static void substituteSeparator(final byte[] data)
     {
         if (needsSeparatorSubstitution())
@@ -680,6 +1136,8 @@ public final class DebugLogger
         private final WriteMetaDataReplyDecoder writeMetaDataReply = new WriteMetaDataReplyDecoder();
         private final ReadMetaDataReplyDecoder readMetaDataReply = new ReadMetaDataReplyDecoder();
         private final ControlNotificationDecoder controlNotification = new ControlNotificationDecoder();
+        private final ControlNotificationUnchangedDecoder controlNotificationUnchanged =
+            new ControlNotificationUnchangedDecoder();
         private final SlowStatusNotificationDecoder slowStatusNotification = new SlowStatusNotificationDecoder();
         private final ResetLibrarySequenceNumberDecoder resetLibrarySequenceNumber =
             new ResetLibrarySequenceNumberDecoder();
@@ -976,6 +1434,20 @@ public final class DebugLogger
             finish(tag);
         }
 
+        public void logSbeMessage(
+            final LogTag tag,
+            final ControlNotificationUnchangedEncoder encoder)
+        {
+            appendStart();
+            controlNotificationUnchanged.wrap(
+                encoder.buffer(),
+                encoder.initialOffset(),
+                ControlNotificationUnchangedEncoder.BLOCK_LENGTH,
+                ControlNotificationUnchangedEncoder.SCHEMA_VERSION);
+            controlNotificationUnchanged.appendTo(builder);
+            finish(tag);
+        }
+
         public void logSbeMessage(
             final LogTag tag,
             final SlowStatusNotificationEncoder encoder)
@@ -1312,6 +1784,12 @@ public final class DebugLogger
         private void finish(final LogTag tag)
         {
             final StringBuilder builder = this.builder;
+            if (BINARY_LOG != null)
+            {
+                BINARY_LOG.record(tag).with(builder).commit();
+                return;
+            }
+
             builder.append(System.lineSeparator());
             appender.log(tag, builder);
         }
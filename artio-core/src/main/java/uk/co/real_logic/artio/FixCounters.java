@@ -39,7 +39,11 @@ public class FixCounters implements AutoCloseable
         INVALID_LIBRARY_ATTEMPTS_TYPE_ID(10_005),
         SENT_MSG_SEQ_NO_TYPE_ID(10_006),
         RECV_MSG_SEQ_NO_TYPE_ID(10_007),
-        CURRENT_REPLAY_COUNT_TYPE_ID(10_008);
+        CURRENT_REPLAY_COUNT_TYPE_ID(10_008),
+        REPLAY_CACHE_HITS_TYPE_ID(10_009),
+        REPLAY_CACHE_MISSES_TYPE_ID(10_010),
+        INDEX_FLUSH_LATENCY_TYPE_ID(10_011),
+        INDEX_FLUSH_MAX_LATENCY_TYPE_ID(10_012);
 
         final int id;
 
@@ -59,6 +63,10 @@ public class FixCounters implements AutoCloseable
     private final AtomicCounter failedOutboundPublications;
     private final AtomicCounter failedReplayPublications;
     private final AtomicCounter currentReplayCount;
+    private final AtomicCounter replayCacheHits;
+    private final AtomicCounter replayCacheMisses;
+    private final AtomicCounter indexFlushLatencyInNs;
+    private final AtomicCounter indexFlushMaxLatencyInNs;
     private final Aeron aeron;
 
     public static IntHashSet lookupCounterIds(
@@ -92,10 +100,22 @@ public class FixCounters implements AutoCloseable
         {
             currentReplayCount = newCounter(FixCountersId.CURRENT_REPLAY_COUNT_TYPE_ID.id(),
                 "Current Replay Count");
+            replayCacheHits = newCounter(FixCountersId.REPLAY_CACHE_HITS_TYPE_ID.id(),
+                "Replay Cache Hits");
+            replayCacheMisses = newCounter(FixCountersId.REPLAY_CACHE_MISSES_TYPE_ID.id(),
+                "Replay Cache Misses");
+            indexFlushLatencyInNs = newCounter(FixCountersId.INDEX_FLUSH_LATENCY_TYPE_ID.id(),
+                "Index Flush Latency ns");
+            indexFlushMaxLatencyInNs = newCounter(FixCountersId.INDEX_FLUSH_MAX_LATENCY_TYPE_ID.id(),
+                "Index Flush Max Latency ns");
         }
         else
         {
             currentReplayCount = null;
+            replayCacheHits = null;
+            replayCacheMisses = null;
+            indexFlushLatencyInNs = null;
+            indexFlushMaxLatencyInNs = null;
         }
     }
 
@@ -119,6 +139,26 @@ public class FixCounters implements AutoCloseable
         return currentReplayCount;
     }
 
+    public AtomicCounter replayCacheHits()
+    {
+        return replayCacheHits;
+    }
+
+    public AtomicCounter replayCacheMisses()
+    {
+        return replayCacheMisses;
+    }
+
+    public AtomicCounter indexFlushLatencyInNs()
+    {
+        return indexFlushLatencyInNs;
+    }
+
+    public AtomicCounter indexFlushMaxLatencyInNs()
+    {
+        return indexFlushMaxLatencyInNs;
+    }
+
     public AtomicCounter messagesRead(final long connectionId, final String address)
     {
         return newCounter(FixCountersId.MESSAGES_READ_TYPE_ID.id(),
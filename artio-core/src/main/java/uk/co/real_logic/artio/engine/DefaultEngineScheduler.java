@@ -32,6 +32,7 @@ public class DefaultEngineScheduler implements EngineScheduler
 {
     private AgentRunner framerRunner;
     private AgentRunner archivingRunner;
+    private AgentRunner indexFileFlusherRunner;
     private AgentRunner monitoringRunner;
     private RecordingCoordinator recordingCoordinator;
 
@@ -43,6 +44,27 @@ public class DefaultEngineScheduler implements EngineScheduler
         final Agent monitoringAgent,
         final Agent conductorAgent,
         final RecordingCoordinator recordingCoordinator)
+    {
+        launch(
+            configuration,
+            errorHandler,
+            framer,
+            indexingAgent,
+            null,
+            monitoringAgent,
+            conductorAgent,
+            recordingCoordinator);
+    }
+
+    public void launch(
+        final EngineConfiguration configuration,
+        final ErrorHandler errorHandler,
+        final Agent framer,
+        final Agent indexingAgent,
+        final Agent indexFileFlusher,
+        final Agent monitoringAgent,
+        final Agent conductorAgent,
+        final RecordingCoordinator recordingCoordinator)
     {
         this.recordingCoordinator = recordingCoordinator;
         if (framerRunner != null)
@@ -59,6 +81,13 @@ public class DefaultEngineScheduler implements EngineScheduler
         startOnThread(framerRunner, threadFactory);
         startOnThread(archivingRunner, threadFactory);
 
+        if (indexFileFlusher != null)
+        {
+            indexFileFlusherRunner = new AgentRunner(
+                configuration.indexFileFlusherIdleStrategy(), errorHandler, null, indexFileFlusher);
+            startOnThread(indexFileFlusherRunner, threadFactory);
+        }
+
         if (monitoringAgent != null)
         {
             monitoringRunner = new AgentRunner(
@@ -74,9 +103,11 @@ public class DefaultEngineScheduler implements EngineScheduler
     {
         EngineScheduler.awaitRunnerStart(framerRunner);
         EngineScheduler.awaitRunnerStart(archivingRunner);
+        EngineScheduler.awaitRunnerStart(indexFileFlusherRunner);
         EngineScheduler.awaitRunnerStart(monitoringRunner);
 
-        Exceptions.closeAll(framerRunner, archivingRunner, recordingCoordinator, monitoringRunner);
+        Exceptions.closeAll(
+            framerRunner, archivingRunner, indexFileFlusherRunner, recordingCoordinator, monitoringRunner);
     }
 
     public void configure(final Aeron.Context aeronContext)
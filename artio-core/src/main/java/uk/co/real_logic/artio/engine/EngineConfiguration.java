@@ -71,6 +71,10 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
      * Property name for size of logging index files
      */
     public static final String REPLAY_INDEX_FILE_SIZE_PROP = "logging.index.size";
+    /**
+     * Property name for the initial size of logging index files
+     */
+    public static final String REPLAY_INDEX_INITIAL_FILE_SIZE_PROP = "logging.index.initial_size";
 
     // Care needs to be taken when setting the fragment limits, and buffer sizes
     // The inbound bytes received and buffer sizes should always be set low enough
@@ -117,6 +121,10 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
      * Property name for the timeout before a connection that hasn't sent a logon is disconnected
      */
     public static final String NO_LOGON_DISCONNECT_TIMEOUT_PROP = "fix.core.no_logon_disconnect";
+    /**
+     * Property name for the maximum number of TCP connections to accept in a single duty cycle
+     */
+    public static final String MAX_ACCEPTS_PER_POLL_PROP = "fix.core.max_accepts_per_poll";
 
     // ------------------------------------------------
     //          Configuration Defaults
@@ -124,6 +132,7 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
 
     public static final String DEFAULT_LOG_FILE_DIR = "logs";
     public static final int DEFAULT_REPLAY_INDEX_FILE_SIZE = 2 * 1024 * 1024 + INITIAL_RECORD_OFFSET;
+    public static final int DEFAULT_REPLAY_INDEX_INITIAL_FILE_SIZE = 64 * 1024 + INITIAL_RECORD_OFFSET;
     public static final int DEFAULT_LOGGER_CACHE_NUM_SETS = 8;
     public static final int DEFAULT_LOGGER_CACHE_SET_SIZE = 4;
 
@@ -138,6 +147,7 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
     public static final int DEFAULT_SENDER_MAX_BYTES_IN_BUFFER = 4 * 1024 * 1024;
     public static final int DEFAULT_REPLAY_POSITION_BUFFER_SIZE = 4 * 1024;
     public static final int DEFAULT_NO_LOGON_DISCONNECT_TIMEOUT = (int)SECONDS.toMillis(5);
+    public static final int DEFAULT_MAX_ACCEPTS_PER_POLL = 64;
     public static final String DEFAULT_SESSION_ID_FILE = "session_id_buffer";
     public static final String DEFAULT_ILINK3_ID_FILE = "ilink3_id_buffer";
     public static final String DEFAULT_SEQUENCE_NUMBERS_SENT_FILE = "sequence_numbers_sent";
@@ -153,6 +163,8 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
     public static final long DEFAULT_INDEX_FILE_STATE_FLUSH_TIMEOUT_IN_MS = 10_000;
     public static final long DEFAULT_AUTHENTICATION_TIMEOUT_IN_MS = 60_000;
     public static final int DEFAULT_MAX_CONCURRENT_SESSION_REPLAYS = 5;
+    public static final int DEFAULT_REPLAY_CACHE_MESSAGES_PER_SESSION = 0;
+    public static final int DEFAULT_REPLAY_CACHE_BYTES_PER_SESSION = 64 * 1024;
 
     static
     {
@@ -175,6 +187,8 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
     private String host = null;
     private int port;
     private int replayIndexFileSize = getInteger(REPLAY_INDEX_FILE_SIZE_PROP, DEFAULT_REPLAY_INDEX_FILE_SIZE);
+    private int replayIndexInitialFileSize = getInteger(
+        REPLAY_INDEX_INITIAL_FILE_SIZE_PROP, DEFAULT_REPLAY_INDEX_INITIAL_FILE_SIZE);
     private String logFileDir = getProperty(LOG_FILE_DIR_PROP, DEFAULT_LOG_FILE_DIR);
     private int loggerCacheNumSets = DEFAULT_LOGGER_CACHE_NUM_SETS;
     private int loggerCacheSetSize = DEFAULT_LOGGER_CACHE_SET_SIZE;
@@ -183,6 +197,7 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
     private boolean printStartupWarnings = true;
     private IdleStrategy framerIdleStrategy = backoffIdleStrategy();
     private IdleStrategy archiverIdleStrategy = backoffIdleStrategy();
+    private IdleStrategy indexFileFlusherIdleStrategy = backoffIdleStrategy();
     private AtomicBuffer sentSequenceNumberBuffer;
     private AtomicBuffer receivedSequenceNumberBuffer;
     private MappedFile sentSequenceNumberIndex;
@@ -214,6 +229,8 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
         getInteger(SENDER_MAX_BYTES_IN_BUFFER_PROP, DEFAULT_SENDER_MAX_BYTES_IN_BUFFER);
     private int noLogonDisconnectTimeoutInMs =
         getInteger(NO_LOGON_DISCONNECT_TIMEOUT_PROP, DEFAULT_NO_LOGON_DISCONNECT_TIMEOUT);
+    private int maxAcceptsPerPoll =
+        getInteger(MAX_ACCEPTS_PER_POLL_PROP, DEFAULT_MAX_ACCEPTS_PER_POLL);
 
     private String libraryAeronChannel = null;
     private Function<EngineConfiguration, TcpChannelSupplier> channelSupplierFactory = DefaultTcpChannelSupplier::new;
@@ -230,6 +247,7 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
     private InitialAcceptedSessionOwner initialAcceptedSessionOwner = InitialAcceptedSessionOwner.ENGINE;
     private AuthenticationStrategy authenticationStrategy = AuthenticationStrategy.none();
     private long indexFileStateFlushTimeoutInMs = DEFAULT_INDEX_FILE_STATE_FLUSH_TIMEOUT_IN_MS;
+    private boolean asyncIndexFileFlush = false;
     private FixDictionary acceptorfixDictionary;
     private boolean lookupDefaultAcceptorfixDictionary = true;
     private final Map<String, FixDictionary> acceptorFixDictionaryOverrides = new HashMap<>();
@@ -239,6 +257,8 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
     private int initialSequenceIndex = DEFAULT_INITIAL_SEQUENCE_INDEX;
     private MessageTimingHandler messageTimingHandler = null;
     private int maxConcurrentSessionReplays = DEFAULT_MAX_CONCURRENT_SESSION_REPLAYS;
+    private int replayCacheMessagesPerSession = DEFAULT_REPLAY_CACHE_MESSAGES_PER_SESSION;
+    private int replayCacheBytesPerSession = DEFAULT_REPLAY_CACHE_BYTES_PER_SESSION;
     private int replayPositionBufferSize = DEFAULT_REPLAY_POSITION_BUFFER_SIZE;
 
     /**
@@ -303,6 +323,21 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
         return this;
     }
 
+    /**
+     * Sets the maximum number of TCP connections that are accepted when the listening socket is polled. Accepting
+     * several pending connections at once stops a burst of reconnects from having to wait for a separate duty cycle
+     * each.
+     *
+     * @param maxAcceptsPerPoll the maximum number of TCP connections that are accepted per poll.
+     * @return this
+     * @see EngineConfiguration#MAX_ACCEPTS_PER_POLL_PROP
+     */
+    public EngineConfiguration maxAcceptsPerPoll(final int maxAcceptsPerPoll)
+    {
+        this.maxAcceptsPerPoll = maxAcceptsPerPoll;
+        return this;
+    }
+
     /**
      * Sets the sender socket buffer size.
      *
@@ -345,6 +380,23 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
         return this;
     }
 
+    /**
+     * Sets the initial size of index files. Index files start at this size and double in size whenever they fill
+     * up, until they reach the size set by {@link #replayIndexFileSize(int)}, so sessions that only send a few
+     * messages don't allocate the full index. It follows the same formula as
+     * {@link #replayIndexFileSize(int)} and is capped at that size.
+     *
+     * @param initialIndexFileSize the initial size of index files.
+     * @return this
+     * @see EngineConfiguration#REPLAY_INDEX_INITIAL_FILE_SIZE_PROP
+     * @see EngineConfiguration#DEFAULT_REPLAY_INDEX_INITIAL_FILE_SIZE
+     */
+    public EngineConfiguration replayIndexInitialFileSize(final int initialIndexFileSize)
+    {
+        this.replayIndexInitialFileSize = initialIndexFileSize;
+        return this;
+    }
+
     /**
      * Sets the set size of the logger's caches.
      * <p>
@@ -444,6 +496,20 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
         return this;
     }
 
+    /**
+     * Sets the idle strategy for the agent that flushes index files when {@link #asyncIndexFileFlush(boolean)} is
+     * enabled. Only used by schedulers that run the agent on its own thread, such as the
+     * {@link DefaultEngineScheduler}.
+     *
+     * @param indexFileFlusherIdleStrategy the idle strategy for the index file flusher.
+     * @return this
+     */
+    public EngineConfiguration indexFileFlusherIdleStrategy(final IdleStrategy indexFileFlusherIdleStrategy)
+    {
+        this.indexFileFlusherIdleStrategy = indexFileFlusherIdleStrategy;
+        return this;
+    }
+
     /**
      * Sets the fragment limit for the subscription to outbound messages from libraries.
      *
@@ -676,6 +742,27 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
         return this;
     }
 
+    /**
+     * Sets whether the sequence number index files are forced to disk on a background thread rather than on the
+     * indexing thread. This stops the indexers from stalling on an fsync, at the cost of the index files on disk
+     * lagging the indexed position by up to one more flush. Flushes of the sent and received sequence number indices
+     * are committed together. The time taken by each flush is recorded in the index flush latency counters.
+     *
+     * The flushing agent is handed to the {@link EngineScheduler}, the {@link DefaultEngineScheduler} runs it on its
+     * own thread using the {@link #indexFileFlusherIdleStrategy(IdleStrategy)}.
+     *
+     * Ignored on Windows, where the index files have to be remapped on the indexing thread when they're flushed.
+     *
+     * @param asyncIndexFileFlush true to flush index files on a background thread, false by default.
+     * @return this
+     * @see #indexFileStateFlushTimeoutInMs(long)
+     */
+    public EngineConfiguration asyncIndexFileFlush(final boolean asyncIndexFileFlush)
+    {
+        this.asyncIndexFileFlush = asyncIndexFileFlush;
+        return this;
+    }
+
     /**
      * Specify a single acceptor FIX Dictionary. If an override for a given FIX version is specified using
      * {@link #overrideAcceptorFixDictionary(Class)} then this FIX Dictionary will be used as a catch-all for any
@@ -773,6 +860,33 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
         return this;
     }
 
+    /**
+     * Sets the maximum number of each session's most recently sent messages that are kept in memory in order to
+     * answer resend requests without replaying them from the archive. The cache is disabled by default.
+     *
+     * @param replayCacheMessagesPerSession the maximum number of messages cached per session, 0 disables the cache.
+     * @return this
+     * @see #replayCacheBytesPerSession(int)
+     */
+    public EngineConfiguration replayCacheMessagesPerSession(final int replayCacheMessagesPerSession)
+    {
+        this.replayCacheMessagesPerSession = replayCacheMessagesPerSession;
+        return this;
+    }
+
+    /**
+     * Sets the size of the off-heap buffer that each session's most recently sent messages are cached in when
+     * {@link #replayCacheMessagesPerSession(int)} is set. Messages are evicted when either limit is reached.
+     *
+     * @param replayCacheBytesPerSession the size of each session's cache buffer in bytes.
+     * @return this
+     */
+    public EngineConfiguration replayCacheBytesPerSession(final int replayCacheBytesPerSession)
+    {
+        this.replayCacheBytesPerSession = replayCacheBytesPerSession;
+        return this;
+    }
+
     public EngineConfiguration replayPositionBufferSize(final int replayPositionBufferSize)
     {
         this.replayPositionBufferSize = replayPositionBufferSize;
@@ -794,6 +908,11 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
         return senderSocketBufferSize;
     }
 
+    public int maxAcceptsPerPoll()
+    {
+        return maxAcceptsPerPoll;
+    }
+
     public boolean hasBindAddress()
     {
         return host != null;
@@ -819,6 +938,11 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
         return replayIndexFileSize;
     }
 
+    public int replayIndexInitialFileSize()
+    {
+        return replayIndexInitialFileSize;
+    }
+
     public int loggerCacheSetSize()
     {
         return loggerCacheSetSize;
@@ -864,6 +988,11 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
         return archiverIdleStrategy;
     }
 
+    public IdleStrategy indexFileFlusherIdleStrategy()
+    {
+        return indexFileFlusherIdleStrategy;
+    }
+
     public int outboundLibraryFragmentLimit()
     {
         return outboundLibraryFragmentLimit;
@@ -963,6 +1092,11 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
         return indexFileStateFlushTimeoutInMs;
     }
 
+    public boolean asyncIndexFileFlush()
+    {
+        return asyncIndexFileFlush;
+    }
+
     public FixDictionary acceptorfixDictionary()
     {
         return acceptorfixDictionary;
@@ -993,6 +1127,16 @@ public final class EngineConfiguration extends CommonConfiguration implements Au
         return maxConcurrentSessionReplays;
     }
 
+    public int replayCacheMessagesPerSession()
+    {
+        return replayCacheMessagesPerSession;
+    }
+
+    public int replayCacheBytesPerSession()
+    {
+        return replayCacheBytesPerSession;
+    }
+
     public int replayPositionBufferSize()
     {
         return replayPositionBufferSize;
@@ -63,6 +63,7 @@ public class EngineContext implements AutoCloseable
     private final ExclusivePublication replayPublication;
     private final SequenceNumberIndexWriter sentSequenceNumberIndex;
     private final SequenceNumberIndexWriter receivedSequenceNumberIndex;
+    private IndexFileFlusher indexFileFlusher;
 
     private Streams inboundLibraryStreams;
     private Streams outboundLibraryStreams;
@@ -73,6 +74,7 @@ public class EngineContext implements AutoCloseable
     private Agent indexingAgent;
     private ReplayQuery pruneInboundReplayQuery;
     private ReplayQuery outboundReplayQuery;
+    private ReplayCache replayCache;
     private FramerContext framerContext;
 
     EngineContext(
@@ -100,6 +102,7 @@ public class EngineContext implements AutoCloseable
         {
             final EpochClock epochClock = new SystemEpochClock();
             final Long2LongHashMap connectionIdToILinkUuid = new Long2LongHashMap(UNK_SESSION);
+            newIndexFileFlusher();
             sentSequenceNumberIndex = new SequenceNumberIndexWriter(
                 configuration.sentSequenceNumberBuffer(),
                 configuration.sentSequenceNumberIndex(),
@@ -109,7 +112,8 @@ public class EngineContext implements AutoCloseable
                 configuration.indexFileStateFlushTimeoutInMs(),
                 epochClock,
                 configuration.logFileDir(),
-                connectionIdToILinkUuid);
+                connectionIdToILinkUuid,
+                indexFileFlusher);
             receivedSequenceNumberIndex = new SequenceNumberIndexWriter(
                 configuration.receivedSequenceNumberBuffer(),
                 configuration.receivedSequenceNumberIndex(),
@@ -119,7 +123,8 @@ public class EngineContext implements AutoCloseable
                 configuration.indexFileStateFlushTimeoutInMs(),
                 epochClock,
                 null,
-                connectionIdToILinkUuid);
+                connectionIdToILinkUuid,
+                indexFileFlusher);
 
             newStreams();
             newArchivingAgent();
@@ -134,6 +139,18 @@ public class EngineContext implements AutoCloseable
         }
     }
 
+    private void newIndexFileFlusher()
+    {
+        if (configuration.asyncIndexFileFlush())
+        {
+            indexFileFlusher = new IndexFileFlusher(
+                errorHandler,
+                fixCounters.indexFlushLatencyInNs(),
+                fixCounters.indexFlushMaxLatencyInNs(),
+                configuration.agentNamePrefix());
+        }
+    }
+
     private void newStreams()
     {
         final String libraryAeronChannel = configuration.libraryAeronChannel();
@@ -171,6 +188,7 @@ public class EngineContext implements AutoCloseable
             logFileDir,
             streamId,
             configuration.replayIndexFileSize(),
+            configuration.replayIndexInitialFileSize(),
             cacheNumSets,
             cacheSetSize,
             LoggerUtil::map,
@@ -200,7 +218,7 @@ public class EngineContext implements AutoCloseable
     }
 
     private Replayer newReplayer(
-        final ExclusivePublication replayPublication, final ReplayQuery replayQuery)
+        final ExclusivePublication replayPublication, final ReplayQuery replayQuery, final ReplayCache replayCache)
     {
         final EpochFractionFormat epochFractionFormat = configuration.sessionEpochFractionFormat();
         return new Replayer(
@@ -221,7 +239,8 @@ public class EngineContext implements AutoCloseable
             replayerCommandQueue,
             epochFractionFormat,
             fixCounters.currentReplayCount(),
-            configuration.maxConcurrentSessionReplays());
+            configuration.maxConcurrentSessionReplays(),
+            replayCache);
     }
 
     private void newIndexers()
@@ -259,6 +278,21 @@ public class EngineContext implements AutoCloseable
             connectionIdToILinkUuid));
         outboundIndices.add(sentSequenceNumberIndex);
 
+        final int replayCacheMessagesPerSession = configuration.replayCacheMessagesPerSession();
+        if (replayCacheMessagesPerSession > 0)
+        {
+            replayCache = new ReplayCache(
+                configuration.outboundLibraryStream(),
+                replayCacheMessagesPerSession,
+                configuration.replayCacheBytesPerSession(),
+                cacheNumSets,
+                cacheSetSize,
+                errorHandler,
+                fixCounters.replayCacheHits(),
+                fixCounters.replayCacheMisses());
+            outboundIndices.add(replayCache);
+        }
+
         outboundIndexer = new Indexer(
             outboundIndices,
             outboundLibraryStreams.subscription("outboundIndexer"),
@@ -278,7 +312,7 @@ public class EngineContext implements AutoCloseable
 
             outboundReplayQuery = newReplayQuery(
                 configuration.archiverIdleStrategy(), configuration.outboundLibraryStream());
-            final Replayer replayer = newReplayer(replayPublication, outboundReplayQuery);
+            final Replayer replayer = newReplayer(replayPublication, outboundReplayQuery, replayCache);
 
             final List<Agent> agents = new ArrayList<>();
             agents.add(inboundIndexer);
@@ -363,6 +397,11 @@ public class EngineContext implements AutoCloseable
         return indexingAgent;
     }
 
+    Agent indexFileFlusher()
+    {
+        return indexFileFlusher;
+    }
+
     public SenderSequenceNumbers senderSequenceNumbers()
     {
         return senderSequenceNumbers;
@@ -348,6 +348,7 @@ public final class FixEngine extends GatewayProcess
             errorHandler,
             framerContext.framer(),
             engineContext.indexingAgent(),
+            engineContext.indexFileFlusher(),
             monitoringAgent,
             conductorAgent(),
             recordingCoordinator);
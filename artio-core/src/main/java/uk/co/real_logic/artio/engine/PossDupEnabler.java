@@ -72,6 +72,8 @@ public class PossDupEnabler
     private final LogTag logTag;
 
     private int fragmentedMessageLength;
+    // Change to the checksum caused by the bytes altered so far, so that it doesn't need recomputing from scratch
+    private int checksumDelta;
 
     public interface Claimer
     {
@@ -110,6 +112,7 @@ public class PossDupEnabler
         final int metaDataAdjustment)
     {
         parser.onMessage(srcBuffer, messageOffset, messageLength);
+        checksumDelta = 0;
         final int possDupSrcOffset = possDupFinder.possDupOffset();
         if (possDupSrcOffset == NO_ENTRY)
         {
@@ -172,6 +175,7 @@ public class PossDupEnabler
                 writeBuffer.putBytes(writeOffset, srcBuffer, messageOffset, messageLength);
                 setPossDupFlag(possDupSrcOffset, messageOffset, writeOffset, writeBuffer);
                 updateSendingTime(messageOffset);
+                updateChecksum(messageOffset, writeOffset);
 
                 return commit(false);
             }
@@ -334,6 +338,7 @@ public class PossDupEnabler
 
         // Insert the rest of the message
         final int remainingClaimOffset = separatorClaimOffset + SEPARATOR_LENGTH;
+        checksumDelta += checksumOf(writeBuffer, possDupClaimOffset, remainingClaimOffset - possDupClaimOffset);
         final int remainingLength = srcLength - lengthToPossDup;
         writeBuffer.putBytes(remainingClaimOffset, srcBuffer, sendingTimeSrcEnd, remainingLength);
 
@@ -357,7 +362,9 @@ public class PossDupEnabler
 
         final int sendingTimeClaimOffset = srcToClaim(sendingTimeOffset, srcOffset, claimOffset);
         utcTimestampEncoder.encodeFrom(clock.time(), TimeUnit.MILLISECONDS);
+        checksumDelta -= checksumOf(claimBuffer, sendingTimeClaimOffset, sendingTimeLength);
         claimBuffer.putBytes(sendingTimeClaimOffset, utcTimestampEncoder.buffer(), 0, sendingTimeLength);
+        checksumDelta += checksumOf(claimBuffer, sendingTimeClaimOffset, sendingTimeLength);
     }
 
     private void updateFrameBodyLength(
@@ -389,6 +396,8 @@ public class PossDupEnabler
         final int lengthOfNewBodyLength = MutableAsciiBuffer.lengthInAscii(newBodyLength);
 
         final int lengthChange = lengthOfNewBodyLength - lengthOfOldBodyLength;
+        checksumDelta -= mutableAsciiFlyweight.computeChecksum(
+            bodyLengthClaimOffset, bodyLengthClaimOffset + lengthOfOldBodyLength);
         if (lengthChange > 0)
         {
             final int index = bodyLengthClaimOffset + lengthChange;
@@ -402,6 +411,8 @@ public class PossDupEnabler
         final int lengthOfUpdatedBodyLengthField = Math.max(lengthOfOldBodyLength, lengthOfNewBodyLength);
         mutableAsciiFlyweight.putNaturalPaddedIntAscii(
             bodyLengthClaimOffset, lengthOfUpdatedBodyLengthField, newBodyLength);
+        checksumDelta += mutableAsciiFlyweight.computeChecksum(
+            bodyLengthClaimOffset, bodyLengthClaimOffset + lengthOfUpdatedBodyLengthField);
         // END Update body length
 
         final int beforeChecksum = bodyLengthClaimOffset + lengthOfUpdatedBodyLengthField + newBodyLength;
@@ -410,14 +421,50 @@ public class PossDupEnabler
 
     private void updateChecksum(final int messageClaimOffset, final int beforeChecksum, final int messageEndOffset)
     {
-        final int lengthOfSeparator = 1;
-        final int checksumEnd = beforeChecksum + lengthOfSeparator;
-        final int checksum = mutableAsciiFlyweight.computeChecksum(messageClaimOffset, checksumEnd);
+        final int checksum;
+        if (hasChecksumToAdjust())
+        {
+            checksum = adjustedChecksum();
+        }
+        else
+        {
+            final int lengthOfSeparator = 1;
+            final int checksumEnd = beforeChecksum + lengthOfSeparator;
+            checksum = mutableAsciiFlyweight.computeChecksum(messageClaimOffset, checksumEnd);
+        }
         final int checksumValueOffset = messageEndOffset - (CHECKSUM_VALUE_LENGTH + SEPARATOR_LENGTH);
         mutableAsciiFlyweight.putNaturalPaddedIntAscii(checksumValueOffset, CHECKSUM_VALUE_LENGTH, checksum);
         mutableAsciiFlyweight.putSeparator(checksumValueOffset + CHECKSUM_VALUE_LENGTH);
     }
 
+    // Used when the fields have been updated in place, so the checksum field hasn't moved
+    private void updateChecksum(final int messageOffset, final int claimOffset)
+    {
+        if (hasChecksumToAdjust())
+        {
+            final int checksumClaimOffset = srcToClaim(possDupFinder.checksumOffset(), messageOffset, claimOffset);
+            mutableAsciiFlyweight.wrap(writeBuffer());
+            mutableAsciiFlyweight.putNaturalPaddedIntAscii(
+                checksumClaimOffset, CHECKSUM_VALUE_LENGTH, adjustedChecksum());
+        }
+    }
+
+    private boolean hasChecksumToAdjust()
+    {
+        return possDupFinder.checksumLength() == CHECKSUM_VALUE_LENGTH;
+    }
+
+    private int adjustedChecksum()
+    {
+        return (possDupFinder.checksum() + checksumDelta) & 0xFF;
+    }
+
+    private int checksumOf(final MutableDirectBuffer buffer, final int offset, final int length)
+    {
+        mutableAsciiFlyweight.wrap(buffer);
+        return mutableAsciiFlyweight.computeChecksum(offset, offset + length);
+    }
+
     private void setPossDupFlag(
         final int possDupSrcOffset,
         final int messageOffset,
@@ -426,6 +473,7 @@ public class PossDupEnabler
     {
         final int possDupClaimOffset = srcToClaim(possDupSrcOffset, messageOffset, claimOffset);
         mutableAsciiFlyweight.wrap(claimBuffer);
+        checksumDelta += 'Y' - mutableAsciiFlyweight.getByte(possDupClaimOffset);
         mutableAsciiFlyweight.putChar(possDupClaimOffset, 'Y');
     }
 
@@ -34,6 +34,9 @@ public class PossDupFinder implements OtfMessageAcceptor
     private int lengthOfBodyLength;
     private int origSendingTimeOffset;
     private int origSendingTimeLength;
+    private int checksum;
+    private int checksumOffset;
+    private int checksumLength;
 
     public MessageControl onNext()
     {
@@ -45,6 +48,9 @@ public class PossDupFinder implements OtfMessageAcceptor
         bodyLength = NO_ENTRY;
         bodyLengthOffset = NO_ENTRY;
         lengthOfBodyLength = NO_ENTRY;
+        checksum = NO_ENTRY;
+        checksumOffset = NO_ENTRY;
+        checksumLength = NO_ENTRY;
         return MessageControl.CONTINUE;
     }
 
@@ -71,6 +77,12 @@ public class PossDupFinder implements OtfMessageAcceptor
                 lengthOfBodyLength = length;
                 bodyLength = buffer.getInt(offset, offset + length);
                 break;
+
+            case SessionConstants.CHECKSUM:
+                checksumOffset = offset;
+                checksumLength = length;
+                checksum = buffer.getInt(offset, offset + length);
+                break;
         }
         return MessageControl.CONTINUE;
     }
@@ -148,4 +160,19 @@ public class PossDupFinder implements OtfMessageAcceptor
     {
         return lengthOfBodyLength;
     }
+
+    int checksum()
+    {
+        return checksum;
+    }
+
+    int checksumOffset()
+    {
+        return checksumOffset;
+    }
+
+    int checksumLength()
+    {
+        return checksumLength;
+    }
 }
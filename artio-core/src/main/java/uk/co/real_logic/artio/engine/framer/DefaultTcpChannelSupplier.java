@@ -2,6 +2,8 @@ package uk.co.real_logic.artio.engine.framer;
 
 import org.agrona.CloseHelper;
 import org.agrona.LangUtil;
+import org.agrona.nio.NioSelectedKeySet;
+import org.agrona.nio.TransportPoller;
 import uk.co.real_logic.artio.engine.EngineConfiguration;
 
 import java.io.IOException;
@@ -24,16 +26,20 @@ public class DefaultTcpChannelSupplier extends TcpChannelSupplier
     private final boolean hasBindAddress;
     private final Set<SocketChannel> openingSocketChannels = new HashSet<>();
 
-    private Selector selector;
+    private final SelectorPoller poller;
+    private final Selector selector;
+    private final int maxAcceptsPerPoll;
     private ServerSocketChannel listeningChannel;
 
     public DefaultTcpChannelSupplier(final EngineConfiguration configuration)
     {
         hasBindAddress = configuration.hasBindAddress();
         this.configuration = configuration;
+        maxAcceptsPerPoll = configuration.maxAcceptsPerPoll();
+        poller = new SelectorPoller();
+        selector = poller.selector();
         try
         {
-            selector = Selector.open();
             if (configuration.bindAtStartup() && configuration.initialAcceptedSessionOwner() != SOLE_LIBRARY)
             {
                 bind();
@@ -49,66 +55,77 @@ public class DefaultTcpChannelSupplier extends TcpChannelSupplier
     {
         if (hasBindAddress || openingSocketChannels.size() > 0)
         {
+            final Selector selector = this.selector;
+            final NioSelectedKeySet selectedKeySet = poller.selectedKeySet();
+
             selector.selectNow();
-            final Set<SelectionKey> selectionKeys = selector.selectedKeys();
-            final int unprocessedConnections = selectionKeys.size();
-            if (unprocessedConnections > 0)
+
+            final SelectionKey[] keys = selectedKeySet.keys();
+            final int unprocessedConnections = selectedKeySet.size();
+            for (int i = 0; i < unprocessedConnections; i++)
             {
-                final Iterator<SelectionKey> it = selectionKeys.iterator();
-                while (it.hasNext())
-                {
-                    final SelectionKey selectionKey = it.next();
+                final SelectionKey selectionKey = keys[i];
 
-                    if (selectionKey.isAcceptable())
+                if (selectionKey.isAcceptable())
+                {
+                    acceptAll(timeInMs, handler);
+                }
+                else if (selectionKey.isConnectable())
+                {
+                    final TcpChannelSupplier.InitiatedChannelHandler channelHandler =
+                        (TcpChannelSupplier.InitiatedChannelHandler)selectionKey.attachment();
+                    final SocketChannel channel = (SocketChannel)selectionKey.channel();
+                    try
                     {
-                        final SocketChannel channel = listeningChannel.accept();
-                        if (channel != null)
+                        if (channel.finishConnect())
                         {
-                            configure(channel);
-                            channel.configureBlocking(false);
-
-                            handler.onNewChannel(timeInMs, newTcpChannel(channel));
+                            channelHandler.onInitiatedChannel(newTcpChannel(channel), null);
+                            selectionKey.interestOps(selectionKey.interestOps() & (~OP_CONNECT));
+                            openingSocketChannels.remove(channel);
                         }
-
-                        it.remove();
                     }
-                    else if (selectionKey.isConnectable())
+                    catch (final IOException e)
                     {
-                        final TcpChannelSupplier.InitiatedChannelHandler channelHandler =
-                            (TcpChannelSupplier.InitiatedChannelHandler)selectionKey.attachment();
-                        final SocketChannel channel = (SocketChannel)selectionKey.channel();
-                        try
-                        {
-                            if (channel.finishConnect())
-                            {
-                                channelHandler.onInitiatedChannel(newTcpChannel(channel), null);
-                                selectionKey.interestOps(selectionKey.interestOps() & (~OP_CONNECT));
-                                it.remove();
-                                openingSocketChannels.remove(channel);
-                            }
-                        }
-                        catch (final IOException e)
-                        {
-                            channelHandler.onInitiatedChannel(null, e);
-                            it.remove();
-                            openingSocketChannels.remove(channel);
-                        }
+                        channelHandler.onInitiatedChannel(null, e);
+                        openingSocketChannels.remove(channel);
                     }
                 }
             }
 
+            if (unprocessedConnections > 0)
+            {
+                selectedKeySet.reset();
+            }
+
             return unprocessedConnections;
         }
 
         return 0;
     }
 
+    // Drains the accept backlog in one go rather than accepting a single connection per duty cycle, so that
+    // large numbers of simultaneous reconnects don't each cost a separate selectNow() call.
+    private void acceptAll(final long timeInMs, final NewChannelHandler handler) throws IOException
+    {
+        final ServerSocketChannel listeningChannel = this.listeningChannel;
+        SocketChannel channel;
+        int accepted = 0;
+        while (accepted < maxAcceptsPerPoll && (channel = listeningChannel.accept()) != null)
+        {
+            configure(channel);
+            channel.configureBlocking(false);
+
+            handler.onNewChannel(timeInMs, newTcpChannel(channel));
+            accepted++;
+        }
+    }
+
     public void unbind() throws IOException
     {
         if (listeningChannel != null)
         {
             listeningChannel.close();
-            selector.selectNow();
+            poller.selectNowWithoutProcessing();
             listeningChannel = null;
         }
     }
@@ -139,7 +156,7 @@ public class DefaultTcpChannelSupplier extends TcpChannelSupplier
     public void close()
     {
         CloseHelper.close(listeningChannel);
-        CloseHelper.close(selector);
+        CloseHelper.close(poller);
     }
 
     public void open(final InetSocketAddress address, final TcpChannelSupplier.InitiatedChannelHandler channelHandler)
@@ -171,4 +188,18 @@ public class DefaultTcpChannelSupplier extends TcpChannelSupplier
             }
         }
     }
+
+    // Used in order to get an optimised selected key set that doesn't allocate when iterated or reset.
+    static final class SelectorPoller extends TransportPoller
+    {
+        Selector selector()
+        {
+            return selector;
+        }
+
+        NioSelectedKeySet selectedKeySet()
+        {
+            return selectedKeySet;
+        }
+    }
 }
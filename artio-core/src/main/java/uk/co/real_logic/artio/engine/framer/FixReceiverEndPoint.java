@@ -161,6 +161,7 @@ class FixReceiverEndPoint extends ReceiverEndPoint
     private int pendingAcceptorLogonMsgOffset;
     private int pendingAcceptorLogonMsgLength;
     private long lastReadTimestamp;
+    private int messagesFramed;
     private String address;
     private boolean requiresProxyCheck = true;
 
@@ -325,6 +326,21 @@ class FixReceiverEndPoint extends ReceiverEndPoint
     // that is an incomplete message.
     // false - needs to be retried, aka back-pressured
     private boolean frameMessages(final long readTimestamp)
+    {
+        final boolean framedAllMessages = frameAllMessages(readTimestamp);
+
+        // Update the counter once per read rather than once per message in a burst
+        final int messagesFramed = this.messagesFramed;
+        if (messagesFramed > 0)
+        {
+            messagesRead.getAndAddOrdered(messagesFramed);
+            this.messagesFramed = 0;
+        }
+
+        return framedAllMessages;
+    }
+
+    private boolean frameAllMessages(final long readTimestamp)
     {
         final MutableAsciiBuffer buffer = this.buffer;
         int offset = checkProxyLine(buffer);
@@ -401,11 +417,11 @@ class FixReceiverEndPoint extends ReceiverEndPoint
                     {
                         sequenceIndex++;
                     }
-                    messagesRead.incrementOrdered();
                     if (!saveMessage(offset, messageType, length, readTimestamp))
                     {
                         return false;
                     }
+                    messagesFramed++;
                 }
 
                 offset += length;
@@ -725,6 +741,9 @@ class FixReceiverEndPoint extends ReceiverEndPoint
         return saveMessage(offset, messageType, length, sessionId, sequenceIndex, readTimestamp);
     }
 
+    // Each message gets its own fragment rather than batching a read's messages into one. Every reader of the inbound
+    // stream, eg libraries, the replay and sequence number indices, the archive scanner and catchup replays, treats a
+    // fragment as one message, and the back-pressure retry above resumes from an individual message.
     private boolean saveMessage(
         final int messageOffset,
         final long messageType,
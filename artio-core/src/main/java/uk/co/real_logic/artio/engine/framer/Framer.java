@@ -33,6 +33,7 @@ import uk.co.real_logic.artio.decoder.AbstractSequenceResetDecoder;
 import uk.co.real_logic.artio.decoder.SessionHeaderDecoder;
 import uk.co.real_logic.artio.dictionary.FixDictionary;
 import uk.co.real_logic.artio.engine.CompletionPosition;
+import uk.co.real_logic.artio.engine.ConnectedSessionInfo;
 import uk.co.real_logic.artio.engine.EngineConfiguration;
 import uk.co.real_logic.artio.engine.RecordingCoordinator;
 import uk.co.real_logic.artio.engine.framer.SubscriptionSlowPeeker.LibrarySlowPeeker;
@@ -366,7 +367,8 @@ class Framer implements Agent, EngineEndPointHandler, ProtocolHandler
     {
         final long timeInMs = epochClock.time();
         senderEndPoints.timeInMs(timeInMs);
-        return retryManager.attemptSteps() +
+        return pollInboundReplays() +
+            retryManager.attemptSteps() +
             sendOutboundMessages() +
             sendReplayMessages() +
             pollEndPoints() +
@@ -378,6 +380,12 @@ class Framer implements Agent, EngineEndPointHandler, ProtocolHandler
             checkDutyCycle();
     }
 
+    private int pollInboundReplays()
+    {
+        final ReplayQuery inboundMessages = this.inboundMessages;
+        return inboundMessages == null ? 0 : inboundMessages.pollReplays();
+    }
+
     private int checkDutyCycle()
     {
         return removeIf(replies, ResetSequenceNumberCommand::poll) +
@@ -1393,6 +1401,8 @@ class Framer implements Agent, EngineEndPointHandler, ProtocolHandler
         final int libraryId,
         final String libraryName,
         final long correlationId,
+        final int sessionCount,
+        final long sessionsChecksum,
         final int aeronSessionId)
     {
         final Action action = retryManager.retry(correlationId);
@@ -1419,8 +1429,17 @@ class Framer implements Agent, EngineEndPointHandler, ProtocolHandler
         {
             existingLibrary.onHeartbeat(epochClock.time());
 
+            // A reconnecting library usually still owns the sessions we think it does, so only send the full list
+            // of them if its checksum differs from ours.
+            final List<ConnectedSessionInfo> sessions = existingLibrary.sessions();
+            if (sessionCount == sessions.size() && sessionsChecksum == sessionsChecksum(sessions))
+            {
+                return Pressure.apply(inboundPublication.saveControlNotificationUnchanged(
+                    libraryId, initialAcceptedSessionOwner, sessionCount, sessionsChecksum));
+            }
+
             return Pressure.apply(inboundPublication.saveControlNotification(
-                libraryId, initialAcceptedSessionOwner, existingLibrary.sessions()));
+                libraryId, initialAcceptedSessionOwner, sessions));
         }
 
         if (soleLibraryMode)
@@ -2314,6 +2333,16 @@ class Framer implements Agent, EngineEndPointHandler, ProtocolHandler
             "Error, offline session owned by non-existent library: " + libraryId));
     }
 
+    private static long sessionsChecksum(final List<ConnectedSessionInfo> sessions)
+    {
+        long checksum = SessionsChecksum.EMPTY;
+        for (int i = 0, size = sessions.size(); i < size; i++)
+        {
+            checksum = SessionsChecksum.add(checksum, sessions.get(i).sessionId());
+        }
+        return checksum;
+    }
+
     private void logSoleLibraryError()
     {
         errorHandler.onError(new IllegalStateException(
@@ -26,6 +26,8 @@ import uk.co.real_logic.artio.messages.ReplayMessagesStatus;
 import uk.co.real_logic.artio.messages.SlowStatus;
 import uk.co.real_logic.artio.session.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
@@ -73,6 +75,9 @@ class GatewaySession implements ConnectedSessionInfo, SessionProcessHandler
     private long lastLogonTime = Session.UNKNOWN_TIME;
     private int libraryId;
 
+    // The lists of sessions that this session is in, notified when its ids change
+    private final List<IndexedGatewaySessions> indices = new ArrayList<>(2);
+
     GatewaySession(
         final long connectionId,
         final SessionContext context,
@@ -289,12 +294,22 @@ class GatewaySession implements ConnectedSessionInfo, SessionProcessHandler
         final int heartbeatIntervalInS,
         final int logonReceivedSequenceNumber)
     {
+        final long oldSessionId = this.sessionId;
         this.sessionId = sessionId;
         this.context = context;
         this.sessionKey = sessionKey;
         this.logonReceivedSequenceNumber = logonReceivedSequenceNumber;
         this.logonSequenceIndex = context.sequenceIndex();
 
+        if (oldSessionId != sessionId)
+        {
+            final List<IndexedGatewaySessions> indices = this.indices;
+            for (int i = 0, size = indices.size(); i < size; i++)
+            {
+                indices.get(i).onSessionIdChanged(this, oldSessionId);
+            }
+        }
+
         onLogon(username, password, heartbeatIntervalInS);
     }
 
@@ -486,10 +501,27 @@ class GatewaySession implements ConnectedSessionInfo, SessionProcessHandler
     public void goOffline()
     {
         // Library retains ownership of a disconnected session, reset state to that of an offline GatewaySession object
+        final long oldConnectionId = connectionId;
         connectionId = NO_CONNECTION_ID;
         address = ":" + NO_CONNECTION_ID;
         receiverEndPoint = null;
         senderEndPoint = null;
         onGatewaySessionLogon = null;
+
+        final List<IndexedGatewaySessions> indices = this.indices;
+        for (int i = 0, size = indices.size(); i < size; i++)
+        {
+            indices.get(i).onConnectionIdChanged(this, oldConnectionId);
+        }
+    }
+
+    void addIndex(final IndexedGatewaySessions index)
+    {
+        indices.add(index);
+    }
+
+    void removeIndex(final IndexedGatewaySessions index)
+    {
+        indices.remove(index);
     }
 }
@@ -64,7 +64,7 @@ class GatewaySessions
 {
     private final CharFormatter acquiredConnection =
         new CharFormatter("Gateway Acquired Connection %s%n");
-    private final List<GatewaySession> sessions = new ArrayList<>();
+    private final IndexedGatewaySessions sessions = new IndexedGatewaySessions(new ArrayList<>(), false);
     private final Map<FixDictionary, UserRequestExtractor> dictionaryToUserRequestExtractor = new HashMap<>();
 
     private final EpochClock epochClock;
@@ -136,21 +136,6 @@ class GatewaySessions
         sendingTimeEncoder = new UtcTimestampEncoder(epochFractionPrecision);
     }
 
-    static GatewaySession removeSessionByConnectionId(final long connectionId, final List<GatewaySession> sessions)
-    {
-        for (int i = 0, size = sessions.size(); i < size; i++)
-        {
-            final GatewaySession session = sessions.get(i);
-            if (session.connectionId() == connectionId)
-            {
-                sessions.remove(i);
-                return session;
-            }
-        }
-
-        return null;
-    }
-
     void acquire(
         final GatewaySession gatewaySession,
         final SessionState state,
@@ -238,50 +223,17 @@ class GatewaySessions
 
     GatewaySession releaseBySessionId(final long sessionId)
     {
-        final int index = indexBySessionId(sessionId);
-        if (index < 0)
-        {
-            return null;
-        }
-
-        return sessions.remove(index);
+        return sessions.removeBySessionId(sessionId);
     }
 
     GatewaySession sessionById(final long sessionId)
     {
-        final int index = indexBySessionId(sessionId);
-        if (index < 0)
-        {
-            return null;
-        }
-
-        return sessions.get(index);
-    }
-
-    private int indexBySessionId(final long sessionId)
-    {
-        final List<GatewaySession> sessions = this.sessions;
-
-        return indexBySessionId(sessionId, sessions);
-    }
-
-    static int indexBySessionId(final long sessionId, final List<GatewaySession> sessions)
-    {
-        for (int i = 0, size = sessions.size(); i < size; i++)
-        {
-            final GatewaySession session = sessions.get(i);
-            if (session.sessionId() == sessionId)
-            {
-                return i;
-            }
-        }
-
-        return UNK_SESSION;
+        return sessions.bySessionId(sessionId);
     }
 
     void releaseByConnectionId(final long connectionId)
     {
-        final GatewaySession session = removeSessionByConnectionId(connectionId, sessions);
+        final GatewaySession session = sessions.removeByConnectionId(connectionId);
         if (session != null)
         {
             session.close();
@@ -290,7 +242,7 @@ class GatewaySessions
 
     int pollSessions(final long time)
     {
-        final List<GatewaySession> sessions = this.sessions;
+        final List<GatewaySession> sessions = this.sessions.list();
 
         int eventsProcessed = 0;
         for (int i = 0, size = sessions.size(); i < size;)
@@ -299,6 +251,7 @@ class GatewaySessions
             eventsProcessed += session.poll(time);
             if (session.hasDisconnected())
             {
+                // The session removed itself, which moves the last session into its position.
                 size--;
             }
             else
@@ -311,7 +264,7 @@ class GatewaySessions
 
     List<GatewaySession> sessions()
     {
-        return sessions;
+        return sessions.list();
     }
 
     AcceptorLogonResult authenticate(
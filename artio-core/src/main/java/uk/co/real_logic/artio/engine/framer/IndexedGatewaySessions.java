@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.engine.framer;
+
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2IntHashMap;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import static uk.co.real_logic.artio.GatewayProcess.NO_CONNECTION_ID;
+import static uk.co.real_logic.artio.session.Session.UNKNOWN;
+
+/**
+ * A list of {@link GatewaySession}s that are also indexed by session id and connection id, so that sessions can be
+ * found without scanning the list. Sessions notify the lists that they're in when either id changes.
+ *
+ * Sessions that haven't logged on yet aren't indexed by session id and offline sessions aren't indexed by connection
+ * id. If more than one session in the list has the same id then the one that is earliest in the list is found, just
+ * like a scan of the list.
+ *
+ * The position of each session in the list is tracked as well. If the list's order doesn't need to be preserved then
+ * removal is constant time, as the last session in the list is moved into the removed session's position. Otherwise
+ * the session is removed from the list in a single operation, so that other threads reading a thread safe list
+ * always see every other session in the order that they were added.
+ *
+ * Only modified on the Framer thread, the list itself can be read by other threads if it's thread safe.
+ */
+final class IndexedGatewaySessions
+{
+    private static final ToLongFunction<GatewaySession> SESSION_ID = GatewaySession::sessionId;
+    private static final ToLongFunction<GatewaySession> CONNECTION_ID = GatewaySession::connectionId;
+    private static final int NO_POSITION = -1;
+
+    private final Long2ObjectHashMap<GatewaySession> sessionIdToSession = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<GatewaySession> connectionIdToSession = new Long2ObjectHashMap<>();
+    private final Object2IntHashMap<GatewaySession> sessionToPosition = new Object2IntHashMap<>(NO_POSITION);
+    private final List<GatewaySession> sessions;
+    private final boolean preserveOrder;
+
+    // The number of indexed sessions that share an id with another indexed session.
+    private int duplicateIds = 0;
+
+    IndexedGatewaySessions(final List<GatewaySession> sessions, final boolean preserveOrder)
+    {
+        this.sessions = sessions;
+        this.preserveOrder = preserveOrder;
+    }
+
+    List<GatewaySession> list()
+    {
+        return sessions;
+    }
+
+    void add(final GatewaySession session)
+    {
+        if (contains(session))
+        {
+            return;
+        }
+
+        sessionToPosition.put(session, sessions.size());
+        sessions.add(session);
+        session.addIndex(this);
+        index(sessionIdToSession, session.sessionId(), UNKNOWN, session);
+        index(connectionIdToSession, session.connectionId(), NO_CONNECTION_ID, session);
+    }
+
+    boolean contains(final GatewaySession session)
+    {
+        return sessionToPosition.containsKey(session);
+    }
+
+    GatewaySession bySessionId(final long sessionId)
+    {
+        return sessionIdToSession.get(sessionId);
+    }
+
+    GatewaySession byConnectionId(final long connectionId)
+    {
+        return connectionIdToSession.get(connectionId);
+    }
+
+    GatewaySession removeBySessionId(final long sessionId)
+    {
+        final GatewaySession session = sessionIdToSession.get(sessionId);
+        if (session != null)
+        {
+            remove(session);
+        }
+
+        return session;
+    }
+
+    GatewaySession removeByConnectionId(final long connectionId)
+    {
+        final GatewaySession session = connectionIdToSession.get(connectionId);
+        if (session != null)
+        {
+            remove(session);
+        }
+
+        return session;
+    }
+
+    void remove(final GatewaySession session)
+    {
+        final int position = sessionToPosition.removeKey(session);
+        if (position == NO_POSITION)
+        {
+            return;
+        }
+
+        final List<GatewaySession> sessions = this.sessions;
+        if (preserveOrder)
+        {
+            sessions.remove(position);
+            for (int i = position, size = sessions.size(); i < size; i++)
+            {
+                sessionToPosition.put(sessions.get(i), i);
+            }
+        }
+        else
+        {
+            final int lastPosition = sessions.size() - 1;
+            final GatewaySession lastSession = sessions.remove(lastPosition);
+            if (position != lastPosition)
+            {
+                sessions.set(position, lastSession);
+                sessionToPosition.put(lastSession, position);
+            }
+        }
+
+        session.removeIndex(this);
+        unindex(sessionIdToSession, session.sessionId(), UNKNOWN, SESSION_ID, session);
+        unindex(connectionIdToSession, session.connectionId(), NO_CONNECTION_ID, CONNECTION_ID, session);
+    }
+
+    void onSessionIdChanged(final GatewaySession session, final long oldSessionId)
+    {
+        unindex(sessionIdToSession, oldSessionId, UNKNOWN, SESSION_ID, session);
+        index(sessionIdToSession, session.sessionId(), UNKNOWN, session);
+    }
+
+    void onConnectionIdChanged(final GatewaySession session, final long oldConnectionId)
+    {
+        unindex(connectionIdToSession, oldConnectionId, NO_CONNECTION_ID, CONNECTION_ID, session);
+        index(connectionIdToSession, session.connectionId(), NO_CONNECTION_ID, session);
+    }
+
+    private void index(
+        final Long2ObjectHashMap<GatewaySession> idToSession,
+        final long id,
+        final long noId,
+        final GatewaySession session)
+    {
+        if (id == noId)
+        {
+            return;
+        }
+
+        final GatewaySession existingSession = idToSession.get(id);
+        if (existingSession == null)
+        {
+            idToSession.put(id, session);
+        }
+        else if (existingSession != session)
+        {
+            duplicateIds++;
+        }
+    }
+
+    private void unindex(
+        final Long2ObjectHashMap<GatewaySession> idToSession,
+        final long id,
+        final long noId,
+        final ToLongFunction<GatewaySession> getId,
+        final GatewaySession session)
+    {
+        if (id == noId)
+        {
+            return;
+        }
+
+        if (idToSession.get(id) != session)
+        {
+            // The session's id was a duplicate of the indexed session's id.
+            duplicateIds--;
+            return;
+        }
+
+        idToSession.remove(id);
+        if (duplicateIds > 0)
+        {
+            final GatewaySession otherSession = firstSessionWithId(id, getId, session);
+            if (otherSession != null)
+            {
+                idToSession.put(id, otherSession);
+                duplicateIds--;
+            }
+        }
+    }
+
+    private GatewaySession firstSessionWithId(
+        final long id, final ToLongFunction<GatewaySession> getId, final GatewaySession excludedSession)
+    {
+        final List<GatewaySession> sessions = this.sessions;
+        for (int i = 0, size = sessions.size(); i < size; i++)
+        {
+            final GatewaySession otherSession = sessions.get(i);
+            if (otherSession != excludedSession && getId.applyAsLong(otherSession) == id)
+            {
+                return otherSession;
+            }
+        }
+
+        return null;
+    }
+
+    boolean hasDuplicateIds()
+    {
+        return duplicateIds > 0;
+    }
+
+    public String toString()
+    {
+        return sessions.toString();
+    }
+}
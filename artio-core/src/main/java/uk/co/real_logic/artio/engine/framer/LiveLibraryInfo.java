@@ -33,6 +33,7 @@ final class LiveLibraryInfo implements LibraryInfo
     private final int aeronSessionId;
     private final LibrarySlowPeeker librarySlowPeeker;
     private final List<GatewaySession> allSessions = new CopyOnWriteArrayList<>();
+    private final IndexedGatewaySessions indexedSessions = new IndexedGatewaySessions(allSessions, true);
     private final List<ConnectedSessionInfo> unmodifiableAllSessions = unmodifiableList(allSessions);
     private final Long2ObjectHashMap<ConnectingSession> correlationIdToConnectingSession = new Long2ObjectHashMap<>();
 
@@ -102,42 +103,36 @@ final class LiveLibraryInfo implements LibraryInfo
 
     void addSession(final GatewaySession session)
     {
-        allSessions.add(session);
+        indexedSessions.add(session);
     }
 
     void removeSessionByConnectionId(final long connectionId)
     {
-        GatewaySessions.removeSessionByConnectionId(connectionId, allSessions);
+        indexedSessions.removeByConnectionId(connectionId);
     }
 
     void offlineSession(final long connectionId)
     {
-        final List<GatewaySession> sessions = this.allSessions;
-        for (int i = 0, size = sessions.size(); i < size; i++)
+        final GatewaySession session = indexedSessions.byConnectionId(connectionId);
+        if (session != null)
         {
-            final GatewaySession session = sessions.get(i);
-            if (session.connectionId() == connectionId)
-            {
-                session.goOffline();
-            }
+            session.goOffline();
         }
     }
 
     GatewaySession removeSessionBySessionId(final long sessionId)
     {
-        final int index = GatewaySessions.indexBySessionId(sessionId, allSessions);
-        return index == -1 ? null : allSessions.remove(index);
+        return indexedSessions.removeBySessionId(sessionId);
     }
 
     GatewaySession lookupSessionById(final long sessionId)
     {
-        final int index = GatewaySessions.indexBySessionId(sessionId, allSessions);
-        return index == -1 ? null : allSessions.get(index);
+        return indexedSessions.bySessionId(sessionId);
     }
 
     public void removeSession(final GatewaySession gatewaySession)
     {
-        allSessions.remove(gatewaySession);
+        indexedSessions.remove(gatewaySession);
     }
 
     void acquireAtPosition(final long libraryPosition)
@@ -52,6 +52,7 @@ class SenderEndPoints implements AutoCloseable, ControlledFragmentHandler
     }
 
     private long timeInMs;
+    private long lastTimeoutCheckInMs = Long.MIN_VALUE;
 
     SenderEndPoints(final ErrorHandler errorHandler)
     {
@@ -201,6 +202,14 @@ class SenderEndPoints implements AutoCloseable, ControlledFragmentHandler
 
     int checkTimeouts(final long timeInMs)
     {
+        // Timeouts have millisecond granularity, so re-checking within the same millisecond can't find anything
+        // new and would be a scan over every connection on every duty cycle.
+        if (timeInMs == lastTimeoutCheckInMs)
+        {
+            return 0;
+        }
+        lastTimeoutCheckInMs = timeInMs;
+
         int count = 0;
         for (final SenderEndPoint senderEndPoint : connectionIdToSenderEndpoint.values())
         {
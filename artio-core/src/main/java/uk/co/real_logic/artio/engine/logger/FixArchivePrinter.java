@@ -45,6 +45,8 @@ public final class FixArchivePrinter
         int archiveScannerStreamId = DEFAULT_ARCHIVE_SCANNER_STREAM;
         FixMessagePredicate predicate = FixMessagePredicates.alwaysTrue();
         boolean follow = false;
+        boolean replayConcurrently = false;
+        int maxConcurrentReplays = FixArchiveScanner.Context.DEFAULT_MAX_CONCURRENT_REPLAYS;
         Class<? extends FixDictionary> fixDictionaryType = FixDictionary.findDefault();
 
         Predicate<SessionHeaderDecoder> headerPredicate = null;
@@ -65,6 +67,10 @@ public final class FixArchivePrinter
                     follow = true;
                     break;
 
+                case "replay-concurrently":
+                    replayConcurrently = true;
+                    break;
+
                 default:
                     requiredArgument(eqIndex);
             }
@@ -114,6 +120,10 @@ public final class FixArchivePrinter
                     queryStreamId = Integer.parseInt(optionValue);
                     break;
 
+                case "max-concurrent-replays":
+                    maxConcurrentReplays = Integer.parseInt(optionValue);
+                    break;
+
                 case "archive-scanner-stream-id":
                     archiveScannerStreamId = Integer.parseInt(optionValue);
                     break;
@@ -135,15 +145,16 @@ public final class FixArchivePrinter
         requiredArgument(aeronDirectoryName, "aeron-dir-name");
         requiredArgument(aeronChannel, "aeron-channel");
 
-        scanArchive(aeronDirectoryName, aeronChannel, queryStreamId, predicate, follow, headerPredicate,
-            archiveScannerStreamId, fixDictionaryType);
+        scanArchive(aeronDirectoryName, aeronChannel, queryStreamId, predicate, follow, replayConcurrently,
+            maxConcurrentReplays, headerPredicate, archiveScannerStreamId, fixDictionaryType);
     }
 
     private static void requiredArgument(final int eqIndex)
     {
         if (eqIndex == -1)
         {
-            System.err.println("--help and --follow are the only options that don't take a value");
+            System.err.println(
+                "--help, --follow and --replay-concurrently are the only options that don't take a value");
             printHelp();
             System.exit(-1);
         }
@@ -155,6 +166,8 @@ public final class FixArchivePrinter
         final int queryStreamId,
         final FixMessagePredicate otherPredicate,
         final boolean follow,
+        final boolean replayConcurrently,
+        final int maxConcurrentReplays,
         final Predicate<SessionHeaderDecoder> headerPredicate,
         final int archiveScannerStreamId,
         final Class<? extends FixDictionary> fixDictionaryType)
@@ -168,7 +181,9 @@ public final class FixArchivePrinter
 
         final FixArchiveScanner.Context context = new FixArchiveScanner.Context()
             .aeronDirectoryName(aeronDirectoryName)
-            .idleStrategy(CommonConfiguration.backoffIdleStrategy());
+            .idleStrategy(CommonConfiguration.backoffIdleStrategy())
+            .replayConcurrently(replayConcurrently)
+            .maxConcurrentReplays(maxConcurrentReplays);
 
         try (FixArchiveScanner scanner = new FixArchiveScanner(context))
         {
@@ -252,6 +267,15 @@ public final class FixArchivePrinter
             "follow",
             "Continue to print out archive messages for a recording that is still in flight. defaults to off",
             false);
+        printOption(
+            "replay-concurrently",
+            "Replay all recordings at the same time and print their messages in timestamp order. defaults to off",
+            false);
+        printOption(
+            "max-concurrent-replays",
+            "The maximum number of recordings replayed at the same time with --replay-concurrently. defaults to " +
+            FixArchiveScanner.Context.DEFAULT_MAX_CONCURRENT_REPLAYS,
+            false);
         printOption(
             "help",
             "Only prints this help message.",
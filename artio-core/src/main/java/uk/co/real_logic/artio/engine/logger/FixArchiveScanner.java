@@ -16,11 +16,17 @@
 package uk.co.real_logic.artio.engine.logger;
 
 import io.aeron.Aeron;
+import io.aeron.ControlledFragmentAssembler;
 import io.aeron.FragmentAssembler;
 import io.aeron.Image;
 import io.aeron.Subscription;
 import io.aeron.archive.client.AeronArchive;
+import io.aeron.logbuffer.ControlledFragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.IdleStrategy;
+import uk.co.real_logic.artio.messages.FixMessageDecoder;
+import uk.co.real_logic.artio.messages.MessageHeaderDecoder;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +34,9 @@ import java.util.List;
 import static io.aeron.CommonContext.IPC_CHANNEL;
 import static io.aeron.archive.client.AeronArchive.NULL_LENGTH;
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
+import static io.aeron.logbuffer.ControlledFragmentHandler.Action.ABORT;
+import static io.aeron.logbuffer.ControlledFragmentHandler.Action.BREAK;
+import static io.aeron.logbuffer.ControlledFragmentHandler.Action.CONTINUE;
 import static java.util.Comparator.comparingLong;
 
 /**
@@ -42,11 +51,20 @@ public class FixArchiveScanner implements AutoCloseable
     private final Aeron aeron;
     private final AeronArchive aeronArchive;
     private final IdleStrategy idleStrategy;
+    private final boolean replayConcurrently;
+    private final int maxConcurrentReplays;
 
     public static class Context
     {
+        /**
+         * Kept below the archive's default limit of concurrent replays, which is shared with other archive clients.
+         */
+        public static final int DEFAULT_MAX_CONCURRENT_REPLAYS = 8;
+
         private String aeronDirectoryName;
         private IdleStrategy idleStrategy;
+        private boolean replayConcurrently = false;
+        private int maxConcurrentReplays = DEFAULT_MAX_CONCURRENT_REPLAYS;
 
         public Context()
         {
@@ -73,11 +91,59 @@ public class FixArchiveScanner implements AutoCloseable
         {
             return idleStrategy;
         }
+
+        /**
+         * Replay the recordings being scanned at the same time, rather than one after another, and merge the
+         * messages from them in timestamp order. This lets the archive read the recordings in parallel when there
+         * are many of them, up to {@link #maxConcurrentReplays(int)} at once. Scans that follow a recording that is
+         * still being archived always replay the recordings one after another.
+         *
+         * @param replayConcurrently true to replay the recordings at the same time, false otherwise.
+         * @return this
+         */
+        public Context replayConcurrently(final boolean replayConcurrently)
+        {
+            this.replayConcurrently = replayConcurrently;
+            return this;
+        }
+
+        public boolean replayConcurrently()
+        {
+            return replayConcurrently;
+        }
+
+        /**
+         * Sets the maximum number of recordings replayed at the same time when {@link #replayConcurrently(boolean)}
+         * is enabled. This should be below the archive's limit on concurrent replays. When there are more recordings
+         * than this then each replay slot is reused for the next recording, in recording start time order, once its
+         * replay completes, and messages are only merged in timestamp order across the replays in flight together.
+         *
+         * @param maxConcurrentReplays the maximum number of recordings replayed at the same time.
+         * @return this
+         */
+        public Context maxConcurrentReplays(final int maxConcurrentReplays)
+        {
+            if (maxConcurrentReplays <= 0)
+            {
+                throw new IllegalArgumentException(
+                    "maxConcurrentReplays must be positive, but was " + maxConcurrentReplays);
+            }
+
+            this.maxConcurrentReplays = maxConcurrentReplays;
+            return this;
+        }
+
+        public int maxConcurrentReplays()
+        {
+            return maxConcurrentReplays;
+        }
     }
 
     public FixArchiveScanner(final Context context)
     {
         this.idleStrategy = context.idleStrategy();
+        this.replayConcurrently = context.replayConcurrently();
+        this.maxConcurrentReplays = context.maxConcurrentReplays();
 
         final Aeron.Context aeronContext = new Aeron.Context().aeronDirectoryName(context.aeronDirectoryName());
         aeron = Aeron.connect(aeronContext);
@@ -98,6 +164,12 @@ public class FixArchiveScanner implements AutoCloseable
 
         try (Subscription replaySubscription = aeron.addSubscription(IPC_CHANNEL, archiveScannerStreamId))
         {
+            if (replayConcurrently && !follow)
+            {
+                scanConcurrently(archiveLocations, logEntryHandler, replaySubscription, archiveScannerStreamId);
+                return;
+            }
+
             archiveLocations.forEach(archiveLocation ->
             {
                 final long recordingId = archiveLocation.recordingId;
@@ -144,6 +216,134 @@ public class FixArchiveScanner implements AutoCloseable
         }
     }
 
+    private void scanConcurrently(
+        final List<ArchiveLocation> archiveLocations,
+        final LogEntryHandler logEntryHandler,
+        final Subscription replaySubscription,
+        final int archiveScannerStreamId)
+    {
+        final List<ArchiveLocation> pendingLocations = new ArrayList<>(archiveLocations);
+        pendingLocations.sort(comparingLong(ArchiveLocation::startTimestamp));
+
+        final List<RecordingReplay> replays = new ArrayList<>();
+        try
+        {
+            int nextLocation = 0;
+            while (true)
+            {
+                // Refill the window of replays in flight
+                final int pendingCount = pendingLocations.size();
+                while (replays.size() < maxConcurrentReplays && nextLocation < pendingCount)
+                {
+                    startReplay(
+                        pendingLocations.get(nextLocation++),
+                        logEntryHandler,
+                        replaySubscription,
+                        archiveScannerStreamId,
+                        replays);
+                }
+
+                if (replays.isEmpty())
+                {
+                    return;
+                }
+
+                mergeStep(replays);
+            }
+        }
+        finally
+        {
+            stopReplays(replays);
+        }
+    }
+
+    private void startReplay(
+        final ArchiveLocation archiveLocation,
+        final LogEntryHandler logEntryHandler,
+        final Subscription replaySubscription,
+        final int archiveScannerStreamId,
+        final List<RecordingReplay> replays)
+    {
+        final long recordingId = archiveLocation.recordingId;
+        final long stopPosition = archiveLocation.stopPosition == NULL_POSITION ?
+            aeronArchive.getRecordingPosition(recordingId) : archiveLocation.stopPosition;
+        final long length = stopPosition - archiveLocation.startPosition;
+
+        if (length != 0)
+        {
+            final long replaySessionId = aeronArchive.startReplay(
+                recordingId,
+                archiveLocation.startPosition,
+                length,
+                IPC_CHANNEL,
+                archiveScannerStreamId);
+
+            final RecordingReplay replay = new RecordingReplay(replaySessionId, stopPosition, logEntryHandler);
+            // Added before the image lookup so that the replay gets stopped if the lookup doesn't complete
+            replays.add(replay);
+            replay.image = lookupImage(replaySubscription, replay.sessionId);
+        }
+    }
+
+    private void stopReplays(final List<RecordingReplay> replays)
+    {
+        // Only replays that are still in flight when the scan fails or is interrupted are left in the list.
+        for (final RecordingReplay replay : replays)
+        {
+            if (replay.image == null || !replay.isComplete())
+            {
+                try
+                {
+                    aeronArchive.stopReplay(replay.replaySessionId);
+                }
+                catch (final RuntimeException ignore)
+                {
+                    // The replay may have already ended, the original failure is the one to report.
+                }
+            }
+        }
+        replays.clear();
+    }
+
+    // k-way merge: a message can only be handed on once the next message from every replay is known.
+    private void mergeStep(final List<RecordingReplay> replays)
+    {
+        int workCount = 0;
+        boolean allPeeked = true;
+        for (int i = replays.size() - 1; i >= 0; i--)
+        {
+            final RecordingReplay replay = replays.get(i);
+            if (!replay.hasNextMessage)
+            {
+                if (replay.isComplete())
+                {
+                    replays.remove(i);
+                    continue;
+                }
+
+                workCount += replay.peek();
+                allPeeked &= replay.hasNextMessage;
+            }
+        }
+
+        if (allPeeked && !replays.isEmpty())
+        {
+            RecordingReplay earliest = replays.get(0);
+            for (int i = 1, size = replays.size(); i < size; i++)
+            {
+                final RecordingReplay replay = replays.get(i);
+                if (replay.nextTimestamp < earliest.nextTimestamp)
+                {
+                    earliest = replay;
+                }
+            }
+
+            workCount += earliest.emit();
+        }
+
+        idleStrategy.idle(workCount);
+    }
+
     private Image lookupImage(final Subscription replaySubscription, final int sessionId)
     {
         Image image = null;
@@ -181,7 +381,8 @@ public class FixArchiveScanner implements AutoCloseable
             streamId,
             strippedChannel,
             originalChannel,
-            sourceIdentity) -> archiveLocations.add(new ArchiveLocation(recordingId, startPosition, stopPosition)));
+            sourceIdentity) -> archiveLocations.add(
+                new ArchiveLocation(recordingId, startTimestamp, startPosition, stopPosition)));
 
         // Any uncompleted recording is at the end
         archiveLocations.sort(comparingLong(ArchiveLocation::stopPosition).reversed());
@@ -189,19 +390,101 @@ public class FixArchiveScanner implements AutoCloseable
         return archiveLocations;
     }
 
+    /**
+     * Peeks at the timestamp of the next FIX message of a replay without consuming it, by aborting the poll when it
+     * gets reassembled, and then emits it when it's the earliest message across all the replays.
+     */
+    static class RecordingReplay implements ControlledFragmentHandler
+    {
+        private final MessageHeaderDecoder messageHeader = new MessageHeaderDecoder();
+        private final FixMessageDecoder fixMessage = new FixMessageDecoder();
+        private final ControlledFragmentAssembler assembler = new ControlledFragmentAssembler(this);
+
+        final long replaySessionId;
+        final int sessionId;
+        final long stopPosition;
+        final LogEntryHandler logEntryHandler;
+
+        Image image;
+        boolean hasNextMessage;
+        long nextTimestamp;
+        private boolean emitting;
+
+        RecordingReplay(final long replaySessionId, final long stopPosition, final LogEntryHandler logEntryHandler)
+        {
+            this.replaySessionId = replaySessionId;
+            this.sessionId = (int)replaySessionId;
+            this.stopPosition = stopPosition;
+            this.logEntryHandler = logEntryHandler;
+        }
+
+        boolean isComplete()
+        {
+            return image.position() >= stopPosition || image.isClosed();
+        }
+
+        int peek()
+        {
+            emitting = false;
+            return image.controlledPoll(assembler, 10);
+        }
+
+        int emit()
+        {
+            emitting = true;
+            return image.controlledPoll(assembler, 10);
+        }
+
+        public Action onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+        {
+            messageHeader.wrap(buffer, offset);
+            if (messageHeader.templateId() != FixMessageDecoder.TEMPLATE_ID)
+            {
+                // Skipped by the log entry handler anyway
+                return CONTINUE;
+            }
+
+            if (emitting)
+            {
+                logEntryHandler.onFragment(buffer, offset, length, header);
+                hasNextMessage = false;
+                return BREAK;
+            }
+            else
+            {
+                fixMessage.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    messageHeader.blockLength(),
+                    messageHeader.version());
+                nextTimestamp = fixMessage.timestamp();
+                hasNextMessage = true;
+                return ABORT;
+            }
+        }
+    }
+
     static class ArchiveLocation
     {
         final long recordingId;
+        final long startTimestamp;
         final long startPosition;
         final long stopPosition;
 
-        ArchiveLocation(final long recordingId, final long startPosition, final long stopPosition)
+        ArchiveLocation(
+            final long recordingId, final long startTimestamp, final long startPosition, final long stopPosition)
         {
             this.recordingId = recordingId;
+            this.startTimestamp = startTimestamp;
             this.startPosition = startPosition;
             this.stopPosition = stopPosition;
         }
 
+        public long startTimestamp()
+        {
+            return startTimestamp;
+        }
+
         public long stopPosition()
         {
             return stopPosition;
@@ -211,6 +494,7 @@ public class FixArchiveScanner implements AutoCloseable
         {
             return "ArchiveReplayInfo{" +
                 "recordingId=" + recordingId +
+                ", startTimestamp=" + startTimestamp +
                 ", startPosition=" + startPosition +
                 ", stopPosition=" + stopPosition +
                 '}';
@@ -80,6 +80,7 @@ class FixReplayerSession extends ReplayerSession
     private int beginGapFillSeqNum = NONE;
 
     private State state;
+    private ReplayCache.CachedReplay cachedReplay;
 
     FixReplayerSession(
         final BufferClaim bufferClaim,
@@ -131,6 +132,21 @@ class FixReplayerSession extends ReplayerSession
         state = State.REPLAYING;
     }
 
+    void query()
+    {
+        final ReplayCache replayCache = replayer.replayCache;
+        if (replayCache != null)
+        {
+            cachedReplay = replayCache.replay(
+                sessionId, beginSeqNo, endSeqNo, sequenceIndex, this, messageTracker(), replayQuery);
+        }
+
+        if (cachedReplay == null)
+        {
+            super.query();
+        }
+    }
+
     MessageTracker messageTracker()
     {
         return new FixMessageTracker(REPLAY, this, sessionId);
@@ -158,6 +174,12 @@ class FixReplayerSession extends ReplayerSession
     // Callback for the ReplayQuery:
     public Action onFragment(
         final DirectBuffer srcBuffer, final int srcOffset, final int srcLength, final Header header)
+    {
+        return onMessage(srcBuffer, srcOffset, srcLength);
+    }
+
+    // Also called for messages replayed from the ReplayCache, which have no Aeron header.
+    Action onMessage(final DirectBuffer srcBuffer, final int srcOffset, final int srcLength)
     {
         replayer.messageHeaderDecoder.wrap(srcBuffer, srcOffset);
         final int actingBlockLength = replayer.messageHeaderDecoder.blockLength();
@@ -278,7 +300,9 @@ class FixReplayerSession extends ReplayerSession
         {
             case REPLAYING:
                 DebugLogger.log(REPLAY_ATTEMPT, "ReplayerSession: REPLAYING step");
-                if (replayOperation.attemptReplay())
+                final boolean complete = cachedReplay != null ?
+                    cachedReplay.attemptReplay() : replayOperation.attemptReplay();
+                if (complete)
                 {
                     state = State.CHECK_REPLAY;
                     return attemptReplay();
@@ -304,7 +328,8 @@ class FixReplayerSession extends ReplayerSession
     private boolean completeReplay()
     {
         // Load state needed to complete the replay
-        final int replayedMessages = replayOperation.replayedMessages();
+        final int replayedMessages = cachedReplay != null ?
+            cachedReplay.replayedMessages() : replayOperation.replayedMessages();
 
         // If the last N messages were admin messages then we need to send a gapfill
         // after the replay query has run.
@@ -358,6 +383,16 @@ class FixReplayerSession extends ReplayerSession
         return true;
     }
 
+    void close()
+    {
+        if (cachedReplay != null)
+        {
+            cachedReplay.close();
+        }
+
+        super.close();
+    }
+
     public String toString()
     {
         return "FixReplayerSession{" +
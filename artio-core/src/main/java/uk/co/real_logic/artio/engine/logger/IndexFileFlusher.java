@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.engine.logger;
+
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Forces index files to disk and renames them into place on its own thread, so that the indexing agents don't
+ * block on an fsync.
+ *
+ * Each index that flushes through this agent registers a {@link Flush}, copies its state into the file to be
+ * flushed and then requests the flush. The index mustn't touch that file again until the flush is idle. All the
+ * flushes requested whilst a pass is running are carried out in the next pass, so that indices which update their
+ * files on the same timeout, such as the sent and received sequence number indices, are committed together.
+ */
+public class IndexFileFlusher implements Agent
+{
+    private static final int IDLE = 0;
+    private static final int REQUESTED = 1;
+    private static final int FLUSHING = 2;
+
+    private final List<Flush> flushes = new CopyOnWriteArrayList<>();
+    private final ErrorHandler errorHandler;
+    private final AtomicCounter flushLatencyInNs;
+    private final AtomicCounter maxFlushLatencyInNs;
+    private final String agentNamePrefix;
+
+    public IndexFileFlusher(
+        final ErrorHandler errorHandler,
+        final AtomicCounter flushLatencyInNs,
+        final AtomicCounter maxFlushLatencyInNs,
+        final String agentNamePrefix)
+    {
+        this.errorHandler = errorHandler;
+        this.flushLatencyInNs = flushLatencyInNs;
+        this.maxFlushLatencyInNs = maxFlushLatencyInNs;
+        this.agentNamePrefix = agentNamePrefix;
+    }
+
+    Flush newFlush(final Runnable task)
+    {
+        final Flush flush = new Flush(task);
+        flushes.add(flush);
+        return flush;
+    }
+
+    void remove(final Flush flush)
+    {
+        flushes.remove(flush);
+    }
+
+    public int doWork()
+    {
+        int work = 0;
+        for (final Flush flush : flushes)
+        {
+            final long startInNs = System.nanoTime();
+            if (flush.tryFlush())
+            {
+                final long latencyInNs = System.nanoTime() - startInNs;
+                flushLatencyInNs.setOrdered(latencyInNs);
+                maxFlushLatencyInNs.proposeMaxOrdered(latencyInNs);
+                work++;
+            }
+        }
+
+        return work;
+    }
+
+    public String roleName()
+    {
+        return agentNamePrefix + "IndexFileFlusher";
+    }
+
+    final class Flush
+    {
+        private final AtomicInteger state = new AtomicInteger(IDLE);
+        private final Runnable task;
+
+        private Flush(final Runnable task)
+        {
+            this.task = task;
+        }
+
+        boolean isIdle()
+        {
+            return state.get() == IDLE;
+        }
+
+        void request()
+        {
+            state.set(REQUESTED);
+        }
+
+        /**
+         * Waits for a requested flush to complete, running it on the calling thread if the flusher hasn't started it.
+         */
+        void await()
+        {
+            while (!tryFlush() && !isIdle())
+            {
+                Thread.yield();
+            }
+        }
+
+        private boolean tryFlush()
+        {
+            if (!state.compareAndSet(REQUESTED, FLUSHING))
+            {
+                return false;
+            }
+
+            try
+            {
+                task.run();
+            }
+            catch (final Throwable throwable)
+            {
+                errorHandler.onError(throwable);
+            }
+            finally
+            {
+                state.set(IDLE);
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.engine.logger;
+
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+import org.agrona.ErrorHandler;
+import org.agrona.collections.Long2ObjectCache;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import uk.co.real_logic.artio.engine.SequenceNumberExtractor;
+import uk.co.real_logic.artio.messages.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.function.LongFunction;
+
+import static io.aeron.logbuffer.ControlledFragmentHandler.Action.ABORT;
+import static io.aeron.logbuffer.FrameDescriptor.BEGIN_FRAG_FLAG;
+import static io.aeron.logbuffer.FrameDescriptor.UNFRAGMENTED;
+import static uk.co.real_logic.artio.LogTag.REPLAY;
+import static uk.co.real_logic.artio.engine.SequenceNumberExtractor.NO_SEQUENCE_NUMBER;
+import static uk.co.real_logic.artio.engine.logger.Replayer.MOST_RECENT_MESSAGE;
+import static uk.co.real_logic.artio.messages.FixMessageDecoder.*;
+import static uk.co.real_logic.artio.messages.MessageStatus.OK;
+
+/**
+ * Keeps the most recently sent messages of each session in memory, so that resend requests for them, which are
+ * usually for the last few messages, can be answered without a replay from the archive.
+ *
+ * Each session has an off-heap ring buffer of the whole frames of its unfragmented messages in sequence number order,
+ * bounded by both a number of messages and a number of bytes. If the start of a requested range has already been
+ * evicted then the request is answered from the archive as usual. If messages are evicted whilst they are being
+ * replayed from the cache then the rest of the replay falls back to the archive.
+ *
+ * Sessions are evicted from the cache when their set is full. Their buffers are kept on a free list and reused for
+ * the next newly cached session rather than being allocated again.
+ *
+ * Updated by the outbound indexer and read by the {@link Replayer}, which run on the same thread.
+ */
+public class ReplayCache implements Index
+{
+    private final ArrayDeque<SessionCache> freeSessionCaches = new ArrayDeque<>();
+    private final LongFunction<SessionCache> newSessionCache = this::acquireSessionCache;
+    private final MessageHeaderDecoder frameHeaderDecoder = new MessageHeaderDecoder();
+    private final FixMessageDecoder messageFrame = new FixMessageDecoder();
+    private final ResetSequenceNumberDecoder resetSequenceNumber = new ResetSequenceNumberDecoder();
+    private final RedactSequenceUpdateDecoder redactSequenceUpdate = new RedactSequenceUpdateDecoder();
+
+    private final Long2ObjectCache<SessionCache> fixSessionIdToCache;
+    private final SequenceNumberExtractor sequenceNumberExtractor;
+    private final int requiredStreamId;
+    private final int messagesPerSession;
+    private final int bytesPerSession;
+    private final AtomicCounter hits;
+    private final AtomicCounter misses;
+
+    public ReplayCache(
+        final int requiredStreamId,
+        final int messagesPerSession,
+        final int bytesPerSession,
+        final int cacheNumSets,
+        final int cacheSetSize,
+        final ErrorHandler errorHandler,
+        final AtomicCounter hits,
+        final AtomicCounter misses)
+    {
+        this.requiredStreamId = requiredStreamId;
+        this.messagesPerSession = messagesPerSession;
+        this.bytesPerSession = bytesPerSession;
+        this.hits = hits;
+        this.misses = misses;
+
+        fixSessionIdToCache = new Long2ObjectCache<>(cacheNumSets, cacheSetSize, this::onEvicted);
+        sequenceNumberExtractor = new SequenceNumberExtractor(errorHandler);
+    }
+
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        if (header.streamId() == requiredStreamId)
+        {
+            onMessage(buffer, offset, length, header.flags());
+        }
+    }
+
+    public void onCatchup(
+        final DirectBuffer buffer, final int offset, final int length, final Header header, final long recordingId)
+    {
+        onMessage(buffer, offset, length, header.flags());
+    }
+
+    private void onMessage(final DirectBuffer srcBuffer, final int srcOffset, final int srcLength, final byte flags)
+    {
+        final boolean unfragmented = (flags & UNFRAGMENTED) == UNFRAGMENTED;
+        if (!unfragmented && (flags & BEGIN_FRAG_FLAG) != BEGIN_FRAG_FLAG)
+        {
+            return;
+        }
+
+        int offset = srcOffset;
+        frameHeaderDecoder.wrap(srcBuffer, offset);
+        final int templateId = frameHeaderDecoder.templateId();
+        final int blockLength = frameHeaderDecoder.blockLength();
+        final int version = frameHeaderDecoder.version();
+        offset += frameHeaderDecoder.encodedLength();
+
+        if (templateId == FixMessageEncoder.TEMPLATE_ID)
+        {
+            messageFrame.wrap(srcBuffer, offset, blockLength, version);
+            if (messageFrame.status() != OK)
+            {
+                return;
+            }
+
+            final long fixSessionId = messageFrame.session();
+            if (!unfragmented)
+            {
+                // The session's cached messages would no longer have contiguous sequence numbers.
+                clear(fixSessionId);
+                return;
+            }
+
+            offset += blockLength;
+            if (version >= metaDataSinceVersion())
+            {
+                offset += metaDataHeaderLength() + messageFrame.metaDataLength();
+                messageFrame.skipMetaData();
+            }
+            offset += bodyHeaderLength();
+
+            final int sequenceNumber = sequenceNumberExtractor.extract(srcBuffer, offset, messageFrame.bodyLength());
+            if (sequenceNumber != NO_SEQUENCE_NUMBER)
+            {
+                fixSessionIdToCache
+                    .computeIfAbsent(fixSessionId, newSessionCache)
+                    .add(srcBuffer, srcOffset, srcLength, sequenceNumber, messageFrame.sequenceIndex());
+            }
+        }
+        else if (templateId == ResetSequenceNumberDecoder.TEMPLATE_ID)
+        {
+            resetSequenceNumber.wrap(srcBuffer, offset, blockLength, version);
+            clear(resetSequenceNumber.session());
+        }
+        else if (templateId == RedactSequenceUpdateDecoder.TEMPLATE_ID)
+        {
+            redactSequenceUpdate.wrap(srcBuffer, offset, blockLength, version);
+            clear(redactSequenceUpdate.session());
+        }
+    }
+
+    private SessionCache acquireSessionCache(final long fixSessionId)
+    {
+        final SessionCache sessionCache = freeSessionCaches.pollFirst();
+        return sessionCache != null ? sessionCache : new SessionCache();
+    }
+
+    private void onEvicted(final SessionCache sessionCache)
+    {
+        // Clearing bumps the generation, so any in-flight replay of the evicted session falls back to the archive.
+        sessionCache.clear();
+        freeSessionCaches.addLast(sessionCache);
+    }
+
+    private void clear(final long fixSessionId)
+    {
+        final SessionCache sessionCache = fixSessionIdToCache.get(fixSessionId);
+        if (sessionCache != null)
+        {
+            sessionCache.clear();
+        }
+    }
+
+    /**
+     * Starts a replay from the cache if it holds the start of the requested range. Cached messages are passed
+     * straight to the replayer session as they have no Aeron header, whilst the message tracker is only used if the
+     * replay falls back to the archive.
+     *
+     * @return the replay, or null if the range should be replayed from the archive.
+     */
+    CachedReplay replay(
+        final long fixSessionId,
+        final int beginSequenceNumber,
+        final int endSequenceNumber,
+        final int sequenceIndex,
+        final FixReplayerSession replayerSession,
+        final MessageTracker messageTracker,
+        final ReplayQuery replayQuery)
+    {
+        final SessionCache sessionCache = fixSessionIdToCache.get(fixSessionId);
+        if (sessionCache == null || !sessionCache.canReplay(beginSequenceNumber, sequenceIndex))
+        {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return new CachedReplay(
+            sessionCache, fixSessionId, beginSequenceNumber, endSequenceNumber, sequenceIndex, replayerSession,
+            messageTracker, replayQuery);
+    }
+
+    public void readLastPosition(final IndexedPositionConsumer consumer)
+    {
+        // Deliberately blank: the cache starts empty, so doesn't need to catch up with the archive.
+    }
+
+    public void close()
+    {
+        fixSessionIdToCache.clear();
+        freeSessionCaches.clear();
+    }
+
+    final class SessionCache
+    {
+        private final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(bytesPerSession));
+        private final int[] sequenceNumbers = new int[messagesPerSession];
+        private final int[] offsets = new int[messagesPerSession];
+        private final int[] lengths = new int[messagesPerSession];
+
+        private int head;
+        private int count;
+        private int writeOffset;
+        private int sequenceIndex;
+
+        // Let replays from the cache notice that messages they haven't replayed yet are gone.
+        private int generation;
+        private int lastEvictedSequenceNumber;
+
+        private void add(
+            final DirectBuffer srcBuffer,
+            final int srcOffset,
+            final int srcLength,
+            final int sequenceNumber,
+            final int sequenceIndex)
+        {
+            final int capacity = buffer.capacity();
+            if (srcLength > capacity)
+            {
+                clear();
+                return;
+            }
+
+            if (count > 0 && (sequenceIndex != this.sequenceIndex || sequenceNumber <= lastSequenceNumber()))
+            {
+                clear();
+            }
+            this.sequenceIndex = sequenceIndex;
+
+            int offset = writeOffset;
+            if (offset + srcLength > capacity)
+            {
+                // Messages after the write offset are from the previous lap around the buffer, so are the oldest.
+                while (count > 0 && offsets[head] >= offset)
+                {
+                    evictHead();
+                }
+                offset = 0;
+            }
+
+            final int endOffset = offset + srcLength;
+            while (count > 0 && (count == messagesPerSession || offsets[head] < endOffset &&
+                offsets[head] + lengths[head] > offset))
+            {
+                evictHead();
+            }
+
+            buffer.putBytes(offset, srcBuffer, srcOffset, srcLength);
+
+            final int tail = index(count);
+            sequenceNumbers[tail] = sequenceNumber;
+            offsets[tail] = offset;
+            lengths[tail] = srcLength;
+            count++;
+            writeOffset = endOffset;
+        }
+
+        private void evictHead()
+        {
+            lastEvictedSequenceNumber = sequenceNumbers[head];
+            head = index(1);
+            count--;
+        }
+
+        private void clear()
+        {
+            head = 0;
+            count = 0;
+            writeOffset = 0;
+            lastEvictedSequenceNumber = 0;
+            generation++;
+        }
+
+        private boolean canReplay(final int beginSequenceNumber, final int sequenceIndex)
+        {
+            return count > 0 && this.sequenceIndex == sequenceIndex && sequenceNumbers[head] <= beginSequenceNumber;
+        }
+
+        private int lastSequenceNumber()
+        {
+            return sequenceNumbers[index(count - 1)];
+        }
+
+        private int index(final int position)
+        {
+            return (head + position) % messagesPerSession;
+        }
+    }
+
+    /**
+     * A continuable replay from a {@link SessionCache}, that can be retried like a {@link ReplayOperation}.
+     */
+    final class CachedReplay
+    {
+        private final SessionCache sessionCache;
+        private final long fixSessionId;
+        private final int endSequenceNumber;
+        private final int sequenceIndex;
+        private final FixReplayerSession replayerSession;
+        private final MessageTracker messageTracker;
+        private final ReplayQuery replayQuery;
+        private final int generation;
+        private final int lastSequenceNumber;
+
+        private int nextSequenceNumber;
+        private int replayedMessages;
+        private ReplayOperation archiveReplay;
+
+        private CachedReplay(
+            final SessionCache sessionCache,
+            final long fixSessionId,
+            final int beginSequenceNumber,
+            final int endSequenceNumber,
+            final int sequenceIndex,
+            final FixReplayerSession replayerSession,
+            final MessageTracker messageTracker,
+            final ReplayQuery replayQuery)
+        {
+            this.sessionCache = sessionCache;
+            this.fixSessionId = fixSessionId;
+            this.endSequenceNumber = endSequenceNumber;
+            this.sequenceIndex = sequenceIndex;
+            this.replayerSession = replayerSession;
+            this.messageTracker = messageTracker;
+            this.replayQuery = replayQuery;
+            this.nextSequenceNumber = beginSequenceNumber;
+
+            generation = sessionCache.generation;
+            lastSequenceNumber = endSequenceNumber == MOST_RECENT_MESSAGE ?
+                sessionCache.lastSequenceNumber() : endSequenceNumber;
+        }
+
+        /**
+         * Attempt a replay step
+         *
+         * @return true if complete
+         */
+        boolean attemptReplay()
+        {
+            if (archiveReplay != null)
+            {
+                return archiveReplay.attemptReplay();
+            }
+
+            final SessionCache sessionCache = this.sessionCache;
+            if (sessionCache.generation != generation || sessionCache.lastEvictedSequenceNumber >= nextSequenceNumber)
+            {
+                archiveReplay = replayQuery.query(
+                    fixSessionId,
+                    nextSequenceNumber,
+                    sequenceIndex,
+                    endSequenceNumber,
+                    sequenceIndex,
+                    REPLAY,
+                    messageTracker);
+                return false;
+            }
+
+            final int[] sequenceNumbers = sessionCache.sequenceNumbers;
+            for (int position = 0, count = sessionCache.count; position < count; position++)
+            {
+                final int index = sessionCache.index(position);
+                final int sequenceNumber = sequenceNumbers[index];
+                if (sequenceNumber > lastSequenceNumber)
+                {
+                    break;
+                }
+
+                if (sequenceNumber >= nextSequenceNumber)
+                {
+                    // Cached messages have no Aeron header as they aren't being polled from an Image.
+                    if (replayerSession.onMessage(
+                        sessionCache.buffer, sessionCache.offsets[index], sessionCache.lengths[index]) == ABORT)
+                    {
+                        return false;
+                    }
+
+                    replayedMessages++;
+                    nextSequenceNumber = sequenceNumber + 1;
+                }
+            }
+
+            return true;
+        }
+
+        int replayedMessages()
+        {
+            final ReplayOperation archiveReplay = this.archiveReplay;
+            return archiveReplay == null ? replayedMessages : replayedMessages + archiveReplay.replayedMessages();
+        }
+
+        void close()
+        {
+            if (archiveReplay != null)
+            {
+                archiveReplay.close();
+            }
+        }
+    }
+}
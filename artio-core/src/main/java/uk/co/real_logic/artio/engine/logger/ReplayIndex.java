@@ -30,6 +30,7 @@ import uk.co.real_logic.artio.storage.messages.ReplayIndexRecordEncoder;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.util.function.LongFunction;
 
@@ -52,6 +53,10 @@ import static uk.co.real_logic.artio.messages.MessageStatus.OK;
  * Head position counter
  * Tail position counter
  * Multiple ReplayIndexRecord entries
+ *
+ * Index files are created at their initial size and double in size each time that they fill up, until they reach
+ * their maximum size, after which they wrap. Growth only ever happens before the first wrap so records stay at the
+ * same offset within the file.
  */
 public class ReplayIndex implements Index
 {
@@ -74,6 +79,7 @@ public class ReplayIndex implements Index
     private final String logFileDir;
     private final int requiredStreamId;
     private final int indexFileSize;
+    private final int initialIndexFileSize;
     private final BufferFactory bufferFactory;
     private final AtomicBuffer positionBuffer;
     private final ErrorHandler errorHandler;
@@ -83,6 +89,7 @@ public class ReplayIndex implements Index
         final String logFileDir,
         final int requiredStreamId,
         final int indexFileSize,
+        final int initialIndexFileSize,
         final int cacheNumSets,
         final int cacheSetSize,
         final BufferFactory bufferFactory,
@@ -94,6 +101,7 @@ public class ReplayIndex implements Index
         this.logFileDir = logFileDir;
         this.requiredStreamId = requiredStreamId;
         this.indexFileSize = indexFileSize;
+        this.initialIndexFileSize = Math.min(initialIndexFileSize, indexFileSize);
         this.bufferFactory = bufferFactory;
         this.positionBuffer = positionBuffer;
         this.errorHandler = errorHandler;
@@ -106,6 +114,7 @@ public class ReplayIndex implements Index
                 .onRecord(endPosition, messageSize, sequenceNumber, 0, aeronSessionId, NULL_RECORDING_ID));
         sequenceNumberExtractor = new SequenceNumberExtractor(errorHandler);
         checkIndexFileSize(indexFileSize);
+        checkIndexFileSize(this.initialIndexFileSize);
         fixSessionIdToIndex = new Long2ObjectCache<>(cacheNumSets, cacheSetSize, SessionIndex::close);
         final String replayPositionPath = replayPositionPath(logFileDir, requiredStreamId);
         positionWriter = new IndexedPositionWriter(
@@ -269,16 +278,17 @@ public class ReplayIndex implements Index
 
     private final class SessionIndex implements AutoCloseable
     {
-        private final ByteBuffer wrappedBuffer;
         private final AtomicBuffer buffer;
-        private final int recordCapacity;
         private final File replayIndexFile;
 
+        private ByteBuffer wrappedBuffer;
+        private int recordCapacity;
+
         SessionIndex(final long fixSessionId)
         {
             replayIndexFile = replayIndexFile(fixSessionId);
             final boolean exists = replayIndexFile.exists();
-            this.wrappedBuffer = bufferFactory.map(replayIndexFile, indexFileSize);
+            this.wrappedBuffer = bufferFactory.map(replayIndexFile, initialIndexFileSize);
             this.buffer = new UnsafeBuffer(wrappedBuffer);
 
             recordCapacity = recordCapacity(buffer.capacity());
@@ -313,6 +323,11 @@ public class ReplayIndex implements Index
                 NULL_RECORDING_ID ? recordingIdLookup.getRecordingId(aeronSessionId) : knownRecordingId;
             final long beginPosition = endPosition - length;
 
+            if (beginChangePosition == recordCapacity && buffer.capacity() < indexFileSize)
+            {
+                grow();
+            }
+
             beginChangeOrdered(buffer, changePosition);
             UNSAFE.storeFence();
 
@@ -329,6 +344,26 @@ public class ReplayIndex implements Index
             endChangeOrdered(buffer, changePosition);
         }
 
+        private void grow()
+        {
+            final int newFileSize = INITIAL_RECORD_OFFSET + 2 * recordCapacity;
+            try (RandomAccessFile file = new RandomAccessFile(replayIndexFile, "rw"))
+            {
+                file.setLength(newFileSize);
+            }
+            catch (final IOException e)
+            {
+                // Carry on indexing by wrapping within the existing file.
+                errorHandler.onError(e);
+                return;
+            }
+
+            close();
+            wrappedBuffer = bufferFactory.map(replayIndexFile, newFileSize);
+            buffer.wrap(wrappedBuffer);
+            recordCapacity = recordCapacity(buffer.capacity());
+        }
+
         void reset()
         {
             close();
@@ -16,12 +16,8 @@
 package uk.co.real_logic.artio.engine.logger;
 
 import io.aeron.Aeron;
-import io.aeron.ControlledFragmentAssembler;
-import io.aeron.Image;
-import io.aeron.Subscription;
 import io.aeron.archive.client.AeronArchive;
 import io.aeron.archive.status.RecordingPos;
-import org.agrona.ErrorHandler;
 import org.agrona.concurrent.status.CountersReader;
 import uk.co.real_logic.artio.DebugLogger;
 import uk.co.real_logic.artio.LogTag;
@@ -29,8 +25,6 @@ import uk.co.real_logic.artio.util.CharFormatter;
 
 import java.util.List;
 
-import static io.aeron.CommonContext.IPC_CHANNEL;
-
 /**
  * A continuable replay operation that can retried.
  *
@@ -55,44 +49,36 @@ public class ReplayOperation
         ThreadLocal.withInitial(() -> new CharFormatter(
         "Finished with messageTrackerCount=%s, recordingRangeCount=%s%n"));
 
-    private final MessageTracker messageTracker;
-    private final ControlledFragmentAssembler assembler;
+    final MessageTracker messageTracker;
 
     private final List<RecordingRange> ranges;
-    private final AeronArchive aeronArchive;
-    private final ErrorHandler errorHandler;
-    private final int archiveReplayStream;
+    private final ReplayScheduler replayScheduler;
     private final LogTag logTag;
     private final CountersReader countersReader;
-    private final Subscription subscription;
 
     // fields reset for each recordingRange
     private int replayedMessages = 0;
     private RecordingRange recordingRange;
-    private int aeronSessionId;
-    private Image image;
+    private ReplayScheduler.SharedReplay replay;
+
+    // Accessed by the SharedReplay in order to dispatch only the messages within the current recordingRange
+    long consumedPosition;
+    long endPosition;
 
     ReplayOperation(
         final List<RecordingRange> ranges,
         final AeronArchive aeronArchive,
-        final ErrorHandler errorHandler,
-        final Subscription subscription,
-        final int archiveReplayStream,
+        final ReplayScheduler replayScheduler,
         final LogTag logTag,
         final MessageTracker messageTracker)
     {
         this.messageTracker = messageTracker;
-        assembler = new ControlledFragmentAssembler(this.messageTracker);
-
         this.ranges = ranges;
-        this.aeronArchive = aeronArchive;
-        this.errorHandler = errorHandler;
-        this.archiveReplayStream = archiveReplayStream;
+        this.replayScheduler = replayScheduler;
         this.logTag = logTag;
 
         final Aeron aeron = aeronArchive.context().aeron();
         countersReader = aeron.countersReader();
-        this.subscription = subscription;
     }
 
     /**
@@ -130,67 +116,50 @@ public class ReplayOperation
                 ranges.remove(0);
             }
 
-            try
-            {
-                aeronSessionId = (int)aeronArchive.startReplay(
-                    recordingId,
-                    beginPosition,
-                    length,
-                    IPC_CHANNEL,
-                    archiveReplayStream);
-
-                messageTracker.reset();
-
-                // reset the image if the new recordingRange requires it
-                if (image != null && aeronSessionId != image.sessionId())
-                {
-                    image = null;
-                }
-            }
-            catch (final Throwable exception)
-            {
-                errorHandler.onError(exception);
+            messageTracker.reset();
+            this.endPosition = endPosition;
+            replay = replayScheduler.join(this, recordingRange);
 
-                return true;
-            }
+            // The replay is started when the scheduler is next polled, giving other operations a chance to join it.
+            return false;
         }
 
-        if (image == null)
+        final ReplayScheduler.SharedReplay replay = this.replay;
+        if (replay.hasFailed())
         {
-            DebugLogger.log(logTag, "Acquiring Replay Image");
+            leaveReplay();
 
-            image = subscription.imageBySessionId(aeronSessionId);
+            return true;
+        }
+
+        if (!replay.hasImage())
+        {
+            DebugLogger.log(logTag, "Acquiring Replay Image");
 
             return false;
         }
-        else
-        {
-            if (DebugLogger.isEnabled(logTag))
-            {
-                DebugLogger.log(logTag, POLLING_REPLAY_FORMATTER.get().clear().with(image.position()));
-            }
 
-            image.controlledPoll(assembler, Integer.MAX_VALUE);
+        if (DebugLogger.isEnabled(logTag))
+        {
+            DebugLogger.log(logTag, POLLING_REPLAY_FORMATTER.get().clear().with(replay.position()));
+        }
 
-            final int messageTrackerCount = messageTracker.count;
-            final int recordingRangeCount = recordingRange.count;
+        final int messageTrackerCount = messageTracker.count;
+        final int recordingRangeCount = recordingRange.count;
 
-            final boolean closed = image.isClosed();
-            final boolean endOfStream = image.isEndOfStream();
-            if (closed || endOfStream)
-            {
-                return onEndOfImage(recordingRangeCount, closed, endOfStream);
-            }
+        if (replay.isComplete() || replay.position() >= endPosition)
+        {
+            return onEndOfImage(recordingRangeCount, replay.isClosed(), replay.isEndOfStream());
+        }
 
-            // Have we finished this range?
-            if (messageTrackerCount < recordingRangeCount)
-            {
-                return false;
-            }
-            else
-            {
-                return onReachedMessageReplayCount(messageTrackerCount, recordingRangeCount);
-            }
+        // Have we finished this range?
+        if (messageTrackerCount < recordingRangeCount)
+        {
+            return false;
+        }
+        else
+        {
+            return onReachedMessageReplayCount(messageTrackerCount, recordingRangeCount);
         }
     }
 
@@ -221,6 +190,7 @@ public class ReplayOperation
 
         replayedMessages += recordingRangeCount;
         recordingRange = null;
+        leaveReplay();
 
         return ranges.isEmpty();
     }
@@ -230,17 +200,27 @@ public class ReplayOperation
         if (DebugLogger.isEnabled(logTag))
         {
             DebugLogger.log(logTag, FINISHED_FORMATTER.get().clear()
-                .with(image.position()).with(closed).with(endOfStream));
+                .with(replay.position()).with(closed).with(endOfStream));
         }
 
-        aeronSessionId = 0;
         replayedMessages += recordingRangeCount;
         recordingRange = null;
-        image = null;
+        leaveReplay();
 
         return ranges.isEmpty();
     }
 
+    void onDetached(final ReplayScheduler.SharedReplay replay)
+    {
+        this.replay = replay;
+    }
+
+    private void leaveReplay()
+    {
+        replay.leave(this);
+        replay = null;
+    }
+
     int replayedMessages()
     {
         return replayedMessages;
@@ -262,9 +242,9 @@ public class ReplayOperation
 
     public void close()
     {
-        if (aeronSessionId != 0)
+        if (replay != null)
         {
-            aeronArchive.stopReplay(aeronSessionId);
+            leaveReplay();
         }
     }
 }
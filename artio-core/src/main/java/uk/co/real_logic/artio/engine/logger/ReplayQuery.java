@@ -50,6 +50,9 @@ import static uk.co.real_logic.artio.engine.logger.Replayer.MOST_RECENT_MESSAGE;
  */
 public class ReplayQuery implements AutoCloseable
 {
+    private static final long NO_START_POSITION = -1;
+    private static final long INDEX_HAS_GROWN = -2;
+
     private final MessageHeaderDecoder messageFrameHeader = new MessageHeaderDecoder();
     private final ReplayIndexRecordDecoder indexRecord = new ReplayIndexRecordDecoder();
 
@@ -65,6 +68,7 @@ public class ReplayQuery implements AutoCloseable
     private final int archiveReplayStream;
 
     private Subscription replaySubscription;
+    private ReplayScheduler replayScheduler;
 
     public ReplayQuery(
         final String logFileDir,
@@ -113,6 +117,18 @@ public class ReplayQuery implements AutoCloseable
             .query(beginSequenceNumber, beginSequenceIndex, endSequenceNumber, endSequenceIndex, logTag, tracker);
     }
 
+    // Looks up the recording ranges to replay without starting a replay, used by benchmarks.
+    List<RecordingRange> queryRanges(
+        final long sessionId,
+        final int beginSequenceNumber,
+        final int beginSequenceIndex,
+        final int endSequenceNumber,
+        final int endSequenceIndex)
+    {
+        return lookupSessionQuery(sessionId)
+            .queryRanges(beginSequenceNumber, beginSequenceIndex, endSequenceNumber, endSequenceIndex);
+    }
+
     public void queryStartPositions(final Long2LongHashMap newStartPositions)
     {
         final LongHashSet allSessionIds = listReplayIndexSessionIds(logFileDirFile, requiredStreamId);
@@ -157,6 +173,17 @@ public class ReplayQuery implements AutoCloseable
         return fixSessionToIndex.computeIfAbsent(sessionId, newSessionQuery);
     }
 
+    /**
+     * Polls the archive replays of the operations created by this query, should be called once per duty cycle.
+     *
+     * @return the amount of work done.
+     */
+    public int pollReplays()
+    {
+        final ReplayScheduler replayScheduler = this.replayScheduler;
+        return replayScheduler == null ? 0 : replayScheduler.poll();
+    }
+
     public void close()
     {
         fixSessionToIndex.clear();
@@ -166,16 +193,20 @@ public class ReplayQuery implements AutoCloseable
 
     private final class SessionQuery implements AutoCloseable
     {
-        private final ByteBuffer wrappedBuffer;
+        private final File indexFile;
         private final long sessionId;
         private final UnsafeBuffer buffer;
-        private final int capacity;
         private final int actingBlockLength;
         private final int actingVersion;
 
+        private ByteBuffer wrappedBuffer;
+        private int capacity;
+        private long searchStopPosition;
+
         SessionQuery(final long sessionId)
         {
-            wrappedBuffer = indexBufferFactory.map(replayIndexFile(logFileDir, sessionId, requiredStreamId));
+            indexFile = replayIndexFile(logFileDir, sessionId, requiredStreamId);
+            wrappedBuffer = indexBufferFactory.map(indexFile);
             buffer = new UnsafeBuffer(wrappedBuffer);
             capacity = recordCapacity(buffer.capacity());
             this.sessionId = sessionId;
@@ -191,9 +222,40 @@ public class ReplayQuery implements AutoCloseable
             final int endSequenceNumber,
             final int endSequenceIndex,
             final LogTag logTag, final MessageTracker messageTracker)
+        {
+            final List<RecordingRange> ranges = queryRanges(
+                beginSequenceNumber, beginSequenceIndex, endSequenceNumber, endSequenceIndex);
+
+            return newReplayOperation(ranges, logTag, messageTracker);
+        }
+
+        List<RecordingRange> queryRanges(
+            final int beginSequenceNumber,
+            final int beginSequenceIndex,
+            final int endSequenceNumber,
+            final int endSequenceIndex)
+        {
+            List<RecordingRange> ranges;
+            do
+            {
+                remapIfGrown();
+                ranges = tryQueryRanges(beginSequenceNumber, beginSequenceIndex, endSequenceNumber, endSequenceIndex);
+            }
+            while (ranges == null);
+
+            return ranges;
+        }
+
+        // Returns null if the index file grew whilst being queried and the query needs to be retried.
+        private List<RecordingRange> tryQueryRanges(
+            final int beginSequenceNumber,
+            final int beginSequenceIndex,
+            final int endSequenceNumber,
+            final int endSequenceIndex)
         {
             final int actingBlockLength = this.actingBlockLength;
             final int actingVersion = this.actingVersion;
+            final int capacity = this.capacity;
             final boolean upToMostRecentMessage = endSequenceNumber == MOST_RECENT_MESSAGE;
 
             // LOOKUP THE RANGE FROM THE INDEX
@@ -201,8 +263,21 @@ public class ReplayQuery implements AutoCloseable
             final List<RecordingRange> ranges = new ArrayList<>();
             RecordingRange currentRange = null;
 
-            long iteratorPosition = getIteratorPosition();
-            long stopIteratingPosition = iteratorPosition + capacity;
+            long iteratorPosition = searchStartPosition(beginSequenceNumber, beginSequenceIndex);
+            long stopIteratingPosition;
+            if (iteratorPosition == INDEX_HAS_GROWN)
+            {
+                return null;
+            }
+            else if (iteratorPosition == NO_START_POSITION)
+            {
+                iteratorPosition = getIteratorPosition();
+                stopIteratingPosition = iteratorPosition + capacity;
+            }
+            else
+            {
+                stopIteratingPosition = searchStopPosition;
+            }
 
             int lastSequenceNumber = -1;
             while (iteratorPosition != stopIteratingPosition)
@@ -212,6 +287,11 @@ public class ReplayQuery implements AutoCloseable
                 // Lapped by writer
                 if (changePosition > iteratorPosition && (iteratorPosition + capacity) <= beginChangeVolatile(buffer))
                 {
+                    if (hasGrown())
+                    {
+                        return null;
+                    }
+
                     iteratorPosition = changePosition;
                     stopIteratingPosition = iteratorPosition + capacity;
                 }
@@ -269,7 +349,67 @@ public class ReplayQuery implements AutoCloseable
                 ranges.add(currentRange);
             }
 
-            return newReplayOperation(ranges, logTag, messageTracker);
+            return ranges;
+        }
+
+        /**
+         * Binary searches the index for the first record at or after the start of the query. Records are written in
+         * sequence index, sequence number order, so this only reads O(log n) records, rather than scanning from the
+         * oldest record in the index.
+         *
+         * @return the position of the first record at or after the start of the query,
+         * {@link #NO_START_POSITION} if the writer overwrote a record whilst it was being searched, or
+         * {@link #INDEX_HAS_GROWN} if the index file needs to be re-mapped before it can be searched.
+         */
+        private long searchStartPosition(final int beginSequenceNumber, final int beginSequenceIndex)
+        {
+            final int actingBlockLength = this.actingBlockLength;
+            final int actingVersion = this.actingVersion;
+            final int capacity = this.capacity;
+
+            final long headPosition = beginChangeVolatile(buffer);
+            final long tailPosition = endChangeVolatile(buffer);
+            final long oldestPosition = Math.max(0, headPosition - capacity);
+
+            // The writer only wraps once the index file has reached its maximum size, so a search that starts
+            // on an unwrapped index can't be invalidated by the file growing.
+            if (headPosition >= capacity && hasGrown())
+            {
+                return INDEX_HAS_GROWN;
+            }
+
+            long low = oldestPosition;
+            long high = tailPosition;
+            while (low < high)
+            {
+                final long middle = low + ((high - low) / (2 * RECORD_LENGTH)) * RECORD_LENGTH;
+
+                indexRecord.wrap(buffer, offset(middle, capacity), actingBlockLength, actingVersion);
+                final int sequenceIndex = indexRecord.sequenceIndex();
+                final int sequenceNumber = indexRecord.sequenceNumber();
+
+                UNSAFE.loadFence(); // LoadLoad required so previous loads don't move past lapping check below.
+
+                if (beginChangeVolatile(buffer) > middle + capacity)
+                {
+                    // Lapped by writer, fall back to a scan.
+                    return hasGrown() ? INDEX_HAS_GROWN : NO_START_POSITION;
+                }
+
+                final boolean beforeStart = sequenceIndex < beginSequenceIndex ||
+                    (sequenceIndex == beginSequenceIndex && sequenceNumber < beginSequenceNumber);
+                if (beforeStart)
+                {
+                    low = middle + RECORD_LENGTH;
+                }
+                else
+                {
+                    high = middle;
+                }
+            }
+
+            searchStopPosition = oldestPosition + capacity;
+            return low;
         }
 
         private long skipToStart(final int beginSequenceNumber, final long iteratorPosition, final int sequenceNumber)
@@ -301,14 +441,14 @@ public class ReplayQuery implements AutoCloseable
             {
                 replaySubscription = aeronArchive.context().aeron().addSubscription(
                     IPC_CHANNEL, archiveReplayStream);
+                replayScheduler = new ReplayScheduler(
+                    aeronArchive, errorHandler, replaySubscription, archiveReplayStream);
             }
 
             return new ReplayOperation(
                 ranges,
                 aeronArchive,
-                errorHandler,
-                replaySubscription,
-                archiveReplayStream,
+                replayScheduler,
                 logTag,
                 messageTracker);
         }
@@ -359,6 +499,8 @@ public class ReplayQuery implements AutoCloseable
 
         public Long2LongHashMap queryStartPositions()
         {
+            remapIfGrown();
+
             final int actingBlockLength = this.actingBlockLength;
             final int actingVersion = this.actingVersion;
 
@@ -426,6 +568,24 @@ public class ReplayQuery implements AutoCloseable
             return recordingIdToStartPosition;
         }
 
+        // The writer grows the index file rather than wrapping until it reaches its maximum size, so a wrap
+        // observed by a reader can mean that its mapping is stale.
+        private boolean hasGrown()
+        {
+            return indexFile.length() > buffer.capacity();
+        }
+
+        private void remapIfGrown()
+        {
+            if (beginChangeVolatile(buffer) >= capacity && hasGrown())
+            {
+                close();
+                wrappedBuffer = indexBufferFactory.map(indexFile);
+                buffer.wrap(wrappedBuffer);
+                capacity = recordCapacity(buffer.capacity());
+            }
+        }
+
         private long trueBeginPosition(final long beginPosition)
         {
             return beginPosition - FRAME_ALIGNMENT;
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.engine.logger;
+
+import io.aeron.ControlledFragmentAssembler;
+import io.aeron.Image;
+import io.aeron.Subscription;
+import io.aeron.archive.client.AeronArchive;
+import io.aeron.logbuffer.ControlledFragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+import org.agrona.ErrorHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.aeron.CommonContext.IPC_CHANNEL;
+import static io.aeron.logbuffer.ControlledFragmentHandler.Action.ABORT;
+import static io.aeron.logbuffer.ControlledFragmentHandler.Action.CONTINUE;
+
+/**
+ * Shares archive replays between the {@link ReplayOperation}s of a {@link ReplayQuery}, so that many sessions
+ * resending overlapping parts of a recording, for example after an outage, cause a single read of the archive.
+ *
+ * A replay isn't started until the duty cycle after it is first joined, so operations that join in the same duty
+ * cycle with overlapping ranges on the same recording are coalesced into one replay covering all of them. An operation
+ * can also join a replay that has already started if its range is within the part of the recording still to be
+ * replayed. Each replayed message is handed to every operation whose range contains it.
+ *
+ * An outbound recording holds the messages of every session, so a back-pressured operation mustn't hold up the
+ * others. An operation that aborts a message on a replay that it shares is detached into a replay of its own,
+ * starting from that message, and the shared replay carries on without it.
+ *
+ * Each replay is polled once per duty cycle by {@link #poll()}, operations only check their own progress.
+ *
+ * Single threaded.
+ */
+class ReplayScheduler
+{
+    private final List<SharedReplay> replays = new ArrayList<>();
+
+    private final AeronArchive aeronArchive;
+    private final ErrorHandler errorHandler;
+    private final Subscription subscription;
+    private final int archiveReplayStream;
+
+    ReplayScheduler(
+        final AeronArchive aeronArchive,
+        final ErrorHandler errorHandler,
+        final Subscription subscription,
+        final int archiveReplayStream)
+    {
+        this.aeronArchive = aeronArchive;
+        this.errorHandler = errorHandler;
+        this.subscription = subscription;
+        this.archiveReplayStream = archiveReplayStream;
+    }
+
+    SharedReplay join(final ReplayOperation operation, final RecordingRange range)
+    {
+        final long recordingId = range.recordingId;
+        final long beginPosition = range.position;
+        final long endPosition = beginPosition + range.length;
+
+        final List<SharedReplay> replays = this.replays;
+        for (int i = 0, size = replays.size(); i < size; i++)
+        {
+            final SharedReplay replay = replays.get(i);
+            if (replay.recordingId == recordingId && replay.tryJoin(operation, beginPosition, endPosition))
+            {
+                return replay;
+            }
+        }
+
+        final SharedReplay replay = new SharedReplay(recordingId, beginPosition, endPosition, true);
+        replay.tryJoin(operation, beginPosition, endPosition);
+        replays.add(replay);
+        return replay;
+    }
+
+    int poll()
+    {
+        int work = 0;
+        final List<SharedReplay> replays = this.replays;
+        // Replays detached during the poll are added to the end of the list and polled on the next duty cycle.
+        for (int i = 0, size = replays.size(); i < size; i++)
+        {
+            work += replays.get(i).poll();
+        }
+        return work;
+    }
+
+    final class SharedReplay implements ControlledFragmentHandler
+    {
+        private final ControlledFragmentAssembler assembler = new ControlledFragmentAssembler(this);
+        private final List<ReplayOperation> operations = new ArrayList<>();
+        private final long recordingId;
+        private final boolean joinable;
+
+        private long beginPosition;
+        private long endPosition;
+        private boolean started;
+        private boolean failed;
+        private long replaySessionId;
+        private Image image;
+
+        SharedReplay(
+            final long recordingId, final long beginPosition, final long endPosition, final boolean joinable)
+        {
+            this.recordingId = recordingId;
+            this.joinable = joinable;
+            this.beginPosition = beginPosition;
+            this.endPosition = endPosition;
+        }
+
+        private boolean tryJoin(final ReplayOperation operation, final long beginPosition, final long endPosition)
+        {
+            if (failed || !joinable)
+            {
+                return false;
+            }
+
+            if (started)
+            {
+                if (beginPosition < position() || endPosition > this.endPosition)
+                {
+                    return false;
+                }
+            }
+            else
+            {
+                if (beginPosition > this.endPosition || endPosition < this.beginPosition)
+                {
+                    return false;
+                }
+
+                this.beginPosition = Math.min(beginPosition, this.beginPosition);
+                this.endPosition = Math.max(endPosition, this.endPosition);
+            }
+
+            operation.consumedPosition = beginPosition;
+            operations.add(operation);
+            return true;
+        }
+
+        void leave(final ReplayOperation operation)
+        {
+            final List<ReplayOperation> operations = this.operations;
+            operations.remove(operation);
+            if (operations.isEmpty())
+            {
+                replays.remove(this);
+                if (started && !failed && !isComplete())
+                {
+                    aeronArchive.stopReplay(replaySessionId);
+                }
+            }
+        }
+
+        private int poll()
+        {
+            if (!started)
+            {
+                start();
+                return 1;
+            }
+            else if (image == null)
+            {
+                if (!failed)
+                {
+                    image = subscription.imageBySessionId((int)replaySessionId);
+                }
+                return 0;
+            }
+            else if (!isComplete())
+            {
+                return image.controlledPoll(assembler, Integer.MAX_VALUE);
+            }
+
+            return 0;
+        }
+
+        private void start()
+        {
+            started = true;
+            try
+            {
+                replaySessionId = aeronArchive.startReplay(
+                    recordingId,
+                    beginPosition,
+                    endPosition - beginPosition,
+                    IPC_CHANNEL,
+                    archiveReplayStream);
+            }
+            catch (final Throwable exception)
+            {
+                failed = true;
+                errorHandler.onError(exception);
+            }
+        }
+
+        public Action onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+        {
+            final long messageEndPosition = header.position();
+            final List<ReplayOperation> operations = this.operations;
+            for (int i = 0, size = operations.size(); i < size; i++)
+            {
+                final ReplayOperation operation = operations.get(i);
+                if (operation.consumedPosition < messageEndPosition && operation.endPosition >= messageEndPosition)
+                {
+                    if (operation.messageTracker.onFragment(buffer, offset, length, header) == ABORT)
+                    {
+                        if (size == 1)
+                        {
+                            return ABORT;
+                        }
+
+                        detach(operation);
+                        i--;
+                        size--;
+                        continue;
+                    }
+
+                    operation.consumedPosition = messageEndPosition;
+                }
+            }
+
+            return CONTINUE;
+        }
+
+        private void detach(final ReplayOperation operation)
+        {
+            operations.remove(operation);
+
+            // consumedPosition is the start of the aborted message, the detached replay redelivers from there.
+            final SharedReplay replay = new SharedReplay(
+                recordingId, operation.consumedPosition, operation.endPosition, false);
+            replay.operations.add(operation);
+            replays.add(replay);
+            operation.onDetached(replay);
+        }
+
+        boolean hasFailed()
+        {
+            return failed;
+        }
+
+        boolean hasImage()
+        {
+            return image != null;
+        }
+
+        boolean isComplete()
+        {
+            final Image image = this.image;
+            return image != null && (image.isClosed() || image.isEndOfStream());
+        }
+
+        boolean isClosed()
+        {
+            return image.isClosed();
+        }
+
+        boolean isEndOfStream()
+        {
+            return image.isEndOfStream();
+        }
+
+        long position()
+        {
+            final Image image = this.image;
+            return image == null ? beginPosition : image.position();
+        }
+    }
+}
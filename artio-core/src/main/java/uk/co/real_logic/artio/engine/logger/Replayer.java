@@ -71,6 +71,9 @@ public class Replayer implements Agent, ControlledFragmentHandler
     final MessageHeaderEncoder messageHeaderEncoder = new MessageHeaderEncoder();
     final ReplayCompleteEncoder replayCompleteEncoder = new ReplayCompleteEncoder();
 
+    // Null if the replay cache is disabled
+    final ReplayCache replayCache;
+
     // FIX specific state.
     private final LongHashSet gapFillMessageTypes;
     private final FixSessionCodecsFactory fixSessionCodecsFactory;
@@ -131,7 +134,8 @@ public class Replayer implements Agent, ControlledFragmentHandler
         final ReplayerCommandQueue replayerCommandQueue,
         final EpochFractionFormat epochFractionFormat,
         final AtomicCounter currentReplayCount,
-        final int maxConcurrentSessionReplays)
+        final int maxConcurrentSessionReplays,
+        final ReplayCache replayCache)
     {
         this.outboundReplayQuery = outboundReplayQuery;
         this.publication = publication;
@@ -149,6 +153,7 @@ public class Replayer implements Agent, ControlledFragmentHandler
         this.replayerCommandQueue = replayerCommandQueue;
         this.currentReplayCount = currentReplayCount;
         this.maxConcurrentSessionReplays = maxConcurrentSessionReplays;
+        this.replayCache = replayCache;
 
         gapFillMessageTypes = new LongHashSet();
         gapfillOnReplayMessageTypes.forEach(messageTypeAsString ->
@@ -406,6 +411,7 @@ public class Replayer implements Agent, ControlledFragmentHandler
     public int doWork()
     {
         int work = replayerCommandQueue.poll();
+        work += outboundReplayQuery.pollReplays();
         work += pollReplayerChannels();
         return work + inboundSubscription.controlledPoll(this, POLL_LIMIT);
     }
@@ -19,6 +19,7 @@ import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.ErrorHandler;
 import org.agrona.LangUtil;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.concurrent.AtomicBuffer;
 import uk.co.real_logic.artio.engine.SectorFramer;
 import uk.co.real_logic.artio.messages.MessageHeaderDecoder;
@@ -41,6 +42,8 @@ import static uk.co.real_logic.artio.storage.messages.LastKnownSequenceNumberEnc
 
 public class SequenceNumberIndexReader implements AutoCloseable
 {
+    private static final long MISSING_RECORD = -1L;
+
     private final MessageHeaderDecoder fileHeaderDecoder = new MessageHeaderDecoder();
     private final LastKnownSequenceNumberDecoder lastKnownDecoder = new LastKnownSequenceNumberDecoder();
     private final AtomicBuffer inMemoryBuffer;
@@ -49,6 +52,8 @@ public class SequenceNumberIndexReader implements AutoCloseable
     private final ErrorHandler errorHandler;
     private final RecordingIdLookup recordingIdLookup;
     private final RandomAccessFile metaDataFile;
+    // Cache of the offsets of records that have been scanned so that repeated lookups don't scan the buffer.
+    private final Long2LongHashMap recordOffsets = new Long2LongHashMap(MISSING_RECORD);
 
     public SequenceNumberIndexReader(
         final AtomicBuffer inMemoryBuffer,
@@ -86,6 +91,26 @@ public class SequenceNumberIndexReader implements AutoCloseable
 
     public int lastKnownSequenceNumber(final long sessionId)
     {
+        final int cachedPosition = (int)recordOffsets.get(sessionId);
+        if (cachedPosition != MISSING_RECORD)
+        {
+            lastKnownDecoder.wrap(inMemoryBuffer, cachedPosition, BLOCK_LENGTH, SCHEMA_VERSION);
+
+            // Records only move when the index is reset, so validating the session id is sufficient.
+            if (lastKnownDecoder.sessionId() == sessionId)
+            {
+                return lastKnownDecoder.sequenceNumber();
+            }
+
+            recordOffsets.clear();
+        }
+
+        return scanForSequenceNumber(sessionId);
+    }
+
+    private int scanForSequenceNumber(final long sessionId)
+    {
+        final Long2LongHashMap recordOffsets = this.recordOffsets;
         int position = SequenceNumberIndexDescriptor.HEADER_SIZE;
         while (true)
         {
@@ -97,11 +122,18 @@ public class SequenceNumberIndexReader implements AutoCloseable
 
             lastKnownDecoder.wrap(inMemoryBuffer, position, BLOCK_LENGTH, SCHEMA_VERSION);
 
-            if (lastKnownDecoder.sessionId() == sessionId)
+            final long recordSessionId = lastKnownDecoder.sessionId();
+            if (recordSessionId == sessionId)
             {
+                recordOffsets.put(sessionId, position);
                 return lastKnownDecoder.sequenceNumber();
             }
+            else if (recordSessionId == 0)
+            {
+                return UNK_SESSION;
+            }
 
+            recordOffsets.put(recordSessionId, position);
             position += RECORD_SIZE;
         }
     }
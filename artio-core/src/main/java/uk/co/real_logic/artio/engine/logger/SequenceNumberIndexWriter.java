@@ -47,6 +47,7 @@ import java.util.function.Predicate;
 
 import static io.aeron.archive.status.RecordingPos.NULL_RECORDING_ID;
 import static io.aeron.protocol.DataHeaderFlyweight.BEGIN_FLAG;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static uk.co.real_logic.artio.CommonConfiguration.RUNNING_ON_WINDOWS;
 import static uk.co.real_logic.artio.engine.SectorFramer.*;
 import static uk.co.real_logic.artio.engine.SequenceNumberExtractor.NO_SEQUENCE_NUMBER;
@@ -62,6 +63,7 @@ public class SequenceNumberIndexWriter implements Index
 {
     private static final long MISSING_RECORD = -1L;
     private static final long UNINITIALISED = -1;
+    private static final int PAGE_SIZE = 4 * 1024;
     public static final long NO_REQUIRED_POSITION = -1000;
 
     static final int SEQUENCE_NUMBER_OFFSET = LastKnownSequenceNumberEncoder.sequenceNumberEncodingOffset();
@@ -80,6 +82,8 @@ public class SequenceNumberIndexWriter implements Index
     private final LastKnownSequenceNumberEncoder lastKnownEncoder = new LastKnownSequenceNumberEncoder();
     private final LastKnownSequenceNumberDecoder lastKnownDecoder = new LastKnownSequenceNumberDecoder();
     private final Long2LongHashMap recordOffsets = new Long2LongHashMap(MISSING_RECORD);
+    // Every record before this position is indexed in recordOffsets, so new records can be claimed from here.
+    private int nextRecordPosition = HEADER_SIZE;
 
     // Meta data state
     private final File metaDataLocation;
@@ -111,6 +115,13 @@ public class SequenceNumberIndexWriter implements Index
     private long lastUpdatedFileTimeInMs;
     private boolean hasSavedRecordSinceFileUpdate = false;
 
+    // Flushing state, flush is null when the index files are flushed on the indexing thread
+    private final IndexFileFlusher indexFileFlusher;
+    private final IndexFileFlusher.Flush flush;
+    private boolean flipPending = false;
+    private boolean updatePending = false;
+    private volatile boolean filesRenamed = false;
+
     public SequenceNumberIndexWriter(
         final AtomicBuffer inMemoryBuffer,
         final MappedFile indexFile,
@@ -121,6 +132,38 @@ public class SequenceNumberIndexWriter implements Index
         final EpochClock clock,
         final String metaDataDir,
         final Long2LongHashMap connectionIdToILinkUuid)
+    {
+        this(
+            inMemoryBuffer,
+            indexFile,
+            errorHandler,
+            streamId,
+            recordingIdLookup,
+            indexFileStateFlushTimeoutInMs,
+            clock,
+            metaDataDir,
+            connectionIdToILinkUuid,
+            null);
+    }
+
+    /**
+     * Create the writer.
+     *
+     * @param indexFileFlusher the flusher to force files to disk and flip them on, or null to do so on the
+     *                         indexing thread. Flushes are always carried out on the indexing thread on Windows,
+     *                         as the files have to be remapped when they're renamed.
+     */
+    public SequenceNumberIndexWriter(
+        final AtomicBuffer inMemoryBuffer,
+        final MappedFile indexFile,
+        final ErrorHandler errorHandler,
+        final int streamId,
+        final RecordingIdLookup recordingIdLookup,
+        final long indexFileStateFlushTimeoutInMs,
+        final EpochClock clock,
+        final String metaDataDir,
+        final Long2LongHashMap connectionIdToILinkUuid,
+        final IndexFileFlusher indexFileFlusher)
     {
         this.inMemoryBuffer = inMemoryBuffer;
         this.indexFile = indexFile;
@@ -174,6 +217,17 @@ public class SequenceNumberIndexWriter implements Index
             indexFile.close();
             throw e;
         }
+
+        if (indexFileFlusher != null && !RUNNING_ON_WINDOWS)
+        {
+            this.indexFileFlusher = indexFileFlusher;
+            flush = indexFileFlusher.newFlush(this::forceAndRenameFiles);
+        }
+        else
+        {
+            this.indexFileFlusher = null;
+            flush = null;
+        }
     }
 
     private RandomAccessFile openMetaDataFile(final File metaDataLocation)
@@ -497,6 +551,12 @@ public class SequenceNumberIndexWriter implements Index
     {
         int work = positionWriter.checkRecordings();
 
+        if (flipPending && flush.isIdle())
+        {
+            completeFlip();
+            work++;
+        }
+
         if (hasSavedRecordSinceFileUpdate)
         {
             final long requiredUpdateTimeInMs = lastUpdatedFileTimeInMs + indexFileStateFlushTimeoutInMs;
@@ -525,6 +585,7 @@ public class SequenceNumberIndexWriter implements Index
         inMemoryBuffer.setMemory(0, indexedPositionsOffset, (byte)0);
         initialiseBlankBuffer();
         recordOffsets.clear();
+        nextRecordPosition = HEADER_SIZE;
         resetMetaDataFile();
     }
 
@@ -561,6 +622,37 @@ public class SequenceNumberIndexWriter implements Index
     }
 
     private void updateFile()
+    {
+        if (flush == null)
+        {
+            updateFileNow();
+            return;
+        }
+
+        if (!flush.isIdle())
+        {
+            // The previous flush still owns the files, so retry as soon as it completes.
+            hasSavedRecordSinceFileUpdate = true;
+            updatePending = true;
+            return;
+        }
+
+        updatePending = false;
+        if (flipPending)
+        {
+            completeFlip();
+        }
+
+        checksumFramer.updateChecksums();
+        positionWriter.updateChecksums();
+        copyChangedPages();
+        flipPending = true;
+        flush.request();
+        hasSavedRecordSinceFileUpdate = false;
+        lastUpdatedFileTimeInMs = clock.time();
+    }
+
+    private void updateFileNow()
     {
         checksumFramer.updateChecksums();
         positionWriter.updateChecksums();
@@ -572,11 +664,51 @@ public class SequenceNumberIndexWriter implements Index
 
     private void saveFile()
     {
-        writableFile.buffer().putBytes(0, inMemoryBuffer, 0, fileCapacity);
+        copyChangedPages();
         writableFile.force();
         syncMetaDataFile();
     }
 
+    // Only pages that have changed are written to, so that the file has fewer dirty pages to be forced to disk.
+    private void copyChangedPages()
+    {
+        final AtomicBuffer inMemoryBuffer = this.inMemoryBuffer;
+        final AtomicBuffer fileBuffer = writableFile.buffer();
+        final int fileCapacity = this.fileCapacity;
+        for (int pageOffset = 0; pageOffset < fileCapacity; pageOffset += PAGE_SIZE)
+        {
+            final int pageLength = Math.min(PAGE_SIZE, fileCapacity - pageOffset);
+            if (!pageEquals(inMemoryBuffer, fileBuffer, pageOffset, pageLength))
+            {
+                fileBuffer.putBytes(pageOffset, inMemoryBuffer, pageOffset, pageLength);
+            }
+        }
+    }
+
+    private static boolean pageEquals(
+        final AtomicBuffer buffer, final AtomicBuffer otherBuffer, final int pageOffset, final int pageLength)
+    {
+        final int endOffset = pageOffset + pageLength;
+        int offset = pageOffset;
+        for (; offset <= endOffset - SIZE_OF_LONG; offset += SIZE_OF_LONG)
+        {
+            if (buffer.getLong(offset) != otherBuffer.getLong(offset))
+            {
+                return false;
+            }
+        }
+
+        for (; offset < endOffset; offset++)
+        {
+            if (buffer.getByte(offset) != otherBuffer.getByte(offset))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private void syncMetaDataFile()
     {
         if (metaDataFile != null)
@@ -600,9 +732,7 @@ public class SequenceNumberIndexWriter implements Index
             indexFile.close();
         }
 
-        final boolean flipsFiles = rename(indexPath, passingPlacePath) &&
-            rename(writablePath, indexPath) &&
-            rename(passingPlacePath, writablePath);
+        final boolean flipsFiles = renameFiles();
 
         if (RUNNING_ON_WINDOWS)
         {
@@ -612,12 +742,47 @@ public class SequenceNumberIndexWriter implements Index
         }
         else if (flipsFiles)
         {
-            final MappedFile file = this.writableFile;
-            writableFile = indexFile;
-            indexFile = file;
+            swapFiles();
+        }
+    }
+
+    // Run by the indexFileFlusher, the indexing thread doesn't touch either file until the flush is idle.
+    private void forceAndRenameFiles()
+    {
+        writableFile.force();
+        syncMetaDataFile();
+        filesRenamed = renameFiles();
+    }
+
+    private void completeFlip()
+    {
+        flipPending = false;
+        if (filesRenamed)
+        {
+            swapFiles();
+        }
+
+        // A term roll or timeout happened whilst the flush was in progress.
+        if (updatePending)
+        {
+            updateFile();
         }
     }
 
+    private boolean renameFiles()
+    {
+        return rename(indexPath, passingPlacePath) &&
+            rename(writablePath, indexPath) &&
+            rename(passingPlacePath, writablePath);
+    }
+
+    private void swapFiles()
+    {
+        final MappedFile file = this.writableFile;
+        writableFile = indexFile;
+        indexFile = file;
+    }
+
     private boolean rename(final Path src, final Path dest)
     {
         try
@@ -646,9 +811,20 @@ public class SequenceNumberIndexWriter implements Index
     {
         try
         {
+            if (flush != null)
+            {
+                flush.await();
+                indexFileFlusher.remove(flush);
+                updatePending = false;
+                if (flipPending)
+                {
+                    completeFlip();
+                }
+            }
+
             if (isOpen() && hasSavedRecordSinceFileUpdate)
             {
-                updateFile();
+                updateFileNow();
             }
         }
         finally
@@ -685,7 +861,7 @@ public class SequenceNumberIndexWriter implements Index
         int position = (int)recordOffsets.get(sessionId);
         if (position == MISSING_RECORD)
         {
-            position = SequenceNumberIndexDescriptor.HEADER_SIZE;
+            position = nextRecordPosition;
             while (true)
             {
                 position = checksumFramer.claim(position, RECORD_SIZE);
@@ -763,6 +939,7 @@ public class SequenceNumberIndexWriter implements Index
         final int position, final long messagePosition)
     {
         recordOffsets.put(sessionId, position);
+        nextRecordPosition = position + RECORD_SIZE;
         lastKnownEncoder
             .wrap(inMemoryBuffer, position)
             .sessionId(sessionId)
@@ -844,6 +1021,34 @@ public class SequenceNumberIndexWriter implements Index
     {
         loadBuffer(fileBuffer);
         checksumFramer.validateCheckSums();
+        indexRecords();
+    }
+
+    // Single pass over the loaded records so that later lookups, including those of sessions that have never been
+    // seen before, don't need to scan the buffer.
+    private void indexRecords()
+    {
+        int position = HEADER_SIZE;
+        while (true)
+        {
+            final int recordPosition = checksumFramer.claim(position, RECORD_SIZE);
+            if (recordPosition == OUT_OF_SPACE)
+            {
+                break;
+            }
+
+            lastKnownDecoder.wrap(inMemoryBuffer, recordPosition, RECORD_SIZE, SCHEMA_VERSION);
+            final long sessionId = lastKnownDecoder.sessionId();
+            if (sessionId == 0)
+            {
+                break;
+            }
+
+            recordOffsets.put(sessionId, recordPosition);
+            position = recordPosition + RECORD_SIZE;
+        }
+
+        nextRecordPosition = position;
     }
 
     private void loadBuffer(final AtomicBuffer fileBuffer)
@@ -130,6 +130,7 @@ final class LibraryPoller implements LibraryEndPointHandler, ProtocolHandler, Au
     // Uniquely identifies library session
     private final int libraryId;
     private final EpochClock epochClock;
+    private final SessionTimers sessionTimers;
     private final LibraryConfiguration configuration;
     private final SessionIdStrategy sessionIdStrategy;
     private final Timer sessionTimer;
@@ -207,6 +208,7 @@ final class LibraryPoller implements LibraryEndPointHandler, ProtocolHandler, Au
         this.sessionIdStrategy = configuration.sessionIdStrategy();
         this.sessionExistsHandler = configuration.sessionExistsHandler();
         this.epochClock = epochClock;
+        this.sessionTimers = new SessionTimers(epochClock.time());
         this.enginesAreClustered = configuration.libraryAeronChannels().size() > 1;
     }
 
@@ -325,6 +327,7 @@ final class LibraryPoller implements LibraryEndPointHandler, ProtocolHandler, Au
     void disableSession(final InternalSession session)
     {
         sessions = ArrayUtil.remove(sessions, session);
+        sessionTimers.remove(session);
         session.disable();
         cacheSession(session);
     }
@@ -663,7 +666,9 @@ final class LibraryPoller implements LibraryEndPointHandler, ProtocolHandler, Au
         try
         {
             final long correlationId = ++currentCorrelationId;
-            if (outboundPublication.saveLibraryConnect(libraryId, configuration.libraryName(), correlationId) < 0)
+            final InternalSession[] sessions = this.sessions;
+            if (outboundPublication.saveLibraryConnect(
+                libraryId, configuration.libraryName(), correlationId, sessions.length, sessionsChecksum(sessions)) < 0)
             {
                 connectToNextEngineNow(timeInMs);
             }
@@ -729,14 +734,7 @@ final class LibraryPoller implements LibraryEndPointHandler, ProtocolHandler, Au
 
     private int pollSessions(final long timeInMs)
     {
-        final InternalSession[] sessions = this.sessions;
-        int total = 0;
-
-        for (int i = 0, size = sessions.length; i < size; i++)
-        {
-            final InternalSession session = sessions[i];
-            total += session.poll(timeInMs);
-        }
+        int total = sessionTimers.poll(timeInMs);
 
         final ILink3Connection[] iLink3Connections = this.iLink3Connections;
         for (int i = 0, size = iLink3Connections.length; i < size; i++)
@@ -762,6 +760,7 @@ final class LibraryPoller implements LibraryEndPointHandler, ProtocolHandler, Au
                 this.pendingInitiatorSessions = pendingSessions = ArrayUtil.remove(pendingSessions, i);
                 size--;
                 sessions = ArrayUtil.add(sessions, session);
+                sessionTimers.add(session);
             }
             else
             {
@@ -1116,6 +1115,7 @@ final class LibraryPoller implements LibraryEndPointHandler, ProtocolHandler, Au
         else
         {
             sessions = ArrayUtil.add(sessions, session);
+            sessionTimers.add(session);
         }
     }
 
@@ -1199,6 +1199,7 @@ final class LibraryPoller implements LibraryEndPointHandler, ProtocolHandler, Au
                     // session will be in either pendingInitiatorSessions or sessions
                     pendingInitiatorSessions = ArrayUtil.remove(pendingInitiatorSessions, session);
                     sessions = ArrayUtil.remove(sessions, session);
+                    sessionTimers.remove(session);
                     cacheSession(session);
                 }
 
@@ -1527,17 +1528,7 @@ final class LibraryPoller implements LibraryEndPointHandler, ProtocolHandler, Au
     {
         if (libraryId == this.libraryId)
         {
-            final long timeInMs = timeInMs();
-            livenessDetector.onHeartbeat(timeInMs);
-            state = CONNECTED;
-            this.initialAcceptedSessionOwner = initialAcceptedSessionOwner;
-            DebugLogger.log(
-                LIBRARY_CONNECT,
-                controlNotificationFormatter,
-                libraryId,
-                timeInMs);
-
-            controlUpdateILinkSessions();
+            onControlNotification(initialAcceptedSessionOwner);
 
             return controlUpdateSessions(libraryId, sessionsDecoder);
         }
@@ -1545,6 +1536,57 @@ final class LibraryPoller implements LibraryEndPointHandler, ProtocolHandler, Au
         return CONTINUE;
     }
 
+    public Action onControlNotificationUnchanged(
+        final int libraryId,
+        final InitialAcceptedSessionOwner initialAcceptedSessionOwner,
+        final int sessionCount,
+        final long sessionsChecksum)
+    {
+        if (libraryId == this.libraryId)
+        {
+            // If our sessions have changed since we sent the checksum then retry the connect straight away, so that
+            // the engine checks the sessions that we own now.
+            final InternalSession[] sessions = this.sessions;
+            if (sessionCount != sessions.length || sessionsChecksum != sessionsChecksum(sessions))
+            {
+                nextSendLibraryConnectTime = 0;
+                return CONTINUE;
+            }
+
+            onControlNotification(initialAcceptedSessionOwner);
+
+            // Commit to ensure that you leave the poll loop having reconnected successfully
+            return BREAK;
+        }
+
+        return CONTINUE;
+    }
+
+    private void onControlNotification(final InitialAcceptedSessionOwner initialAcceptedSessionOwner)
+    {
+        final long timeInMs = timeInMs();
+        livenessDetector.onHeartbeat(timeInMs);
+        state = CONNECTED;
+        this.initialAcceptedSessionOwner = initialAcceptedSessionOwner;
+        DebugLogger.log(
+            LIBRARY_CONNECT,
+            controlNotificationFormatter,
+            libraryId,
+            timeInMs);
+
+        controlUpdateILinkSessions();
+    }
+
+    private static long sessionsChecksum(final InternalSession[] sessions)
+    {
+        long checksum = SessionsChecksum.EMPTY;
+        for (final InternalSession session : sessions)
+        {
+            checksum = SessionsChecksum.add(checksum, session.id());
+        }
+        return checksum;
+    }
+
     private void controlUpdateILinkSessions()
     {
         // We just disconnect everything.
@@ -1592,6 +1634,7 @@ final class LibraryPoller implements LibraryEndPointHandler, ProtocolHandler, Au
                 session.close();
                 // TODO(Nick): Maybe we shouldn't be creating a lot of arrays and batch this up?
                 sessions = ArrayUtil.remove(sessions, i);
+                sessionTimers.remove(session);
                 size--;
             }
             else
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.library;
+
+import org.agrona.DeadlineTimerWheel;
+import org.agrona.collections.ArrayListUtil;
+import org.agrona.collections.Long2ObjectHashMap;
+import uk.co.real_logic.artio.session.InternalSession;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static uk.co.real_logic.artio.session.InternalSession.NO_TIMER_ID;
+
+/**
+ * Schedules the polling of a library's sessions so that only sessions with a heartbeat, test request or logout
+ * timeout due are polled on a duty cycle.
+ *
+ * Sessions are scheduled lazily: a session's deadlines are only moved later by normal message flow, so a timer
+ * that fires early just polls the session and reschedules it. Changes that can bring a deadline forward, such
+ * as a state change, notify this class through {@link InternalSession#timeoutsChangedHandler(Consumer)} and
+ * make the session due immediately. Sessions that still have work to do after being polled, for example when
+ * back-pressured, are kept due and polled on every duty cycle.
+ */
+class SessionTimers implements DeadlineTimerWheel.TimerHandler
+{
+    private static final long DUE_TIMER_ID = NO_TIMER_ID - 1;
+    private static final int TICK_RESOLUTION_IN_MS = 1;
+    private static final int TICKS_PER_WHEEL = 1024;
+
+    private final Long2ObjectHashMap<InternalSession> timerIdToSession = new Long2ObjectHashMap<>();
+    private final ArrayList<InternalSession> dueSessions = new ArrayList<>();
+    private final Consumer<InternalSession> onTimeoutsChanged = this::onTimeoutsChanged;
+    private final DeadlineTimerWheel timerWheel;
+
+    // Whilst polling, the due sessions at indices below this haven't been polled yet.
+    private int unpolledDueSessions;
+
+    SessionTimers(final long timeInMs)
+    {
+        timerWheel = new DeadlineTimerWheel(MILLISECONDS, timeInMs, TICK_RESOLUTION_IN_MS, TICKS_PER_WHEEL);
+    }
+
+    void add(final InternalSession session)
+    {
+        session.timeoutsChangedHandler(onTimeoutsChanged);
+        session.timerId(DUE_TIMER_ID);
+        dueSessions.add(session);
+    }
+
+    void remove(final InternalSession session)
+    {
+        final long timerId = session.timerId();
+        if (timerId == DUE_TIMER_ID)
+        {
+            final int index = dueSessions.indexOf(session);
+            dueSessions.remove(index);
+            if (index < unpolledDueSessions)
+            {
+                unpolledDueSessions--;
+            }
+        }
+        else if (timerId != NO_TIMER_ID)
+        {
+            timerWheel.cancelTimer(timerId);
+            timerIdToSession.remove(timerId);
+        }
+
+        session.timerId(NO_TIMER_ID);
+        session.timeoutsChangedHandler(null);
+    }
+
+    int poll(final long timeInMs)
+    {
+        final DeadlineTimerWheel timerWheel = this.timerWheel;
+        do
+        {
+            timerWheel.poll(timeInMs, this, Integer.MAX_VALUE);
+        }
+        while (timeInMs >= timerWheel.currentTickTime());
+
+        // Sessions are polled from the end of the list, so the session being polled is always at the index
+        // unpolledDueSessions, even if a callback removes other sessions. Sessions that become due whilst polling
+        // are appended to the list and polled on the next poll.
+        final ArrayList<InternalSession> dueSessions = this.dueSessions;
+        int total = 0;
+        unpolledDueSessions = dueSessions.size();
+        while (unpolledDueSessions > 0)
+        {
+            final InternalSession session = dueSessions.get(--unpolledDueSessions);
+            total += session.poll(timeInMs);
+
+            // Polling can cause the session to be removed, in which case it's no longer at this index, even if it
+            // was added again.
+            final int index = unpolledDueSessions;
+            if (session.timerId() != DUE_TIMER_ID || index >= dueSessions.size() || dueSessions.get(index) != session)
+            {
+                continue;
+            }
+
+            final long nextTimeoutInMs = session.nextTimeoutInMs();
+            if (nextTimeoutInMs > timeInMs)
+            {
+                // Moves a session that has already been polled, or has just become due, into this index.
+                ArrayListUtil.fastUnorderedRemove(dueSessions, index);
+                schedule(session, nextTimeoutInMs);
+            }
+        }
+
+        return total;
+    }
+
+    public boolean onTimerExpiry(final TimeUnit timeUnit, final long now, final long timerId)
+    {
+        final InternalSession session = timerIdToSession.remove(timerId);
+        if (session != null)
+        {
+            session.timerId(DUE_TIMER_ID);
+            dueSessions.add(session);
+        }
+
+        return true;
+    }
+
+    private void onTimeoutsChanged(final InternalSession session)
+    {
+        final long timerId = session.timerId();
+        if (timerId != DUE_TIMER_ID && timerId != NO_TIMER_ID)
+        {
+            timerWheel.cancelTimer(timerId);
+            timerIdToSession.remove(timerId);
+            session.timerId(DUE_TIMER_ID);
+            dueSessions.add(session);
+        }
+    }
+
+    private void schedule(final InternalSession session, final long deadlineInMs)
+    {
+        final long timerId = timerWheel.scheduleTimer(deadlineInMs);
+        timerIdToSession.put(timerId, session);
+        session.timerId(timerId);
+    }
+}
@@ -29,6 +29,8 @@ public interface EngineEndPointHandler
         int libraryId,
         String libraryName,
         long correlationId,
+        int sessionCount,
+        long sessionsChecksum,
         int aeronSessionId);
 
     Action onInitiateConnection(
@@ -153,6 +153,8 @@ public final class EngineProtocolSubscription implements ControlledFragmentHandl
             libraryId,
             libraryName,
             libraryConnect.correlationId(),
+            libraryConnect.sessionCount(),
+            libraryConnect.sessionsChecksum(),
             header.sessionId());
     }
 
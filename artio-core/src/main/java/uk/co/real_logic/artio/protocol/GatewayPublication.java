@@ -77,6 +77,8 @@ public class GatewayPublication extends ClaimablePublication
         InitiateConnectionEncoder.BLOCK_LENGTH + InitiateConnectionDecoder.hostHeaderLength() * 10;
     private static final int CONTROL_NOTIFICATION_LENGTH = HEADER_LENGTH + ControlNotificationEncoder.BLOCK_LENGTH +
         GroupSizeEncodingEncoder.ENCODED_LENGTH;
+    private static final int CONTROL_NOTIFICATION_UNCHANGED_LENGTH =
+        HEADER_LENGTH + ControlNotificationUnchangedEncoder.BLOCK_LENGTH;
     private static final int MID_CONNECTION_DISCONNECT_LENGTH =
         HEADER_LENGTH + MidConnectionDisconnectEncoder.BLOCK_LENGTH;
     private static final int FOLLOWER_SESSION_REQUEST_LENGTH =
@@ -124,6 +126,8 @@ public class GatewayPublication extends ClaimablePublication
     private final ConnectEncoder connect = new ConnectEncoder();
     private final ResetSessionIdsEncoder resetSessionIds = new ResetSessionIdsEncoder();
     private final ControlNotificationEncoder controlNotification = new ControlNotificationEncoder();
+    private final ControlNotificationUnchangedEncoder controlNotificationUnchanged =
+        new ControlNotificationUnchangedEncoder();
     private final LibraryTimeoutEncoder libraryTimeout = new LibraryTimeoutEncoder();
     private final ResetSequenceNumberEncoder resetSequenceNumber = new ResetSequenceNumberEncoder();
     private final ResetLibrarySequenceNumberEncoder resetLibrarySequenceNumber =
@@ -150,6 +154,8 @@ public class GatewayPublication extends ClaimablePublication
     private final int maxPayloadLength;
     private final int maxInitialBodyLength;
 
+    private int claimedBodyOffset;
+
     public GatewayPublication(
         final ExclusivePublication dataPublication,
         final AtomicCounter fails,
@@ -368,6 +374,116 @@ public class GatewayPublication extends ClaimablePublication
         destBuffer.putShort(position, (short)srcLength, LITTLE_ENDIAN);
     }
 
+    /**
+     * Claims a region of the publication for a FIX message of a known length and writes the framing header and
+     * metadata into it. The FIX message itself should then be written into {@link #claimedBuffer()} starting at
+     * {@link #claimedBodyOffset()}, followed by a call to either {@link #commitClaim()} or {@link #abortClaim()}.
+     *
+     * Claimed messages must fit into a single fragment of the publication.
+     *
+     * @param messageLength the exact length of the FIX message that will be written into the claim.
+     * @param libraryId the library id of the sender.
+     * @param messageType the long encoded message type.
+     * @param sessionId the session id of the message.
+     * @param sequenceIndex the sequence index of the message.
+     * @param connectionId the connection id of the message.
+     * @param status the status of the message.
+     * @param sequenceNumber the sequence number of the message.
+     * @param srcMetaDataBuffer the metadata to associate with this message, or null for none.
+     * @param metaDataUpdateOffset the offset within the session's metadata buffer.
+     * @return the position in the stream that corresponds to the end of this message or a negative
+     * number indicating an error status.
+     * @throws IllegalArgumentException if the message doesn't fit into a single fragment.
+     */
+    public long claimMessage(
+        final int messageLength,
+        final int libraryId,
+        final long messageType,
+        final long sessionId,
+        final int sequenceIndex,
+        final long connectionId,
+        final MessageStatus status,
+        final int sequenceNumber,
+        final DirectBuffer srcMetaDataBuffer,
+        final int metaDataUpdateOffset)
+    {
+        final DirectBuffer metaDataBuffer = srcMetaDataBuffer == null ? NO_METADATA : srcMetaDataBuffer;
+        final int metaDataLength = metaDataBuffer.capacity();
+        final int framedLength = FRAMED_MESSAGE_SIZE + messageLength + metaDataLength;
+        if (framedLength > maxPayloadLength)
+        {
+            throw new IllegalArgumentException(String.format(
+                "Unable to claim a message of length %d, the maximum claimable length is %d",
+                messageLength,
+                maxInitialBodyLength - metaDataLength));
+        }
+
+        final long position = claim(framedLength);
+        if (position < 0)
+        {
+            return position;
+        }
+
+        int offset = bufferClaim.offset();
+        final MutableDirectBuffer destBuffer = bufferClaim.buffer();
+
+        header.wrap(destBuffer, offset)
+            .blockLength(fixMessage.sbeBlockLength())
+            .templateId(fixMessage.sbeTemplateId())
+            .schemaId(fixMessage.sbeSchemaId())
+            .version(fixMessage.sbeSchemaVersion());
+
+        offset += header.encodedLength();
+
+        fixMessage.wrap(destBuffer, offset)
+            .libraryId(libraryId)
+            .messageType(messageType)
+            .session(sessionId)
+            .sequenceIndex(sequenceIndex)
+            .connection(connectionId)
+            .timestamp(clock.time())
+            .status(status)
+            .sequenceNumber(sequenceNumber)
+            .metaDataUpdateOffset(metaDataUpdateOffset)
+            .putMetaData(metaDataBuffer, 0, metaDataLength);
+
+        putBodyLength(messageLength, offset, metaDataLength, destBuffer);
+        claimedBodyOffset = offset + FixMessageEncoder.BLOCK_LENGTH + metaDataHeaderLength() + metaDataLength +
+            FixMessageEncoder.bodyHeaderLength();
+
+        return position;
+    }
+
+    /**
+     * Gets the buffer of the last successful {@link #claimMessage} call.
+     *
+     * @return the buffer of the last successful claim.
+     */
+    public MutableDirectBuffer claimedBuffer()
+    {
+        return bufferClaim.buffer();
+    }
+
+    /**
+     * Gets the offset within {@link #claimedBuffer()} that the FIX message should be written at.
+     *
+     * @return the offset within {@link #claimedBuffer()} that the FIX message should be written at.
+     */
+    public int claimedBodyOffset()
+    {
+        return claimedBodyOffset;
+    }
+
+    public void commitClaim()
+    {
+        bufferClaim.commit();
+    }
+
+    public void abortClaim()
+    {
+        bufferClaim.abort();
+    }
+
     public long saveManageSession(
         final int libraryId,
         final long connection,
@@ -768,7 +884,12 @@ public class GatewayPublication extends ClaimablePublication
         return position;
     }
 
-    public long saveLibraryConnect(final int libraryId, final String libraryName, final long correlationId)
+    public long saveLibraryConnect(
+        final int libraryId,
+        final String libraryName,
+        final long correlationId,
+        final int sessionCount,
+        final long sessionsChecksum)
     {
         final byte[] libraryNameBytes = bytes(libraryName);
 
@@ -784,6 +905,8 @@ public class GatewayPublication extends ClaimablePublication
         libraryConnect
             .wrapAndApplyHeader(buffer, offset, header)
             .libraryId(libraryId)
+            .sessionCount(sessionCount)
+            .sessionsChecksum(sessionsChecksum)
             .putLibraryName(libraryNameBytes, 0, libraryNameBytes.length)
             .correlationId(correlationId);
 
@@ -977,6 +1100,35 @@ public class GatewayPublication extends ClaimablePublication
         return position;
     }
 
+    public long saveControlNotificationUnchanged(
+        final int libraryId,
+        final InitialAcceptedSessionOwner initialAcceptedSessionOwner,
+        final int sessionCount,
+        final long sessionsChecksum)
+    {
+        final long position = claim(CONTROL_NOTIFICATION_UNCHANGED_LENGTH);
+        if (position < 0)
+        {
+            return position;
+        }
+
+        final MutableDirectBuffer buffer = bufferClaim.buffer();
+        final int offset = bufferClaim.offset();
+
+        controlNotificationUnchanged
+            .wrapAndApplyHeader(buffer, offset, header)
+            .libraryId(libraryId)
+            .initialAcceptedSessionOwner(initialAcceptedSessionOwner)
+            .sessionCount(sessionCount)
+            .sessionsChecksum(sessionsChecksum);
+
+        bufferClaim.commit();
+
+        logSbeMessage(GATEWAY_MESSAGE, controlNotificationUnchanged);
+
+        return position;
+    }
+
     public long saveSlowStatusNotification(final int libraryId, final long connectionId, final SlowStatus status)
     {
         final long position = claim(SLOW_STATUS_NOTIFICATION_LENGTH);
@@ -34,6 +34,12 @@ public interface LibraryEndPointHandler
     Action onControlNotification(
         int libraryId, InitialAcceptedSessionOwner initialAcceptedSessionOwner, SessionsDecoder sessions);
 
+    Action onControlNotificationUnchanged(
+        int libraryId,
+        InitialAcceptedSessionOwner initialAcceptedSessionOwner,
+        int sessionCount,
+        long sessionsChecksum);
+
     Action onSlowStatusNotification(int libraryId, long connectionId, boolean hasBecomeSlow);
 
     Action onResetLibrarySequenceNumber(int libraryId, long sessionId);
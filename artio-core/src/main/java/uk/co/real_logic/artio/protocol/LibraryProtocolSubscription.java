@@ -37,6 +37,8 @@ public final class LibraryProtocolSubscription implements ControlledFragmentHand
     private final WriteMetaDataReplyDecoder writeMetaDataReply = new WriteMetaDataReplyDecoder();
     private final ReadMetaDataReplyDecoder readMetaDataReply = new ReadMetaDataReplyDecoder();
     private final ControlNotificationDecoder controlNotification = new ControlNotificationDecoder();
+    private final ControlNotificationUnchangedDecoder controlNotificationUnchanged =
+        new ControlNotificationUnchangedDecoder();
     private final SlowStatusNotificationDecoder slowStatusNotification = new SlowStatusNotificationDecoder();
     private final ResetLibrarySequenceNumberDecoder resetLibrarySequenceNumber =
         new ResetLibrarySequenceNumberDecoder();
@@ -96,6 +98,11 @@ public final class LibraryProtocolSubscription implements ControlledFragmentHand
                 return onControlNotification(buffer, offset, blockLength, version);
             }
 
+            case ControlNotificationUnchangedDecoder.TEMPLATE_ID:
+            {
+                return onControlNotificationUnchanged(buffer, offset, blockLength, version);
+            }
+
             case SlowStatusNotificationDecoder.TEMPLATE_ID:
             {
                 return onSlowStatusNotification(buffer, offset, blockLength, version);
@@ -186,6 +193,27 @@ public final class LibraryProtocolSubscription implements ControlledFragmentHand
             controlNotification.sessions());
     }
 
+    private Action onControlNotificationUnchanged(
+        final DirectBuffer buffer,
+        final int offset,
+        final int blockLength,
+        final int version)
+    {
+        controlNotificationUnchanged.wrap(buffer, offset, blockLength, version);
+        final int libraryId = controlNotificationUnchanged.libraryId();
+        final Action action = handler.onApplicationHeartbeat(libraryId);
+        if (action == ABORT)
+        {
+            return action;
+        }
+
+        return handler.onControlNotificationUnchanged(
+            libraryId,
+            controlNotificationUnchanged.initialAcceptedSessionOwner(),
+            controlNotificationUnchanged.sessionCount(),
+            controlNotificationUnchanged.sessionsChecksum());
+    }
+
     private Action onSlowStatusNotification(
         final DirectBuffer buffer,
         final int offset,
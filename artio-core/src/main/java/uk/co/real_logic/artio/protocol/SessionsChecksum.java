@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.protocol;
+
+/**
+ * An order independent checksum of the ids of the sessions owned by a library. A reconnecting library sends its
+ * checksum to the engine, which only replies with the full list of the library's sessions if its own checksum
+ * differs.
+ */
+public final class SessionsChecksum
+{
+    public static final long EMPTY = 0;
+
+    private SessionsChecksum()
+    {
+    }
+
+    public static long add(final long checksum, final long sessionId)
+    {
+        // Mix the bits so that sessions with nearby ids don't cancel each other out.
+        long hash = sessionId;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        hash = hash ^ (hash >>> 31);
+
+        return checksum + hash;
+    }
+}
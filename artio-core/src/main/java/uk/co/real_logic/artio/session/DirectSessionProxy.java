@@ -160,6 +160,7 @@ public class DirectSessionProxy implements SessionProxy
         {
             sessionIdStrategy.setupSession(sessionKey, header);
             customisationStrategy.configureHeader(header, sessionId);
+            header.headerTemplateEnabled(true);
         }
     }
 
@@ -27,6 +27,8 @@ import uk.co.real_logic.artio.messages.SessionState;
 import uk.co.real_logic.artio.protocol.GatewayPublication;
 import uk.co.real_logic.artio.util.MutableAsciiBuffer;
 
+import java.util.function.Consumer;
+
 /**
  * Exposes Session methods to internal APIs that we don't want to expose to the outside world
  */
@@ -39,6 +41,11 @@ public class InternalSession extends Session implements AutoCloseable
     public static final int INITIAL_END_OF_RESEND_REQUEST_RANGE = 0;
     public static final boolean INITIAL_AWAITING_HEARTBEAT = false;
 
+    public static final long NO_TIMER_ID = -1;
+
+    private long timerId = NO_TIMER_ID;
+    private Consumer<InternalSession> timeoutsChangedHandler;
+
     public InternalSession(
         final int heartbeatIntervalInS,
         final long connectionId,
@@ -91,6 +98,35 @@ public class InternalSession extends Session implements AutoCloseable
         return super.poll(time);
     }
 
+    public long nextTimeoutInMs()
+    {
+        return super.nextTimeoutInMs();
+    }
+
+    void timeoutsChanged()
+    {
+        final Consumer<InternalSession> timeoutsChangedHandler = this.timeoutsChangedHandler;
+        if (timeoutsChangedHandler != null)
+        {
+            timeoutsChangedHandler.accept(this);
+        }
+    }
+
+    public void timeoutsChangedHandler(final Consumer<InternalSession> timeoutsChangedHandler)
+    {
+        this.timeoutsChangedHandler = timeoutsChangedHandler;
+    }
+
+    public long timerId()
+    {
+        return timerId;
+    }
+
+    public void timerId(final long timerId)
+    {
+        this.timerId = timerId;
+    }
+
     public void disable()
     {
         super.disable();
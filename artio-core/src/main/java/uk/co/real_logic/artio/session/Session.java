@@ -88,6 +88,7 @@ public class Session
     static final String TEST_REQ_ID = "TEST";
     private static final char[] TEST_REQ_ID_CHARS = TEST_REQ_ID.toCharArray();
     private static final int NO_LOGOUT_REJECT_REASON = -1;
+    private static final int NO_CLAIM = -1;
 
     private final UtcTimestampEncoder timestampEncoder;
 
@@ -155,6 +156,12 @@ public class Session
     private int logoutRejectReason = NO_LOGOUT_REJECT_REASON;
     private FixDictionary fixDictionary;
 
+    private final MutableAsciiBuffer claimedBuffer = new MutableAsciiBuffer();
+    private int claimedOffset;
+    private int claimedLength;
+    private int claimedSeqNum = NO_CLAIM;
+    private long claimedPosition;
+
     public Session(
         final int heartbeatIntervalInS,
         final long connectionId,
@@ -483,6 +490,7 @@ public class Session
         if (!header.hasSenderCompID())
         {
             sessionIdStrategy.setupSession(sessionKey, header);
+            header.headerTemplateEnabled(true);
         }
 
         customisationStrategy.configureHeader(header, id);
@@ -541,6 +549,7 @@ public class Session
         final int metaDataUpdateOffset)
     {
         validateCanSendMessage();
+        validateNotClaimed();
 
         final int sentSeqNum = prepare(encoder.header());
 
@@ -631,6 +640,7 @@ public class Session
         final int metaDataUpdateOffset)
     {
         validateCanSendMessage();
+        validateNotClaimed();
 
         final long position = outboundPublication.saveMessage(
             messageBuffer, offset, length, libraryId, messageType, id(), sequenceIndex(), connectionId, OK, seqNum,
@@ -671,6 +681,147 @@ public class Session
         return trySend(messageBuffer, offset, length, seqNum, messageType, metaDataBuffer, metaDataUpdateOffset);
     }
 
+    /**
+     * Tries to claim space within the outbound log buffer for a message of a known length. This lets an
+     * application write a FIX message directly into the log buffer rather than having it copied there from the
+     * session's buffer as {@link #trySend(DirectBuffer, int, int, int, long)} does.
+     * <p>
+     * After a successful claim write the complete FIX message, of exactly <code>messageLength</code> bytes, into
+     * {@link #claimedBuffer()} starting at {@link #claimedOffset()} and then call {@link #commit()} in order to send
+     * it or {@link #abort()} in order to discard it. See {{@link #trySend(Encoder)}} for scenarios where this could
+     * fail.
+     * <p>
+     * The claim is made on the library's outbound publication, which is shared by all of the library's sessions and
+     * by the library's own session management, such as heartbeats. Whilst a claim is uncommitted no message sent
+     * after it, from any session on the library, reaches the engine, so the claim should be committed or aborted
+     * promptly and on the library's thread, before any other message is sent. Sending or claiming another message
+     * on this session whilst the claim is outstanding fails with an {@link IllegalStateException}.
+     * <p>
+     * The message's length has to be known before it's claimed, so messages from an {@link Encoder} should be sent
+     * with {@link #trySend(Encoder)}.
+     *
+     * @param messageLength the exact length of the FIX message that will be written.
+     * @param seqNum        the sequence number of the message that will be written.
+     * @param messageType   the long encoded message type.
+     * @return the position in the stream that corresponds to the end of this message or a negative
+     * number indicating an error status.
+     * @throws IllegalArgumentException if the message is too large to be claimed within a single fragment.
+     * @throws NotConnectedException if the underlying Publication to the FixEngine has been closed or its max position
+     *                               exceeded.
+     */
+    public long tryClaim(final int messageLength, final int seqNum, final long messageType)
+    {
+        return tryClaim(messageLength, seqNum, messageType, null, 0);
+    }
+
+    /**
+     * Tries to claim space within the outbound log buffer for a message of a known length. See
+     * {@link #tryClaim(int, int, long)} for details.
+     *
+     * @param messageLength        the exact length of the FIX message that will be written.
+     * @param seqNum               the sequence number of the message that will be written.
+     * @param messageType          the long encoded message type.
+     * @param metaDataBuffer       the metadata to associate with this message.
+     * @param metaDataUpdateOffset the offset within the session's metadata buffer.
+     * @return the position in the stream that corresponds to the end of this message or a negative
+     * number indicating an error status.
+     * @throws IllegalArgumentException if the message is too large to be claimed within a single fragment.
+     * @throws NotConnectedException if the underlying Publication to the FixEngine has been closed or its max position
+     *                               exceeded.
+     * @see uk.co.real_logic.artio.library.FixLibrary#writeMetaData(long, int, DirectBuffer, int, int)
+     */
+    public long tryClaim(
+        final int messageLength,
+        final int seqNum,
+        final long messageType,
+        final DirectBuffer metaDataBuffer,
+        final int metaDataUpdateOffset)
+    {
+        validateCanSendMessage();
+        validateNotClaimed();
+
+        final long position = outboundPublication.claimMessage(
+            messageLength, libraryId, messageType, id(), sequenceIndex(), connectionId, OK, seqNum,
+            metaDataBuffer, metaDataUpdateOffset);
+
+        if (position > 0)
+        {
+            claimedBuffer.wrap(outboundPublication.claimedBuffer());
+            claimedOffset = outboundPublication.claimedBodyOffset();
+            claimedLength = messageLength;
+            claimedSeqNum = seqNum;
+            claimedPosition = position;
+        }
+
+        return position;
+    }
+
+    /**
+     * Gets the buffer to write a claimed message into after a successful {@link #tryClaim(int, int, long)}.
+     *
+     * @return the buffer to write a claimed message into.
+     */
+    public MutableAsciiBuffer claimedBuffer()
+    {
+        return claimedBuffer;
+    }
+
+    /**
+     * Gets the offset within {@link #claimedBuffer()} to write a claimed message at.
+     *
+     * @return the offset within {@link #claimedBuffer()} to write a claimed message at.
+     */
+    public int claimedOffset()
+    {
+        return claimedOffset;
+    }
+
+    /**
+     * Commits the message written after a successful {@link #tryClaim(int, int, long)}, sending it.
+     *
+     * @throws IllegalStateException if there is no outstanding claim.
+     */
+    public void commit()
+    {
+        validateClaimed();
+
+        DebugLogger.log(FIX_MESSAGE, "Sent ", claimedBuffer, claimedOffset, claimedLength);
+
+        outboundPublication.commitClaim();
+        lastSentMsgSeqNum(claimedSeqNum, claimedPosition);
+        claimedSeqNum = NO_CLAIM;
+    }
+
+    /**
+     * Aborts the message claimed by a successful {@link #tryClaim(int, int, long)}, the message won't be sent.
+     *
+     * @throws IllegalStateException if there is no outstanding claim.
+     */
+    public void abort()
+    {
+        validateClaimed();
+
+        outboundPublication.abortClaim();
+        claimedSeqNum = NO_CLAIM;
+    }
+
+    private void validateNotClaimed()
+    {
+        if (claimedSeqNum != NO_CLAIM)
+        {
+            throw new IllegalStateException(
+                "Unable to send or claim a message whilst the previous claim hasn't been committed or aborted");
+        }
+    }
+
+    private void validateClaimed()
+    {
+        if (claimedSeqNum == NO_CLAIM)
+        {
+            throw new IllegalStateException("No message has been claimed on this session");
+        }
+    }
+
     /**
      * Check if the session is in a state where it can send a message.
      * <p>
@@ -700,6 +851,8 @@ public class Session
     public long trySendSequenceReset(
         final int nextSentMessageSequenceNumber)
     {
+        validateNotClaimed();
+
         nextSequenceIndex(clock.time());
         final long position = proxy.sendSequenceReset(
             lastSentMsgSeqNum, nextSentMessageSequenceNumber, sequenceIndex(), lastMsgSeqNumProcessed);
@@ -778,6 +931,8 @@ public class Session
      */
     public long tryResetSequenceNumbers()
     {
+        validateNotClaimed();
+
         final int sentSeqNum = 1;
         final int heartbeatIntervalInS = (int)MILLISECONDS.toSeconds(heartbeatIntervalInMs);
         nextSequenceIndex(clock.time());
@@ -1785,14 +1940,21 @@ public class Session
         incNextReceivedInboundMessageTime(time);
         sendingHeartbeatIntervalInMs = (long)(heartbeatIntervalInMs * HEARTBEAT_PAUSE_FACTOR);
         nextRequiredHeartbeatTimeInMs = time + sendingHeartbeatIntervalInMs;
+        timeoutsChanged();
     }
 
     protected Session state(final SessionState state)
     {
         this.state = state;
+        timeoutsChanged();
         return this;
     }
 
+    // Called when a timeout may have moved earlier than the last value returned from nextTimeoutInMs()
+    void timeoutsChanged()
+    {
+    }
+
     void id(final long id)
     {
         this.id = id;
@@ -1897,6 +2059,33 @@ public class Session
         close();
     }
 
+    /**
+     * Gets the earliest time at which {@link #poll(long)} may have work to do. Deadlines only move later as
+     * messages are sent and received, so callers only need to re-check this after polling or when
+     * {@link #timeoutsChanged()} is called.
+     *
+     * @return the earliest time at which {@link #poll(long)} may have work to do.
+     */
+    long nextTimeoutInMs()
+    {
+        switch (state().value())
+        {
+            case DISCONNECTING_VALUE:
+            case LOGGING_OUT_VALUE:
+            case LOGGING_OUT_AND_DISCONNECTING_VALUE:
+                return 0;
+
+            case AWAITING_LOGOUT_VALUE:
+                return awaitingLogoutTimeoutInMs + 1;
+
+            case ACTIVE_VALUE:
+                return Math.min(nextRequiredHeartbeatTimeInMs, nextRequiredInboundMessageTimeInMs);
+
+            default:
+                return nextRequiredInboundMessageTimeInMs;
+        }
+    }
+
     int poll(final long time)
     {
         final short state = state().value();
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import uk.co.real_logic.artio.messages.ApplicationHeartbeatEncoder;
+import uk.co.real_logic.artio.util.CharFormatter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertEquals;
+
+public class BinaryDebugLogTest
+{
+    private static final String FIX_MESSAGE = "8=FIX.4.4\0019=5\00135=0\00110=123\001";
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(
+        ByteBuffer.allocateDirect(BinaryDebugLogWriter.fileLength(64 * 1024)));
+    private final BinaryDebugLogWriter writer = new BinaryDebugLogWriter(buffer);
+    private final List<String> lines = new ArrayList<>();
+    private final BinaryDebugLogReader reader = new BinaryDebugLogReader(buffer, lines::add);
+    private final UnsafeBuffer messageBuffer = new UnsafeBuffer(new byte[1024]);
+
+    @Test
+    public void shouldFormatRawArgumentsWhenRead()
+    {
+        final int length = messageBuffer.putStringWithoutLengthAscii(0, FIX_MESSAGE);
+        final CharFormatter formatter = new CharFormatter("Library %s received %s");
+
+        writer.record(LogTag.FIX_MESSAGE).format(formatter).with(2).withFixMessage(messageBuffer, 0, length).commit();
+        writer.record(LogTag.FIX_MESSAGE).with("Sent ").withFixMessage(messageBuffer, 0, length).commit();
+
+        assertEquals(2, reader.doWork());
+
+        assertLine(0, "[FIX_MESSAGE]Library 2 received " + FIX_MESSAGE);
+        assertLine(1, "[FIX_MESSAGE]Sent " + FIX_MESSAGE);
+    }
+
+    @Test
+    public void shouldWriteValuesOfAlreadyFilledFormatter()
+    {
+        final CharFormatter formatter = new CharFormatter("Timed out %s after %sms");
+        formatter.clear().with("session").with(100L);
+
+        writer.record(LogTag.FIX_CONNECTION).formatted(formatter).commit();
+        reader.doWork();
+
+        assertLine(0, "[FIX_CONNECTION]Timed out session after 100ms");
+    }
+
+    @Test
+    public void shouldFormatBytesAndSbeMessages()
+    {
+        final ByteBuffer bytes = ByteBuffer.wrap(new byte[]{ 1, 2, 3 });
+        final ApplicationHeartbeatEncoder heartbeat = new ApplicationHeartbeatEncoder()
+            .wrap(messageBuffer, 0)
+            .libraryId(5);
+
+        writer.record(LogTag.FIX_MESSAGE_TCP).with("Read ").withBytes(bytes, 1, 2).commit();
+        writer.record(LogTag.APPLICATION_HEARTBEAT).withSbeMessage(
+            heartbeat.buffer(), heartbeat.initialOffset(), heartbeat.encodedLength(), heartbeat.sbeBlockLength(),
+            heartbeat.sbeTemplateId(), heartbeat.sbeSchemaId(), heartbeat.sbeSchemaVersion()).commit();
+        reader.doWork();
+
+        assertLine(0, "[FIX_MESSAGE_TCP]Read {2, 3}");
+        assertThat(lines.get(1), allOf(containsString("[APPLICATION_HEARTBEAT]"), containsString("\"libraryId\": 5")));
+    }
+
+    @Test
+    public void shouldCopyAndAdvanceByteBuffer()
+    {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(64);
+        byteBuffer.put(FIX_MESSAGE.getBytes()).flip();
+
+        writer.record(LogTag.FIX_MESSAGE_TCP)
+            .with("Written ")
+            .withFixMessage(byteBuffer, byteBuffer.remaining())
+            .commit();
+        reader.doWork();
+
+        assertEquals(byteBuffer.limit(), byteBuffer.position());
+        assertLine(0, "[FIX_MESSAGE_TCP]Written " + FIX_MESSAGE);
+    }
+
+    @Test
+    public void shouldLabelRecordsWithThreadNameForReaderThatAttachesLate()
+    {
+        writer.record(LogTag.FIX_MESSAGE).with("First").commit();
+        assertEquals(1, reader.doWork());
+
+        writer.record(LogTag.FIX_MESSAGE).with("Second").commit();
+        final List<String> lateLines = new ArrayList<>();
+        final BinaryDebugLogReader lateReader = new BinaryDebugLogReader(buffer, lateLines::add);
+        assertEquals(1, lateReader.doWork());
+
+        assertThat(lateLines.get(0), endsWith(Thread.currentThread().getName() + "[FIX_MESSAGE]Second"));
+    }
+
+    @Test
+    public void shouldLabelRecordsFromEachThreadWithItsName() throws InterruptedException
+    {
+        final Thread thread = new Thread(
+            () -> writer.record(LogTag.FIX_MESSAGE).with("Other").commit(), "other-logging-thread");
+        thread.start();
+        thread.join();
+        writer.record(LogTag.FIX_MESSAGE).with("Current").commit();
+
+        assertEquals(2, reader.doWork());
+
+        assertThat(lines.get(0), endsWith("other-logging-thread[FIX_MESSAGE]Other"));
+        assertLine(1, "[FIX_MESSAGE]Current");
+    }
+
+    @Test
+    public void shouldPreserveNonAsciiCharacters()
+    {
+        final String value = "caf\u00e9 \u20ac \uD834\uDD1E";
+        final CharFormatter formatter = new CharFormatter("Received %s");
+        formatter.clear().with(value);
+
+        writer.record(LogTag.FIX_MESSAGE).with(value).commit();
+        writer.record(LogTag.FIX_MESSAGE).formatted(formatter).commit();
+        reader.doWork();
+
+        assertLine(0, "[FIX_MESSAGE]" + value);
+        assertLine(1, "[FIX_MESSAGE]Received " + value);
+    }
+
+    @Test
+    public void shouldCountAndReportDroppedRecords()
+    {
+        final StringBuilder tooLong = new StringBuilder();
+        for (int i = 0; i < 16 * 1024; i++)
+        {
+            tooLong.append('a');
+        }
+        writer.record(LogTag.FIX_MESSAGE).with(tooLong).commit();
+        assertEquals(1, writer.droppedRecords());
+
+        long written = 0;
+        while (writer.droppedRecords() == 1)
+        {
+            writer.record(LogTag.FIX_MESSAGE).with("Fill").commit();
+            written++;
+        }
+
+        assertEquals(written, reader.doWork());
+        assertEquals("Dropped 2 debug log records", lines.get(lines.size() - 1));
+
+        writer.record(LogTag.FIX_MESSAGE).with("After").commit();
+        assertEquals(1, reader.doWork());
+        assertLine(lines.size() - 1, "[FIX_MESSAGE]After");
+    }
+
+    private void assertLine(final int index, final String suffix)
+    {
+        final String line = lines.get(index);
+        assertThat(line, endsWith(Thread.currentThread().getName() + suffix));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2020 Real Logic Limited, Adaptive Financial Consulting Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.engine.framer;
+
+import org.agrona.CloseHelper;
+import org.junit.After;
+import org.junit.Test;
+import uk.co.real_logic.artio.engine.EngineConfiguration;
+import uk.co.real_logic.artio.engine.framer.TcpChannelSupplier.NewChannelHandler;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static uk.co.real_logic.artio.TestFixtures.unusedPort;
+
+public class DefaultTcpChannelSupplierTest
+{
+    private static final int MAX_ACCEPTS_PER_POLL = 2;
+    private static final long TIME_IN_MS = 1;
+
+    private final InetSocketAddress address = new InetSocketAddress("localhost", unusedPort());
+    private final List<SocketChannel> clients = new ArrayList<>();
+    private final List<TcpChannel> acceptedChannels = new ArrayList<>();
+    private final NewChannelHandler handler = (timeInMs, channel) -> acceptedChannels.add(channel);
+
+    private final DefaultTcpChannelSupplier channelSupplier = new DefaultTcpChannelSupplier(new EngineConfiguration()
+        .bindTo(address.getHostName(), address.getPort())
+        .maxAcceptsPerPoll(MAX_ACCEPTS_PER_POLL));
+
+    @After
+    public void tearDown()
+    {
+        acceptedChannels.forEach(CloseHelper::close);
+        clients.forEach(CloseHelper::close);
+        channelSupplier.close();
+    }
+
+    @Test
+    public void shouldLimitConnectionsAcceptedPerPoll() throws IOException
+    {
+        connectClients(MAX_ACCEPTS_PER_POLL + 1);
+
+        channelSupplier.pollSelector(TIME_IN_MS, handler);
+
+        assertEquals(MAX_ACCEPTS_PER_POLL, acceptedChannels.size());
+
+        channelSupplier.pollSelector(TIME_IN_MS, handler);
+
+        assertEquals(MAX_ACCEPTS_PER_POLL + 1, acceptedChannels.size());
+    }
+
+    private void connectClients(final int count) throws IOException
+    {
+        for (int i = 0; i < count; i++)
+        {
+            clients.add(SocketChannel.open(address));
+        }
+    }
+}
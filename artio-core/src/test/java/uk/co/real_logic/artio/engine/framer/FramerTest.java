@@ -44,6 +44,7 @@ import uk.co.real_logic.artio.engine.logger.ReplayQuery;
 import uk.co.real_logic.artio.engine.logger.SequenceNumberIndexReader;
 import uk.co.real_logic.artio.messages.*;
 import uk.co.real_logic.artio.protocol.GatewayPublication;
+import uk.co.real_logic.artio.protocol.SessionsChecksum;
 import uk.co.real_logic.artio.session.CompositeKey;
 import uk.co.real_logic.artio.session.InternalSession;
 import uk.co.real_logic.artio.session.Session;
@@ -94,6 +95,8 @@ public class FramerTest
     private static final int AERON_SESSION_ID = 234;
     private static final long SESSION_ID = 123;
     private static final String LIBRARY_NAME = "library";
+    private static final int NO_SESSION_COUNT = LibraryConnectDecoder.sessionCountNullValue();
+    private static final long NO_SESSIONS_CHECKSUM = LibraryConnectDecoder.sessionsChecksumNullValue();
 
     private ServerSocketChannel server;
 
@@ -664,9 +667,24 @@ public class FramerTest
         saveControlNotification(times(1));
     }
 
+    @Test
+    public void shouldNotifyLibraryThatSessionsAreUnchangedUponDuplicateConnectWithMatchingChecksum()
+        throws IOException
+    {
+        aClientConnects();
+
+        framer.onLibraryConnect(
+            LIBRARY_ID, LIBRARY_NAME, CORR_ID + 1, 0, SessionsChecksum.EMPTY, AERON_SESSION_ID);
+
+        verify(inboundPublication).saveControlNotificationUnchanged(
+            eq(LIBRARY_ID), any(), eq(0), eq(SessionsChecksum.EMPTY));
+        saveControlNotification(times(1));
+    }
+
     private void duplicateLibraryConnect()
     {
-        framer.onLibraryConnect(LIBRARY_ID, LIBRARY_NAME, CORR_ID + 1, AERON_SESSION_ID);
+        framer.onLibraryConnect(
+            LIBRARY_ID, LIBRARY_NAME, CORR_ID + 1, NO_SESSION_COUNT, NO_SESSIONS_CHECKSUM, AERON_SESSION_ID);
     }
 
     private void verifyLibraryControlNotified(final Matcher<? super Collection<?>> sessionMatcher)
@@ -752,7 +770,8 @@ public class FramerTest
 
     private Action onLibraryConnect()
     {
-        return framer.onLibraryConnect(LIBRARY_ID, LIBRARY_NAME, CORR_ID, AERON_SESSION_ID);
+        return framer.onLibraryConnect(
+            LIBRARY_ID, LIBRARY_NAME, CORR_ID, NO_SESSION_COUNT, NO_SESSIONS_CHECKSUM, AERON_SESSION_ID);
     }
 
     private void givenAGatewayToManage()
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.engine.framer;
+
+import org.junit.Test;
+import uk.co.real_logic.artio.messages.ConnectionType;
+
+import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.co.real_logic.artio.GatewayProcess.NO_CONNECTION_ID;
+import static uk.co.real_logic.artio.engine.framer.SessionContexts.UNKNOWN_SESSION;
+
+public class IndexedGatewaySessionsTest
+{
+    private static final long CONNECTION_ID = 1;
+    private static final long OTHER_CONNECTION_ID = 2;
+    private static final long SESSION_ID = 3;
+    private static final long THIRD_CONNECTION_ID = 4;
+
+    private final IndexedGatewaySessions sessions = new IndexedGatewaySessions(new ArrayList<>(), false);
+
+    @Test
+    public void shouldLookupSessionsByIdsOnceLoggedOn()
+    {
+        final GatewaySession session = newSession(CONNECTION_ID);
+        sessions.add(session);
+
+        assertSame(session, sessions.byConnectionId(CONNECTION_ID));
+        assertNull(sessions.bySessionId(SESSION_ID));
+        assertTrue(sessions.contains(session));
+
+        logon(session, SESSION_ID);
+
+        assertSame(session, sessions.bySessionId(SESSION_ID));
+        assertSame(session, sessions.removeBySessionId(SESSION_ID));
+        assertNull(sessions.byConnectionId(CONNECTION_ID));
+        assertFalse(sessions.contains(session));
+        assertTrue(sessions.list().isEmpty());
+    }
+
+    @Test
+    public void shouldNotFindOfflineSessionsByConnectionId()
+    {
+        final GatewaySession session = newSession(CONNECTION_ID);
+        sessions.add(session);
+        logon(session, SESSION_ID);
+
+        session.goOffline();
+
+        assertNull(sessions.byConnectionId(CONNECTION_ID));
+        assertNull(sessions.byConnectionId(NO_CONNECTION_ID));
+        assertSame(session, sessions.bySessionId(SESSION_ID));
+    }
+
+    @Test
+    public void shouldFindNextSessionWithSameIdWhenFirstIsRemoved()
+    {
+        final GatewaySession session = newSession(CONNECTION_ID);
+        final GatewaySession otherSession = newSession(OTHER_CONNECTION_ID);
+        sessions.add(session);
+        sessions.add(otherSession);
+        logon(session, SESSION_ID);
+        logon(otherSession, SESSION_ID);
+
+        assertSame(session, sessions.bySessionId(SESSION_ID));
+
+        sessions.removeByConnectionId(CONNECTION_ID);
+
+        assertSame(otherSession, sessions.bySessionId(SESSION_ID));
+        assertThat(sessions.list(), contains(otherSession));
+    }
+
+    @Test
+    public void shouldNoLongerHaveDuplicateIdsOnceDuplicateIsRemoved()
+    {
+        final GatewaySession session = newSession(CONNECTION_ID);
+        final GatewaySession otherSession = newSession(OTHER_CONNECTION_ID);
+        sessions.add(session);
+        sessions.add(otherSession);
+        logon(session, SESSION_ID);
+        logon(otherSession, SESSION_ID);
+
+        assertTrue(sessions.hasDuplicateIds());
+
+        sessions.removeByConnectionId(OTHER_CONNECTION_ID);
+
+        assertFalse(sessions.hasDuplicateIds());
+        assertSame(session, sessions.bySessionId(SESSION_ID));
+    }
+
+    @Test
+    public void shouldNoLongerHaveDuplicateIdsOnceIndexedSessionIsRemoved()
+    {
+        final GatewaySession session = newSession(CONNECTION_ID);
+        final GatewaySession otherSession = newSession(OTHER_CONNECTION_ID);
+        sessions.add(session);
+        sessions.add(otherSession);
+        logon(session, SESSION_ID);
+        logon(otherSession, SESSION_ID);
+
+        sessions.removeBySessionId(SESSION_ID);
+
+        assertFalse(sessions.hasDuplicateIds());
+        assertSame(otherSession, sessions.bySessionId(SESSION_ID));
+    }
+
+    @Test
+    public void shouldPreserveOrderOfThreadSafeListOnRemoval()
+    {
+        final IndexedGatewaySessions sessions = new IndexedGatewaySessions(new CopyOnWriteArrayList<>(), true);
+        final GatewaySession session = newSession(CONNECTION_ID);
+        final GatewaySession otherSession = newSession(OTHER_CONNECTION_ID);
+        final GatewaySession thirdSession = newSession(THIRD_CONNECTION_ID);
+        sessions.add(session);
+        sessions.add(otherSession);
+        sessions.add(thirdSession);
+
+        sessions.remove(session);
+
+        assertThat(sessions.list(), contains(otherSession, thirdSession));
+        assertFalse(sessions.contains(session));
+
+        assertSame(otherSession, sessions.removeByConnectionId(OTHER_CONNECTION_ID));
+
+        assertThat(sessions.list(), contains(thirdSession));
+        assertTrue(sessions.contains(thirdSession));
+        assertSame(thirdSession, sessions.removeByConnectionId(THIRD_CONNECTION_ID));
+        assertTrue(sessions.list().isEmpty());
+    }
+
+    @Test
+    public void shouldMoveLastSessionIntoRemovedPosition()
+    {
+        final GatewaySession session = newSession(CONNECTION_ID);
+        final GatewaySession otherSession = newSession(OTHER_CONNECTION_ID);
+        final GatewaySession thirdSession = newSession(THIRD_CONNECTION_ID);
+        sessions.add(session);
+        sessions.add(otherSession);
+        sessions.add(thirdSession);
+
+        sessions.remove(session);
+
+        assertThat(sessions.list(), contains(thirdSession, otherSession));
+        assertFalse(sessions.contains(session));
+        assertTrue(sessions.contains(thirdSession));
+
+        assertSame(thirdSession, sessions.removeByConnectionId(THIRD_CONNECTION_ID));
+
+        assertThat(sessions.list(), contains(otherSession));
+        assertSame(otherSession, sessions.byConnectionId(OTHER_CONNECTION_ID));
+    }
+
+    @Test
+    public void shouldNotAddSessionTwice()
+    {
+        final GatewaySession session = newSession(CONNECTION_ID);
+        sessions.add(session);
+        sessions.add(session);
+
+        sessions.remove(session);
+
+        assertTrue(sessions.list().isEmpty());
+    }
+
+    private GatewaySession newSession(final long connectionId)
+    {
+        return new GatewaySession(
+            connectionId,
+            UNKNOWN_SESSION,
+            "",
+            ConnectionType.ACCEPTOR,
+            null,
+            null,
+            mock(SenderEndPoint.class),
+            null,
+            false,
+            0,
+            false,
+            false,
+            null,
+            0);
+    }
+
+    private void logon(final GatewaySession session, final long sessionId)
+    {
+        final SessionContext context = mock(SessionContext.class);
+        when(context.sessionId()).thenReturn(sessionId);
+        session.onLogon(sessionId, context, null, null, null, 0, 0);
+    }
+}
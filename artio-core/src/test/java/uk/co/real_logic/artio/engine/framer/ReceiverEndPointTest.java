@@ -429,6 +429,32 @@ public class ReceiverEndPointTest
         sessionReceivesTwoMessages();
     }
 
+    @Test
+    public void shouldCountMessagesReadOncePerRead()
+    {
+        theEndpointReceivesTwoCompleteMessages();
+
+        endPoint.poll();
+
+        verify(messagesRead).getAndAddOrdered(2);
+        verifyNoMoreInteractions(messagesRead);
+    }
+
+    @Test
+    public void shouldOnlyCountBackpressuredMessagesOnceSaved()
+    {
+        firstSaveAttemptIsBackPressured();
+
+        theEndpointReceivesTwoCompleteMessages();
+        assertEquals(-2 * MSG_LEN, endPoint.poll());
+        verifyNoMoreInteractions(messagesRead);
+
+        pollWithNoData(0);
+
+        verify(messagesRead).getAndAddOrdered(2);
+        verifyNoMoreInteractions(messagesRead);
+    }
+
     @Test
     public void shouldFrameOneCompleteMessageWhenTheSecondMessageIsIncompleteWhenBackpressured()
     {
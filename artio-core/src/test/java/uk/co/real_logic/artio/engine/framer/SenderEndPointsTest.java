@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.engine.framer;
+
+import org.agrona.ErrorHandler;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class SenderEndPointsTest
+{
+    private final SenderEndPoint firstEndPoint = mock(SenderEndPoint.class);
+    private final SenderEndPoint secondEndPoint = mock(SenderEndPoint.class);
+    private final SenderEndPoints senderEndPoints = new SenderEndPoints(mock(ErrorHandler.class));
+
+    @Before
+    public void setUp()
+    {
+        when(firstEndPoint.connectionId()).thenReturn(1L);
+        when(secondEndPoint.connectionId()).thenReturn(2L);
+        when(secondEndPoint.checkTimeouts(anyLong())).thenReturn(true);
+
+        senderEndPoints.add(firstEndPoint);
+        senderEndPoints.add(secondEndPoint);
+    }
+
+    @Test
+    public void shouldCheckEveryEndPointForTimeouts()
+    {
+        assertEquals(1, senderEndPoints.checkTimeouts(100));
+
+        verify(firstEndPoint).checkTimeouts(100);
+        verify(secondEndPoint).checkTimeouts(100);
+    }
+
+    @Test
+    public void shouldOnlyCheckTimeoutsOncePerMillisecond()
+    {
+        senderEndPoints.checkTimeouts(100);
+
+        assertEquals(0, senderEndPoints.checkTimeouts(100));
+        verify(firstEndPoint, times(1)).checkTimeouts(100);
+        verify(secondEndPoint, times(1)).checkTimeouts(100);
+
+        assertEquals(1, senderEndPoints.checkTimeouts(101));
+        verify(firstEndPoint).checkTimeouts(101);
+        verify(secondEndPoint).checkTimeouts(101);
+    }
+}
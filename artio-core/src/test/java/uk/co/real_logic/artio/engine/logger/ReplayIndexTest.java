@@ -49,6 +49,8 @@ import java.nio.ByteBuffer;
 import java.util.stream.IntStream;
 
 import static io.aeron.Aeron.NULL_VALUE;
+import static io.aeron.logbuffer.ControlledFragmentHandler.Action.ABORT;
+import static io.aeron.logbuffer.ControlledFragmentHandler.Action.CONTINUE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.greaterThan;
@@ -104,6 +106,7 @@ public class ReplayIndexTest extends AbstractLogTest
             DEFAULT_LOG_FILE_DIR,
             STREAM_ID,
             DEFAULT_REPLAY_INDEX_FILE_SIZE,
+            DEFAULT_REPLAY_INDEX_INITIAL_FILE_SIZE,
             DEFAULT_LOGGER_CACHE_NUM_SETS,
             DEFAULT_LOGGER_CACHE_SET_SIZE,
             newBufferFactory,
@@ -124,7 +127,7 @@ public class ReplayIndexTest extends AbstractLogTest
     public void setUp()
     {
         mediaDriver = TestFixtures.launchMediaDriver();
-        aeronArchive = AeronArchive.connect();
+        aeronArchive = spy(AeronArchive.connect());
 
         recordingIdLookup = new RecordingIdLookup(new YieldingIdleStrategy(), aeron().countersReader());
 
@@ -241,6 +244,59 @@ public class ReplayIndexTest extends AbstractLogTest
         verifyMessagesRead(2);
     }
 
+    @Test(timeout = 20_000L)
+    public void shouldShareReplayBetweenOverlappingQueries()
+    {
+        indexExampleMessage(SESSION_ID, SEQUENCE_NUMBER, SEQUENCE_INDEX);
+        indexExampleMessage(SESSION_ID_2, SEQUENCE_NUMBER, SEQUENCE_INDEX);
+        indexExampleMessage(SESSION_ID, SEQUENCE_NUMBER + 1, SEQUENCE_INDEX);
+        indexExampleMessage(SESSION_ID_2, SEQUENCE_NUMBER + 1, SEQUENCE_INDEX);
+
+        final ReplayOperation operation = newOperation(
+            SESSION_ID, SEQUENCE_NUMBER, SEQUENCE_INDEX, SEQUENCE_NUMBER + 1, SEQUENCE_INDEX);
+        final ReplayOperation otherOperation = newOperation(
+            SESSION_ID_2, SEQUENCE_NUMBER + 1, SEQUENCE_INDEX, SEQUENCE_NUMBER + 1, SEQUENCE_INDEX);
+
+        replayUntilComplete(operation, otherOperation);
+
+        assertEquals(2, operation.replayedMessages());
+        assertEquals(1, otherOperation.replayedMessages());
+        verifyMessagesRead(3);
+        verifyReplaysStarted(1);
+    }
+
+    @Test(timeout = 20_000L)
+    public void shouldDetachOperationThatAbortsFromSharedReplay()
+    {
+        indexExampleMessage(SESSION_ID, SEQUENCE_NUMBER, SEQUENCE_INDEX);
+        indexExampleMessage(SESSION_ID_2, SEQUENCE_NUMBER, SEQUENCE_INDEX);
+        indexExampleMessage(SESSION_ID, SEQUENCE_NUMBER + 1, SEQUENCE_INDEX);
+        indexExampleMessage(SESSION_ID_2, SEQUENCE_NUMBER + 1, SEQUENCE_INDEX);
+
+        final ControlledFragmentHandler abortingHandler = mock(ControlledFragmentHandler.class);
+        when(abortingHandler.onFragment(any(), anyInt(), anyInt(), any())).thenReturn(ABORT, CONTINUE);
+
+        final ReplayOperation operation = newOperation(
+            SESSION_ID, SEQUENCE_NUMBER, SEQUENCE_INDEX, SEQUENCE_NUMBER + 1, SEQUENCE_INDEX);
+        final ReplayOperation abortingOperation = query.query(
+            SESSION_ID_2,
+            SEQUENCE_NUMBER,
+            SEQUENCE_INDEX,
+            SEQUENCE_NUMBER + 1,
+            SEQUENCE_INDEX,
+            REPLAY,
+            new FixMessageTracker(REPLAY, abortingHandler, SESSION_ID_2));
+
+        replayUntilComplete(operation, abortingOperation);
+
+        assertEquals(2, operation.replayedMessages());
+        assertEquals(2, abortingOperation.replayedMessages());
+        // No duplicates for the operation that didn't abort, the aborted message is redelivered to the other.
+        verifyMessagesRead(2);
+        verify(abortingHandler, times(3)).onFragment(any(), anyInt(), anyInt(), any());
+        verifyReplaysStarted(2);
+    }
+
     @Test(timeout = 20_000L)
     public void shouldNotReturnLogEntriesWithOutOfRangeSequenceNumbers()
     {
@@ -268,6 +324,44 @@ public class ReplayIndexTest extends AbstractLogTest
         assertEquals(2, msgCount);
     }
 
+    @Test(timeout = 20_000L)
+    public void shouldQueryFromMiddleOfIndex()
+    {
+        final int messagesPerSequenceIndex = 10;
+        final int nextSequenceIndex = SEQUENCE_INDEX + 1;
+        final int lastSequenceIndex = SEQUENCE_INDEX + 2;
+        IntStream.rangeClosed(SEQUENCE_INDEX, lastSequenceIndex).forEach(
+            (sequenceIndex) -> IntStream.rangeClosed(1, messagesPerSequenceIndex).forEach(
+            (seqNum) -> indexExampleMessage(SESSION_ID, seqNum, sequenceIndex)));
+
+        final int msgCount = query(5, nextSequenceIndex, 3, lastSequenceIndex);
+
+        // 5 to 10 inclusive, then 1 to 3 inclusive
+        final int expectedMessages = 6 + 3;
+        assertEquals(expectedMessages, msgCount);
+        verifyMessagesRead(expectedMessages);
+    }
+
+    @Test(timeout = 20_000L)
+    public void shouldQueryRecordsAfterIndexFileGrows()
+    {
+        final int initialMessages = 10;
+        final int totalMessages =
+            2 * (DEFAULT_REPLAY_INDEX_INITIAL_FILE_SIZE - MessageHeaderEncoder.ENCODED_LENGTH) / RECORD_LENGTH;
+
+        IntStream.rangeClosed(1, initialMessages).forEach(
+            (seqNum) -> indexExampleMessage(SESSION_ID, seqNum, SEQUENCE_INDEX));
+        assertEquals(initialMessages, query(1, SEQUENCE_INDEX, initialMessages, SEQUENCE_INDEX));
+
+        IntStream.rangeClosed(initialMessages + 1, totalMessages).forEach(
+            (seqNum) -> indexExampleMessage(SESSION_ID, seqNum, SEQUENCE_INDEX));
+
+        final int msgCount = query(1, SEQUENCE_INDEX, totalMessages, SEQUENCE_INDEX);
+
+        assertEquals(totalMessages, msgCount);
+        assertThat(logFile(SESSION_ID).length(), greaterThan((long)DEFAULT_REPLAY_INDEX_INITIAL_FILE_SIZE));
+    }
+
     @Test(timeout = 20_000L)
     public void shouldNotStopIndexingWhenBufferFull()
     {
@@ -494,23 +588,54 @@ public class ReplayIndexTest extends AbstractLogTest
         final int endSequenceNumber,
         final int endSequenceIndex)
     {
-        final ReplayOperation operation = query.query(
-            sessionId,
-            beginSequenceNumber,
-            beginSequenceIndex,
-            endSequenceNumber,
-            endSequenceIndex,
-            REPLAY,
-            new FixMessageTracker(REPLAY, mockHandler, sessionId));
+        final ReplayOperation operation = newOperation(
+            sessionId, beginSequenceNumber, beginSequenceIndex, endSequenceNumber, endSequenceIndex);
+
+        replayUntilComplete(operation);
+
+        return operation.replayedMessages();
+    }
 
+    private void replayUntilComplete(final ReplayOperation... operations)
+    {
         final IdleStrategy idleStrategy = CommonConfiguration.backoffIdleStrategy();
-        while (!operation.attemptReplay())
+        final boolean[] complete = new boolean[operations.length];
+        int remaining = operations.length;
+        while (remaining > 0)
         {
+            query.pollReplays();
+            for (int i = 0; i < operations.length; i++)
+            {
+                if (!complete[i] && operations[i].attemptReplay())
+                {
+                    complete[i] = true;
+                    remaining--;
+                }
+            }
             idleStrategy.idle();
         }
         idleStrategy.reset();
+    }
 
-        return operation.replayedMessages();
+    private void verifyReplaysStarted(final int times)
+    {
+        verify(aeronArchive, times(times)).startReplay(anyLong(), anyLong(), anyLong(), anyString(), anyInt());
     }
 
+    private ReplayOperation newOperation(
+        final long sessionId,
+        final int beginSequenceNumber,
+        final int beginSequenceIndex,
+        final int endSequenceNumber,
+        final int endSequenceIndex)
+    {
+        return query.query(
+            sessionId,
+            beginSequenceNumber,
+            beginSequenceIndex,
+            endSequenceNumber,
+            endSequenceIndex,
+            REPLAY,
+            new FixMessageTracker(REPLAY, mockHandler, sessionId));
+    }
 }
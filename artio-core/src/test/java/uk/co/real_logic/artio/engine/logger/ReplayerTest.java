@@ -58,6 +58,7 @@ import static io.aeron.logbuffer.ControlledFragmentHandler.Action.*;
 import static java.nio.charset.StandardCharsets.US_ASCII;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 import static uk.co.real_logic.artio.CommonConfiguration.DEFAULT_NAME_PREFIX;
@@ -112,7 +113,12 @@ public class ReplayerTest extends AbstractLogTest
 
         setReplayedMessages(1);
 
-        replayer = new Replayer(
+        replayer = newReplayer(null);
+    }
+
+    private Replayer newReplayer(final ReplayCache replayCache)
+    {
+        return new Replayer(
             replayQuery,
             publication,
             claim,
@@ -130,7 +136,8 @@ public class ReplayerTest extends AbstractLogTest
             mock(ReplayerCommandQueue.class),
             EpochFractionFormat.MILLISECONDS,
             currentReplayCounter,
-            DEFAULT_MAX_CONCURRENT_SESSION_REPLAYS);
+            DEFAULT_MAX_CONCURRENT_SESSION_REPLAYS,
+            replayCache);
     }
 
     private void setReplayedMessages(final int replayedMessages)
@@ -173,6 +180,56 @@ public class ReplayerTest extends AbstractLogTest
         verifyReplayCompleteMessageSent();
     }
 
+    @Test
+    public void shouldPublishMessagesFromReplayCache()
+    {
+        final AtomicCounter hits = mock(AtomicCounter.class);
+        final ReplayCache replayCache = new ReplayCache(
+            STREAM_ID, 4, 4096, 1, 1, errorHandler, hits, mock(AtomicCounter.class));
+        replayer = newReplayer(replayCache);
+
+        bufferContainsExampleMessage(true);
+        final int srcLength = fragmentLength();
+        when(fragmentHeader.streamId()).thenReturn(STREAM_ID);
+        replayCache.onFragment(buffer, START, srcLength, fragmentHeader);
+        setupMessage(srcLength);
+
+        final long result = bufferHasResendRequest(END_SEQ_NO);
+        onRequestResendMessage(result, END_SEQ_NO);
+        verify(hits).increment();
+        verifyNoMoreInteractions(replayQuery);
+
+        replayer.doWork();
+        assertHasResentWithPossDupFlag(srcLength, times(1));
+
+        replayer.doWork();
+        replayer.doWork();
+        verifyReplayCompleteMessageSent();
+    }
+
+    @Test
+    public void shouldReplayEvictedSessionFromArchive()
+    {
+        final AtomicCounter misses = mock(AtomicCounter.class);
+        final ReplayCache replayCache = new ReplayCache(
+            STREAM_ID, 4, 4096, 1, 1, errorHandler, mock(AtomicCounter.class), misses);
+        replayer = newReplayer(replayCache);
+        when(fragmentHeader.streamId()).thenReturn(STREAM_ID);
+
+        bufferContainsExampleMessage(true);
+        final int srcLength = fragmentLength();
+        replayCache.onFragment(buffer, START, srcLength, fragmentHeader);
+
+        // Evicts the first session, whose buffer is then reused for the second session.
+        bufferContainsExampleMessage(true, SESSION_ID_2, SEQUENCE_NUMBER, SEQUENCE_INDEX);
+        replayCache.onFragment(buffer, START, fragmentLength(), fragmentHeader);
+
+        final long result = bufferHasResendRequest(END_SEQ_NO);
+        onRequestResendMessage(result, END_SEQ_NO);
+        verify(misses).increment();
+        verifyQueriedService(END_SEQ_NO);
+    }
+
     @Test
     public void shouldSupportConcurrentReplayRequests()
     {
@@ -550,6 +607,28 @@ public class ReplayerTest extends AbstractLogTest
         shouldReplayMessageWithExpandingBodyLength();
     }
 
+    @Test
+    public void shouldUpdateChecksumWhenSettingExistingPossDupFlag()
+    {
+        onReplay(END_SEQ_NO, inv ->
+        {
+            bufferContainsExampleMessage(true);
+            final int srcLength = fragmentLength();
+            assertThat(new MutableAsciiBuffer(buffer).getAscii(START, srcLength), containsString("\00143=N\001"));
+            setupCapturingClaim();
+
+            onFragment(srcLength);
+
+            // The flag is overwritten in place, so the message's length doesn't change
+            assertHasResentWithPossDupFlag(srcLength, times(1));
+            final int afterOffset = this.offset + 1;
+            assertThat(resultAsciiBuffer.getAscii(afterOffset, claimedLength - 1), not(containsString("43=N")));
+            assertChecksumMatchesMessage(afterOffset);
+
+            return true;
+        });
+    }
+
     @Test
     public void shouldPublishMessagesWithoutSetPossDupFlag()
     {
@@ -571,6 +650,7 @@ public class ReplayerTest extends AbstractLogTest
                 sequenceEqualsAscii("8=FIX.4.4\0019=86\001", afterOffset));
 
             assertEndsWithValidChecksum(afterOffset);
+            assertChecksumMatchesMessage(afterOffset);
 
             return true;
         });
@@ -693,6 +773,15 @@ public class ReplayerTest extends AbstractLogTest
         assertTrue(message, matcher.find());
     }
 
+    private void assertChecksumMatchesMessage(final int afterOffset)
+    {
+        final String message = resultAsciiBuffer.getAscii(afterOffset, resultAsciiBuffer.capacity() - afterOffset);
+        final int checksumIndex = message.indexOf("\00110=") + 1;
+        final int checksum = resultAsciiBuffer.computeChecksum(afterOffset, afterOffset + checksumIndex);
+        assertEquals(
+            message, String.format("10=%03d\001", checksum), message.substring(checksumIndex, checksumIndex + 7));
+    }
+
     private void hasNotOverwrittenSeperatorChar()
     {
         final String lengthSection = resultAsciiBuffer.getAscii(offset + 11, 11);
@@ -22,6 +22,7 @@ import io.aeron.Subscription;
 import io.aeron.archive.ArchivingMediaDriver;
 import io.aeron.archive.client.AeronArchive;
 import io.aeron.archive.codecs.SourceLocation;
+import io.aeron.logbuffer.Header;
 import org.agrona.CloseHelper;
 import org.agrona.ErrorHandler;
 import org.agrona.IoUtil;
@@ -29,6 +30,7 @@ import org.agrona.collections.Long2LongHashMap;
 import org.agrona.concurrent.AtomicBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.YieldingIdleStrategy;
+import org.agrona.concurrent.status.AtomicCounter;
 import org.hamcrest.Matchers;
 import org.junit.After;
 import org.junit.Before;
@@ -42,15 +44,19 @@ import uk.co.real_logic.artio.engine.framer.FakeEpochClock;
 import java.io.File;
 
 import static io.aeron.CommonContext.IPC_CHANNEL;
+import static io.aeron.logbuffer.FrameDescriptor.BEGIN_AND_END_FLAGS;
 import static org.agrona.IoUtil.deleteIfExists;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.co.real_logic.artio.TestFixtures.TERM_BUFFER_LENGTH;
 import static uk.co.real_logic.artio.TestFixtures.cleanupMediaDriver;
 import static uk.co.real_logic.artio.TestFixtures.largeTestReqId;
 import static uk.co.real_logic.artio.TestFixtures.launchMediaDriver;
@@ -216,6 +222,112 @@ public class SequenceNumberIndexTest extends AbstractLogTest
         }
     }
 
+    @Test
+    public void shouldFlushIndexFileOnIndexFileFlusher()
+    {
+        final AtomicCounter maxFlushLatencyInNs = mock(AtomicCounter.class);
+        final IndexFileFlusher indexFileFlusher = new IndexFileFlusher(
+            errorHandler, mock(AtomicCounter.class), maxFlushLatencyInNs, "");
+        writer.close();
+        writer = newWriter(inMemoryBuffer, indexFileFlusher);
+
+        try
+        {
+            indexFixMessage();
+
+            clock.advanceMilliSeconds(DEFAULT_INDEX_FILE_STATE_FLUSH_TIMEOUT_IN_MS + 1);
+
+            assertEquals(1, writer.doWork());
+            assertEquals(1, indexFileFlusher.doWork());
+            assertEquals(0, indexFileFlusher.doWork());
+            verify(maxFlushLatencyInNs).proposeMaxOrdered(anyLong());
+
+            final SequenceNumberIndexReader newReader = newInstanceAfterRestart();
+            assertLastKnownSequenceNumberIs(SESSION_ID, SEQUENCE_NUMBER, newReader);
+        }
+        finally
+        {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void shouldRetryFileUpdateThatTimesOutDuringAnIndexFileFlush()
+    {
+        final IndexFileFlusher indexFileFlusher = new IndexFileFlusher(
+            errorHandler, mock(AtomicCounter.class), mock(AtomicCounter.class), "");
+        writer.close();
+        writer = newWriter(inMemoryBuffer, indexFileFlusher);
+
+        try
+        {
+            indexFixMessage();
+            clock.advanceMilliSeconds(DEFAULT_INDEX_FILE_STATE_FLUSH_TIMEOUT_IN_MS + 1);
+            writer.doWork();
+
+            // Times out whilst the first flush still owns the files
+            final int updatedSequenceNumber = SEQUENCE_NUMBER + 1;
+            bufferContainsExampleMessage(true, SESSION_ID, updatedSequenceNumber, SEQUENCE_INDEX);
+            indexRecord();
+            clock.advanceMilliSeconds(DEFAULT_INDEX_FILE_STATE_FLUSH_TIMEOUT_IN_MS + 1);
+            writer.doWork();
+
+            assertEquals(1, indexFileFlusher.doWork());
+            assertLastKnownSequenceNumberIs(SESSION_ID, SEQUENCE_NUMBER, newInstanceAfterRestart());
+
+            // Flips the files and copies the update into the previous index file
+            writer.doWork();
+            assertEquals(1, indexFileFlusher.doWork());
+            assertLastKnownSequenceNumberIs(SESSION_ID, updatedSequenceNumber, newInstanceAfterRestart());
+        }
+        finally
+        {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void shouldRetryTermRollFileUpdateAsSoonAsIndexFileFlushCompletes()
+    {
+        final IndexFileFlusher indexFileFlusher = new IndexFileFlusher(
+            errorHandler, mock(AtomicCounter.class), mock(AtomicCounter.class), "");
+        writer.close();
+        writer = newWriter(inMemoryBuffer, indexFileFlusher);
+
+        try
+        {
+            indexFixMessage();
+            clock.advanceMilliSeconds(DEFAULT_INDEX_FILE_STATE_FLUSH_TIMEOUT_IN_MS + 1);
+            writer.doWork();
+
+            // Rolls the term whilst the first flush still owns the files
+            final int updatedSequenceNumber = SEQUENCE_NUMBER + 1;
+            bufferContainsExampleMessage(true, SESSION_ID, updatedSequenceNumber, SEQUENCE_INDEX);
+            writer.onFragment(buffer, START, fragmentLength(), headerAt(2L * TERM_BUFFER_LENGTH));
+
+            assertEquals(1, indexFileFlusher.doWork());
+
+            // Doesn't wait for the flush timeout before retrying the update
+            writer.doWork();
+            assertEquals(1, indexFileFlusher.doWork());
+            assertLastKnownSequenceNumberIs(SESSION_ID, updatedSequenceNumber, newInstanceAfterRestart());
+        }
+        finally
+        {
+            writer.close();
+        }
+    }
+
+    private Header headerAt(final long position)
+    {
+        final Header header = mock(Header.class);
+        when(header.position()).thenReturn(position);
+        when(header.sessionId()).thenReturn(publication.sessionId());
+        when(header.streamId()).thenReturn(STREAM_ID);
+        when(header.flags()).thenReturn(BEGIN_AND_END_FLAGS);
+        return header;
+    }
+
     /**
      * Simulate scenario that you've crashed halfway through file flip.
      */
@@ -352,6 +464,40 @@ public class SequenceNumberIndexTest extends AbstractLogTest
         assertLastKnownSequenceNumberIs(SESSION_ID_2, 0);
     }
 
+    @Test
+    public void shouldNotReadCachedRecordOfAnotherSessionAfterReset()
+    {
+        indexFixMessage();
+        assertLastKnownSequenceNumberIs(SESSION_ID, SEQUENCE_NUMBER);
+
+        writer.resetSequenceNumbers();
+
+        bufferContainsExampleMessage(true, SESSION_ID_2, SEQUENCE_NUMBER + 5, SEQUENCE_INDEX);
+        indexRecord();
+
+        assertUnknownSession();
+        assertLastKnownSequenceNumberIs(SESSION_ID_2, SEQUENCE_NUMBER + 5);
+    }
+
+    @Test
+    public void shouldAppendNewSessionsAfterExistingRecordsAfterRestart()
+    {
+        indexFixMessage();
+        bufferContainsExampleMessage(true, SESSION_ID_2, SEQUENCE_NUMBER + 5, SEQUENCE_INDEX);
+        indexRecord();
+
+        writer.close();
+        writer = newWriter(inMemoryBuffer);
+
+        final long newSessionId = SESSION_ID_2 + 1;
+        bufferContainsExampleMessage(true, newSessionId, SEQUENCE_NUMBER + 10, SEQUENCE_INDEX);
+        indexRecord();
+
+        assertLastKnownSequenceNumberIs(SESSION_ID, SEQUENCE_NUMBER);
+        assertLastKnownSequenceNumberIs(SESSION_ID_2, SEQUENCE_NUMBER + 5);
+        assertLastKnownSequenceNumberIs(newSessionId, SEQUENCE_NUMBER + 10);
+    }
+
     private SequenceNumberIndexReader newInstanceAfterRestart()
     {
         final AtomicBuffer inMemoryBuffer = newBuffer();
@@ -360,11 +506,17 @@ public class SequenceNumberIndexTest extends AbstractLogTest
     }
 
     private SequenceNumberIndexWriter newWriter(final AtomicBuffer inMemoryBuffer)
+    {
+        return newWriter(inMemoryBuffer, null);
+    }
+
+    private SequenceNumberIndexWriter newWriter(
+        final AtomicBuffer inMemoryBuffer, final IndexFileFlusher indexFileFlusher)
     {
         final MappedFile indexFile = newIndexFile();
         return new SequenceNumberIndexWriter(inMemoryBuffer, indexFile, errorHandler, STREAM_ID, recordingIdLookup,
             DEFAULT_INDEX_FILE_STATE_FLUSH_TIMEOUT_IN_MS, clock, null,
-            new Long2LongHashMap(UNK_SESSION));
+            new Long2LongHashMap(UNK_SESSION), indexFileFlusher);
     }
 
     private MappedFile newIndexFile()
@@ -16,6 +16,7 @@
 package uk.co.real_logic.artio.library;
 
 import io.aeron.Subscription;
+import io.aeron.logbuffer.ControlledFragmentHandler.Action;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.junit.Before;
@@ -33,6 +34,7 @@ import uk.co.real_logic.artio.messages.MetaDataStatus;
 import uk.co.real_logic.artio.messages.SessionStatus;
 import uk.co.real_logic.artio.messages.SlowStatus;
 import uk.co.real_logic.artio.protocol.GatewayPublication;
+import uk.co.real_logic.artio.protocol.SessionsChecksum;
 import uk.co.real_logic.artio.session.InternalSession;
 import uk.co.real_logic.artio.session.Session;
 import uk.co.real_logic.artio.timing.LibraryTimers;
@@ -40,8 +42,11 @@ import uk.co.real_logic.artio.timing.LibraryTimers;
 import java.util.List;
 
 import static io.aeron.CommonContext.IPC_CHANNEL;
+import static io.aeron.logbuffer.ControlledFragmentHandler.Action.BREAK;
+import static io.aeron.logbuffer.ControlledFragmentHandler.Action.CONTINUE;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
@@ -122,6 +127,38 @@ public class LibraryPollerTest
         verify(sessionHandler).onTimeout(libraryId(), firstSession);
     }
 
+    @Test
+    public void shouldReconnectKeepingSessionsWhenControlNotificationUnchanged()
+    {
+        reconnectWithSession();
+
+        final Action action = library.onControlNotificationUnchanged(
+            libraryId(), ENGINE, 1, SessionsChecksum.add(SessionsChecksum.EMPTY, SESSION_ID));
+
+        assertEquals(BREAK, action);
+        assertTrue("Failed to reconnect", library.isConnected());
+        assertEquals(singletonList(session.getValue()), library.sessions());
+        verify(sessionHandler, never()).onTimeout(anyInt(), any());
+    }
+
+    @Test
+    public void shouldResendConnectWhenControlNotificationUnchangedHasDifferentSessions()
+    {
+        reconnectWithSession();
+
+        poll();
+        sendsLibraryConnect(never());
+
+        final Action action = library.onControlNotificationUnchanged(
+            libraryId(), ENGINE, 0, SessionsChecksum.EMPTY);
+
+        assertEquals(CONTINUE, action);
+        assertFalse("Library reconnected despite different sessions", library.isConnected());
+
+        poll();
+        sendsLibraryConnect(times(1));
+    }
+
     @Test
     public void shouldDisconnectSingleEngineAfterTimeout()
     {
@@ -216,10 +253,21 @@ public class LibraryPollerTest
         doesNotAttemptConnectTo(LEADER_CHANNEL);
     }
 
+    private void reconnectWithSession()
+    {
+        connectToSingleEngine();
+
+        manageConnection(CONNECTION_ID, SESSION_ID);
+
+        disconnectDueToTimeout();
+
+        reset(outboundPublication);
+    }
+
     private void sendsLibraryConnect(final VerificationMode times)
     {
         verify(outboundPublication, times)
-            .saveLibraryConnect(eq(libraryId()), anyString(), anyLong());
+            .saveLibraryConnect(eq(libraryId()), anyString(), anyLong(), anyInt(), anyLong());
     }
 
     private void pollTwice()
@@ -288,7 +336,7 @@ public class LibraryPollerTest
             inOrder.verify(transport).inboundPublication();
             inOrder.verify(transport).outboundPublication();
             inOrder.verify(outboundPublication)
-                   .saveLibraryConnect(eq(libraryId()), anyString(), anyLong());
+                   .saveLibraryConnect(eq(libraryId()), anyString(), anyLong(), anyInt(), anyLong());
         }
         verifyNoMoreInteractions(transport);
         reset(outboundPublication);
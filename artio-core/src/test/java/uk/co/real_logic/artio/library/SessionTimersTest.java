@@ -0,0 +1,253 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.library;
+
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.verification.VerificationMode;
+import uk.co.real_logic.artio.Clock;
+import uk.co.real_logic.artio.FixCounters;
+import uk.co.real_logic.artio.dictionary.FixDictionary;
+import uk.co.real_logic.artio.engine.framer.FakeEpochClock;
+import uk.co.real_logic.artio.fields.EpochFractionFormat;
+import uk.co.real_logic.artio.messages.DisconnectReason;
+import uk.co.real_logic.artio.protocol.GatewayPublication;
+import uk.co.real_logic.artio.session.*;
+import uk.co.real_logic.artio.util.MutableAsciiBuffer;
+
+import static io.aeron.Publication.BACK_PRESSURED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+import static uk.co.real_logic.artio.CommonConfiguration.DEFAULT_SESSION_BUFFER_SIZE;
+import static uk.co.real_logic.artio.library.SessionConfiguration.DEFAULT_ENABLE_LAST_MSG_SEQ_NUM_PROCESSED;
+import static uk.co.real_logic.artio.messages.SessionState.ACTIVE;
+import static uk.co.real_logic.artio.session.InternalSession.NO_TIMER_ID;
+
+public class SessionTimersTest
+{
+    private static final int HEARTBEAT_INTERVAL_IN_S = 10;
+    private static final long REASONABLE_TRANSMISSION_TIME_IN_MS = 100;
+    private static final long HEARTBEAT_DEADLINE_IN_MS = 8_000;
+    private static final long INBOUND_DEADLINE_IN_MS = 10_000 + REASONABLE_TRANSMISSION_TIME_IN_MS;
+    private static final long CONNECTION_ID = 2;
+    private static final long OTHER_CONNECTION_ID = 3;
+    private static final long THIRD_CONNECTION_ID = 4;
+    private static final int SEQUENCE_INDEX = 0;
+
+    private final FakeEpochClock clock = new FakeEpochClock();
+    private final SessionProxy sessionProxy = mock(SessionProxy.class);
+    private final SessionTimers sessionTimers = new SessionTimers(clock.time());
+    private final InternalSession session = newSession(CONNECTION_ID);
+
+    @Before
+    public void setUp()
+    {
+        sessionTimers.add(session);
+    }
+
+    @Test
+    public void shouldSendHeartbeatWhenDeadlineReached()
+    {
+        pollAt(0);
+        pollAt(HEARTBEAT_DEADLINE_IN_MS - 1);
+        verifyHeartbeats(never());
+
+        pollAt(HEARTBEAT_DEADLINE_IN_MS);
+        verifyHeartbeats(times(1));
+
+        pollAt(HEARTBEAT_DEADLINE_IN_MS + 1);
+        verifyHeartbeats(times(1));
+        verifyTestRequests(never());
+    }
+
+    @Test
+    public void shouldSendTestRequestWhenInboundTimeoutReached()
+    {
+        pollAt(0);
+        pollAt(HEARTBEAT_DEADLINE_IN_MS);
+        pollAt(INBOUND_DEADLINE_IN_MS - 1);
+        verifyTestRequests(never());
+
+        pollAt(INBOUND_DEADLINE_IN_MS);
+        verifyTestRequests(times(1));
+        assertTrue(session.awaitingHeartbeat());
+    }
+
+    @Test
+    public void shouldPollScheduledSessionWhenStateChanges()
+    {
+        when(sessionProxy.sendRequestDisconnect(anyLong(), any())).thenReturn(BACK_PRESSURED);
+
+        pollAt(0);
+        clock.advanceMilliSeconds(1);
+        session.requestDisconnect();
+        verifyRequestDisconnects(times(1));
+
+        // Disconnecting is retried well before the session's heartbeat deadline.
+        pollAt(1);
+        verifyRequestDisconnects(times(2));
+    }
+
+    @Test
+    public void shouldPollScheduledSessionWhenHeartbeatIntervalShortens()
+    {
+        final FixCounters fixCounters = mock(FixCounters.class);
+        when(fixCounters.receivedMsgSeqNo(anyLong())).thenReturn(mock(AtomicCounter.class));
+
+        pollAt(0);
+        clock.advanceMilliSeconds(1000);
+        session.onReconnect(
+            CONNECTION_ID,
+            ACTIVE,
+            1,
+            SEQUENCE_INDEX,
+            DEFAULT_ENABLE_LAST_MSG_SEQ_NUM_PROCESSED,
+            mock(FixDictionary.class),
+            "localhost:9999",
+            fixCounters);
+
+        pollAt(1799);
+        verifyHeartbeats(never());
+
+        pollAt(1800);
+        verifyHeartbeats(times(1));
+    }
+
+    @Test
+    public void shouldKeepPollingBackPressuredSession()
+    {
+        when(sessionProxy.sendHeartbeat(anyInt(), anyInt(), anyInt())).thenReturn(BACK_PRESSURED);
+
+        pollAt(0);
+        pollAt(HEARTBEAT_DEADLINE_IN_MS);
+        pollAt(HEARTBEAT_DEADLINE_IN_MS + 1);
+        verifyHeartbeats(times(2));
+
+        when(sessionProxy.sendHeartbeat(anyInt(), anyInt(), anyInt())).thenReturn(0L);
+        pollAt(HEARTBEAT_DEADLINE_IN_MS + 2);
+        pollAt(HEARTBEAT_DEADLINE_IN_MS + 3);
+        verifyHeartbeats(times(3));
+    }
+
+    @Test
+    public void shouldNotPollSessionRemovedWhilstDue()
+    {
+        sessionTimers.remove(session);
+        assertEquals(NO_TIMER_ID, session.timerId());
+
+        assertEquals(0, pollAt(0));
+        assertRemovedSessionNeverPolled();
+    }
+
+    @Test
+    public void shouldNotPollSessionRemovedWhilstScheduled()
+    {
+        pollAt(0);
+        sessionTimers.remove(session);
+        assertEquals(NO_TIMER_ID, session.timerId());
+
+        assertRemovedSessionNeverPolled();
+    }
+
+    @Test
+    public void shouldPollEveryDueSessionWhenCallbackRemovesAnotherSession()
+    {
+        final InternalSession otherSession = newSession(OTHER_CONNECTION_ID);
+        final InternalSession thirdSession = newSession(THIRD_CONNECTION_ID);
+        sessionTimers.add(otherSession);
+        sessionTimers.add(thirdSession);
+
+        when(sessionProxy.sendRequestDisconnect(anyLong(), any())).thenReturn(BACK_PRESSURED);
+        session.requestDisconnect();
+        thirdSession.requestDisconnect();
+        otherSession.requestDisconnect();
+
+        // Polling the other session removes the first session, which is before it in the due list.
+        when(sessionProxy.sendRequestDisconnect(eq(OTHER_CONNECTION_ID), any())).then(inv ->
+        {
+            sessionTimers.remove(session);
+            return BACK_PRESSURED;
+        });
+
+        pollAt(0);
+
+        verify(sessionProxy, times(2)).sendRequestDisconnect(eq(OTHER_CONNECTION_ID), any());
+        verify(sessionProxy, times(2)).sendRequestDisconnect(eq(THIRD_CONNECTION_ID), any());
+        assertEquals(NO_TIMER_ID, session.timerId());
+    }
+
+    private InternalSession newSession(final long connectionId)
+    {
+        return new InternalSession(
+            HEARTBEAT_INTERVAL_IN_S,
+            connectionId,
+            clock,
+            Clock.systemNanoTime(),
+            ACTIVE,
+            sessionProxy,
+            mock(GatewayPublication.class),
+            mock(GatewayPublication.class),
+            mock(SessionIdStrategy.class),
+            1000,
+            mock(AtomicCounter.class),
+            mock(AtomicCounter.class),
+            1,
+            1,
+            SEQUENCE_INDEX,
+            REASONABLE_TRANSMISSION_TIME_IN_MS,
+            new MutableAsciiBuffer(new byte[DEFAULT_SESSION_BUFFER_SIZE]),
+            DEFAULT_ENABLE_LAST_MSG_SEQ_NUM_PROCESSED,
+            SessionCustomisationStrategy.none(),
+            mock(OnMessageInfo.class),
+            EpochFractionFormat.MILLISECONDS);
+    }
+
+    private void assertRemovedSessionNeverPolled()
+    {
+        when(sessionProxy.sendRequestDisconnect(anyLong(), any())).thenReturn(BACK_PRESSURED);
+        session.requestDisconnect();
+        assertEquals(NO_TIMER_ID, session.timerId());
+
+        assertEquals(0, pollAt(HEARTBEAT_DEADLINE_IN_MS));
+        assertEquals(0, pollAt(INBOUND_DEADLINE_IN_MS));
+        verifyHeartbeats(never());
+        verifyTestRequests(never());
+        verifyRequestDisconnects(times(1));
+    }
+
+    private int pollAt(final long timeInMs)
+    {
+        clock.advanceMilliSeconds(timeInMs - clock.time());
+        return sessionTimers.poll(timeInMs);
+    }
+
+    private void verifyHeartbeats(final VerificationMode times)
+    {
+        verify(sessionProxy, times).sendHeartbeat(anyInt(), anyInt(), anyInt());
+    }
+
+    private void verifyTestRequests(final VerificationMode times)
+    {
+        verify(sessionProxy, times).sendTestRequest(anyInt(), any(), anyInt(), anyInt());
+    }
+
+    private void verifyRequestDisconnects(final VerificationMode times)
+    {
+        verify(sessionProxy, times).sendRequestDisconnect(eq(CONNECTION_ID), any(DisconnectReason.class));
+    }
+}
@@ -74,6 +74,8 @@ public abstract class AbstractSessionTest
     private static final char[] MSG_TYPE_CHARS = "D".toCharArray();
 
     static final long POSITION = 1024;
+    private static final int CLAIMED_LENGTH = 64;
+    private static final long TEST_MESSAGE_TYPE = 1;
 
     OnMessageInfo messageInfo = mock(OnMessageInfo.class);
     DirectSessionProxy sessionProxy = mock(DirectSessionProxy.class);
@@ -659,6 +661,69 @@ public abstract class AbstractSessionTest
         sendTestRequest(100);
     }
 
+    @Test
+    public void shouldUpdateSentSequenceNumberWhenClaimedMessageCommitted()
+    {
+        givenActive();
+        givenClaimable();
+
+        final int seqNum = session().lastSentMsgSeqNum() + 1;
+        assertEquals(POSITION, session().tryClaim(CLAIMED_LENGTH, seqNum, TEST_MESSAGE_TYPE));
+        assertEquals(seqNum - 1, session().lastSentMsgSeqNum());
+
+        session().commit();
+
+        verify(mockPublication).commitClaim();
+        assertEquals(seqNum, session().lastSentMsgSeqNum());
+    }
+
+    @Test
+    public void shouldNotUpdateSentSequenceNumberWhenClaimedMessageAborted()
+    {
+        givenActive();
+        givenClaimable();
+
+        final int lastSentMsgSeqNum = session().lastSentMsgSeqNum();
+        session().tryClaim(CLAIMED_LENGTH, lastSentMsgSeqNum + 1, TEST_MESSAGE_TYPE);
+        session().abort();
+
+        verify(mockPublication).abortClaim();
+        verify(mockPublication, never()).commitClaim();
+        assertEquals(lastSentMsgSeqNum, session().lastSentMsgSeqNum());
+    }
+
+    @Test
+    public void shouldNotSendWhilstMessageClaimed()
+    {
+        givenActive();
+        givenClaimable();
+
+        final int seqNum = session().lastSentMsgSeqNum() + 1;
+        session().tryClaim(CLAIMED_LENGTH, seqNum, TEST_MESSAGE_TYPE);
+
+        try
+        {
+            session().trySend(testRequest);
+            fail("Sent a message whilst another message was claimed");
+        }
+        catch (final IllegalStateException ignore)
+        {
+            // The claim must be committed first
+        }
+
+        session().commit();
+
+        assertEquals(seqNum, session().lastSentMsgSeqNum());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotCommitWithoutClaim()
+    {
+        givenActive();
+
+        session().commit();
+    }
+
     @Test
     public void shouldResendRequestShorterThanResendRequestChunkSizeWhenClosedResendInterval()
     {
@@ -1052,6 +1117,23 @@ public abstract class AbstractSessionTest
         return getSentMessage();
     }
 
+    private void givenClaimable()
+    {
+        when(mockPublication.claimMessage(
+            eq(CLAIMED_LENGTH),
+            anyInt(),
+            eq(TEST_MESSAGE_TYPE),
+            anyLong(),
+            anyInt(),
+            anyLong(),
+            any(),
+            anyInt(),
+            eq(null),
+            eq(0))).thenReturn(POSITION);
+        when(mockPublication.claimedBuffer()).thenReturn(new MutableAsciiBuffer(new byte[CLAIMED_LENGTH * 2]));
+        when(mockPublication.claimedBodyOffset()).thenReturn(CLAIMED_LENGTH);
+    }
+
     private String getSentMessage()
     {
         final MutableAsciiBuffer buffer = (MutableAsciiBuffer)this.bufferCaptor.getValue();
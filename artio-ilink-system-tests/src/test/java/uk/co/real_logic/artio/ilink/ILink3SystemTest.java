@@ -26,6 +26,7 @@ import org.agrona.concurrent.errors.ErrorConsumer;
 import org.hamcrest.Matcher;
 import org.junit.After;
 import org.junit.Test;
+import org.mockito.InOrder;
 import uk.co.real_logic.artio.Reply;
 import uk.co.real_logic.artio.Timing;
 import uk.co.real_logic.artio.engine.EngineConfiguration;
@@ -652,6 +653,123 @@ public class ILink3SystemTest
         terminateAndDisconnect();
     }
 
+    @Test
+    public void shouldPipelineRetransmitRequestsWhenConfigured() throws IOException
+    {
+        launch(true);
+        connectToTestServer(connectionConfiguration().retransmitRequestsInFlight(2));
+        establishConnection();
+
+        testServer.writeExecutionReportStatus(5000, false);
+
+        testServer.canSkip(Sequence506Decoder.TEMPLATE_ID);
+
+        // Both requests are sent before the first one is filled
+        final long firstRequestTimestamp = testServer.readRetransmitRequest(1, 2500);
+        final long secondRequestTimestamp = testServer.readRetransmitRequest(2501, 2499);
+
+        testServer.writeRetransmission(testServer.uuid(), firstRequestTimestamp, 1, 2500);
+        writeExecutionReports(1, 2500);
+        testServer.writeRetransmission(testServer.uuid(), secondRequestTimestamp, 2501, 2499);
+        writeExecutionReports(2501, 2499);
+
+        agreeRetransmitFillSeqNo(NOT_AWAITING_RETRANSMIT);
+        agreeRecvSeqNo(5001);
+
+        terminateAndDisconnect();
+    }
+
+    @Test
+    public void shouldBufferMessagesUntilRetransmitFilledWhenConfigured() throws IOException
+    {
+        launch(true);
+        connectToTestServer(connectionConfiguration().bufferMessagesDuringRetransmit(true));
+        establishConnection();
+
+        testServer.writeExecutionReportStatus(3, false);
+
+        testServer.acceptRetransRequest(1, 2);
+
+        testServer.writeExecutionReportStatus(4, false);
+        testServer.writeExecutionReportStatus(1, true);
+        testServer.writeExecutionReportStatus(2, true);
+
+        agreeRetransmitFillSeqNo(NOT_AWAITING_RETRANSMIT);
+        agreeRecvSeqNo(5);
+
+        final InOrder inOrder = inOrder(handler);
+        inOrder.verify(handler, times(2)).onBusinessMessage(
+            eq(ER_STATUS_ID), any(), anyInt(), anyInt(), anyInt(), eq(true));
+        inOrder.verify(handler, times(2)).onBusinessMessage(
+            eq(ER_STATUS_ID), any(), anyInt(), anyInt(), anyInt(), eq(false));
+
+        terminateAndDisconnect();
+    }
+
+    @Test
+    public void shouldDeliverBufferedMessagesInSequenceWithPipelinedRetransmits() throws IOException
+    {
+        launch(true);
+        connectToTestServer(connectionConfiguration()
+            .bufferMessagesDuringRetransmit(true)
+            .retransmitRequestsInFlight(2));
+        establishConnection();
+
+        testServer.writeExecutionReportStatus(2, false);
+        testServer.writeExecutionReportStatus(4, false);
+
+        testServer.canSkip(Sequence506Decoder.TEMPLATE_ID);
+
+        final long firstRequestTimestamp = testServer.readRetransmitRequest(1, 1);
+        final long secondRequestTimestamp = testServer.readRetransmitRequest(3, 1);
+
+        testServer.writeRetransmission(testServer.uuid(), firstRequestTimestamp, 1, 1);
+        testServer.writeExecutionReportStatus(1, true);
+        testServer.writeRetransmission(testServer.uuid(), secondRequestTimestamp, 3, 1);
+        testServer.writeExecutionReportStatus(3, true);
+
+        agreeRetransmitFillSeqNo(NOT_AWAITING_RETRANSMIT);
+        agreeRecvSeqNo(5);
+
+        // 1 and 3 are retransmitted, 2 and 4 are buffered live messages
+        final InOrder inOrder = inOrder(handler);
+        inOrder.verify(handler).onBusinessMessage(eq(ER_STATUS_ID), any(), anyInt(), anyInt(), anyInt(), eq(true));
+        inOrder.verify(handler).onBusinessMessage(eq(ER_STATUS_ID), any(), anyInt(), anyInt(), anyInt(), eq(false));
+        inOrder.verify(handler).onBusinessMessage(eq(ER_STATUS_ID), any(), anyInt(), anyInt(), anyInt(), eq(true));
+        inOrder.verify(handler).onBusinessMessage(eq(ER_STATUS_ID), any(), anyInt(), anyInt(), anyInt(), eq(false));
+
+        terminateAndDisconnect();
+    }
+
+    @Test
+    public void shouldDeliverMessagesWithoutBufferingOnceBufferIsFull() throws IOException
+    {
+        launch(true);
+        connectToTestServer(connectionConfiguration()
+            .bufferMessagesDuringRetransmit(true)
+            .maxBufferedMessagesLength(1));
+        establishConnection();
+
+        testServer.writeExecutionReportStatus(3, false);
+
+        testServer.acceptRetransRequest(1, 2);
+
+        testServer.writeExecutionReportStatus(4, false);
+        testServer.writeExecutionReportStatus(1, true);
+        testServer.writeExecutionReportStatus(2, true);
+
+        agreeRetransmitFillSeqNo(NOT_AWAITING_RETRANSMIT);
+        agreeRecvSeqNo(5);
+
+        final InOrder inOrder = inOrder(handler);
+        inOrder.verify(handler, times(2)).onBusinessMessage(
+            eq(ER_STATUS_ID), any(), anyInt(), anyInt(), anyInt(), eq(false));
+        inOrder.verify(handler, times(2)).onBusinessMessage(
+            eq(ER_STATUS_ID), any(), anyInt(), anyInt(), anyInt(), eq(true));
+
+        terminateAndDisconnect();
+    }
+
     @Test
     public void shouldNotStallUponARetransmitReject() throws IOException
     {
@@ -514,7 +514,7 @@ public class ILink3TestServer
         writeRetransitReject(requestTimestamp);
     }
 
-    private void writeRetransmission(
+    public void writeRetransmission(
         final long uuid, final long requestTimestamp, final long fromSeqNo, final int msgCount)
     {
         final Retransmission509Encoder retransmission = new Retransmission509Encoder();
@@ -26,6 +26,7 @@ import java.util.function.Consumer;
 
 import static uk.co.real_logic.artio.LogTag.ILINK_SESSION;
 import static uk.co.real_logic.artio.ilink.SimpleOpenFramingHeader.SOFH_LENGTH;
+import static uk.co.real_logic.artio.ilink.SimpleOpenFramingHeader.readSofhMessageSize;
 
 public class ILink3Parser extends AbstractILink3Parser
 {
@@ -123,7 +124,8 @@ public class ILink3Parser extends AbstractILink3Parser
 
             default:
             {
-                return handler.onMessage(buffer, offset, templateId, blockLength, version);
+                final int length = readSofhMessageSize(buffer, start) - (offset - start);
+                return handler.onMessage(buffer, offset, templateId, blockLength, version, length);
             }
         }
     }
@@ -20,6 +20,7 @@ import iLinkBinary.FTI;
 import iLinkBinary.KeepAliveLapsed;
 import io.aeron.exceptions.TimeoutException;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
 import org.agrona.LangUtil;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.EpochNanoClock;
@@ -50,6 +51,8 @@ import static iLinkBinary.KeepAliveLapsed.Lapsed;
 import static iLinkBinary.KeepAliveLapsed.NotLapsed;
 import static iLinkBinary.RetransmitRequest508Decoder.lastUUIDNullValue;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static uk.co.real_logic.artio.LogTag.ILINK_SESSION;
 import static uk.co.real_logic.artio.ilink.AbstractILink3Offsets.MISSING_OFFSET;
 import static uk.co.real_logic.artio.ilink.AbstractILink3Parser.BOOLEAN_FLAG_TRUE;
@@ -142,8 +145,17 @@ public final class InternalILink3Connection extends ILink3Connection
     private static final UnsafeBuffer NO_BUFFER = new UnsafeBuffer();
     private static final long OK_POSITION = Long.MIN_VALUE;
 
+    private static final int BUFFERED_SEQ_NUM_OFFSET = 0;
+    private static final int BUFFERED_TEMPLATE_ID_OFFSET = BUFFERED_SEQ_NUM_OFFSET + SIZE_OF_LONG;
+    private static final int BUFFERED_BLOCK_LENGTH_OFFSET = BUFFERED_TEMPLATE_ID_OFFSET + SIZE_OF_INT;
+    private static final int BUFFERED_VERSION_OFFSET = BUFFERED_BLOCK_LENGTH_OFFSET + SIZE_OF_INT;
+    private static final int BUFFERED_LENGTH_OFFSET = BUFFERED_VERSION_OFFSET + SIZE_OF_INT;
+    private static final int BUFFERED_HEADER_LENGTH = BUFFERED_LENGTH_OFFSET + SIZE_OF_INT;
+
     private final NotAppliedResponse response = new NotAppliedResponse();
     private final Deque<RetransmitRequest> retransmitRequests = new ArrayDeque<>();
+    // Requests sent whilst the one being filled is still awaiting messages, in the order that they were sent.
+    private final Deque<RetransmitRequest> inFlightRetransmitRequests = new ArrayDeque<>();
     private final CharFormatter unknownMessage = new CharFormatter(
         "Unknown Message,templateId=%s,blockLength=%s,version=%s,seqNum=%s,possRetrans=%s%n");
     private final CharFormatter checkSeqNum = new CharFormatter("Checking msgSeqNum=%s,nextRecvSeqNo=%s%n");
@@ -167,6 +179,8 @@ public final class InternalILink3Connection extends ILink3Connection
     private final boolean newlyAllocated;
     private final long uuid;
     private final EpochNanoClock epochNanoClock;
+    private final boolean bufferMessagesDuringRetransmit;
+    private final int maxBufferedMessagesLength;
 
     private final long lastUuid;
     private final long lastConnectionLastReceivedSequenceNumber;
@@ -181,6 +195,13 @@ public final class InternalILink3Connection extends ILink3Connection
     private long retransmitFillSeqNo = NOT_AWAITING_RETRANSMIT;
     private long nextRetransmitSeqNo = NOT_AWAITING_RETRANSMIT;
 
+    // Business messages that arrive whilst a gap is being filled, if bufferMessagesDuringRetransmit is enabled.
+    // Messages before bufferedMessagesOffset have already been delivered.
+    private ExpandableDirectByteBuffer bufferedMessages;
+    private int bufferedMessagesOffset;
+    private int bufferedMessagesLength;
+    private boolean bufferedMessagesOverflowed;
+
     private long resendTime;
     private long nextReceiveMessageTimeInMs;
     private long nextSendMessageTimeInMs;
@@ -216,6 +237,8 @@ public final class InternalILink3Connection extends ILink3Connection
         this.handler = configuration.handler();
         this.newlyAllocated = newlyAllocated;
         this.epochNanoClock = epochNanoClock;
+        this.bufferMessagesDuringRetransmit = configuration.bufferMessagesDuringRetransmit();
+        this.maxBufferedMessagesLength = configuration.maxBufferedMessagesLength();
 
         proxy = new ILink3Proxy(connectionId, outboundPublication.dataPublication());
         offsets = new ILink3Offsets();
@@ -1034,13 +1057,20 @@ public final class InternalILink3Connection extends ILink3Connection
     void unbindState()
     {
         state = State.UNBOUND;
+        deliverBufferedMessages(Long.MAX_VALUE);
+        bufferedMessagesOverflowed = false;
         handler.onDisconnect();
     }
 
 //    private
 
     public long onMessage(
-        final DirectBuffer buffer, final int offset, final int templateId, final int blockLength, final int version)
+        final DirectBuffer buffer,
+        final int offset,
+        final int templateId,
+        final int blockLength,
+        final int version,
+        final int length)
     {
         onReceivedMessage();
 
@@ -1087,12 +1117,31 @@ public final class InternalILink3Connection extends ILink3Connection
                 {
                     nextRecvSeqNo(seqNum + 1);
 
-                    handler.onBusinessMessage(templateId, buffer, offset, blockLength, version, false);
+                    if (isBufferingMessages() && retransmitFillSeqNo != NOT_AWAITING_RETRANSMIT)
+                    {
+                        bufferMessage(seqNum, buffer, offset, templateId, blockLength, version, length);
+                    }
+                    else
+                    {
+                        handler.onBusinessMessage(templateId, buffer, offset, blockLength, version, false);
+                    }
 
                     return 1;
                 }
                 else /* nextRecvSeqNo > seqNum */
                 {
+                    if (isBufferingMessages())
+                    {
+                        // Request the gap before buffering this message, so it's only buffered once.
+                        final long requestPosition = onInvalidSequenceNumber(seqNum);
+                        if (!Pressure.isBackPressured(requestPosition))
+                        {
+                            bufferMessage(seqNum, buffer, offset, templateId, blockLength, version, length);
+                        }
+
+                        return requestPosition;
+                    }
+
                     // We could queue this instead of just passing it on to the customer's application but this
                     // hasn't been requested as of yet
                     handler.onBusinessMessage(templateId, buffer, offset, blockLength, version, false);
@@ -1157,6 +1206,7 @@ public final class InternalILink3Connection extends ILink3Connection
                 nextRecvSeqNoForCurrentUuid(newNextRecvSeqNo, uuid);
                 nextRetransmitSeqNo = fromSeqNo;
                 retransmitFillSeqNo = fromSeqNo + msgCount - 1;
+                sendInFlightRetransmitRequests();
             }
             return position;
         }
@@ -1165,6 +1215,7 @@ public final class InternalILink3Connection extends ILink3Connection
             addRetransmitRequest(uuid, fromSeqNo, msgCount);
             addRemainingRetransmitRequests(uuid, fromSeqNo, msgCount, totalMsgCount);
             nextRecvSeqNoForCurrentUuid(newNextRecvSeqNo, uuid);
+            sendInFlightRetransmitRequests();
 
             return 1;
         }
@@ -1181,12 +1232,31 @@ public final class InternalILink3Connection extends ILink3Connection
 
     private long retransmitFilled()
     {
+        // Messages received before the next gap can now be delivered in sequence
+        deliverBufferedMessagesBeforeNextGap();
+
+        // Replies to requests sent over the same connection arrive in the order that the requests were sent
+        final RetransmitRequest inFlightRequest = inFlightRetransmitRequests.pollFirst();
+        if (inFlightRequest != null)
+        {
+            final long fromSeqNo = inFlightRequest.fromSeqNo;
+            final int msgCount = inFlightRequest.msgCount;
+            DebugLogger.log(
+                ILINK_SESSION, retransmitFilledNext, inFlightRequest.uuid, retransmitFillSeqNo, fromSeqNo, msgCount);
+            nextRetransmitSeqNo = fromSeqNo;
+            retransmitFillSeqNo = fromSeqNo + msgCount - 1;
+            sendInFlightRetransmitRequests();
+
+            return 1;
+        }
+
         final RetransmitRequest retransmitRequest = retransmitRequests.peekFirst();
         if (retransmitRequest == null)
         {
             DebugLogger.log(ILINK_SESSION, retransmitFilled, retransmitFillSeqNo);
             nextRetransmitSeqNo = NOT_AWAITING_RETRANSMIT;
             retransmitFillSeqNo = NOT_AWAITING_RETRANSMIT;
+            bufferedMessagesOverflowed = false;
         }
         else
         {
@@ -1202,6 +1272,7 @@ public final class InternalILink3Connection extends ILink3Connection
                 retransmitRequests.pollFirst();
                 nextRetransmitSeqNo = fromSeqNo;
                 retransmitFillSeqNo = fromSeqNo + msgCount - 1;
+                sendInFlightRetransmitRequests();
             }
 
             return position;
@@ -1210,6 +1281,130 @@ public final class InternalILink3Connection extends ILink3Connection
         return 1;
     }
 
+    // Sends queued requests ahead of the one being filled, up to the configured number of requests in flight.
+    private void sendInFlightRetransmitRequests()
+    {
+        final Deque<RetransmitRequest> retransmitRequests = this.retransmitRequests;
+        final Deque<RetransmitRequest> inFlightRetransmitRequests = this.inFlightRetransmitRequests;
+        // The request being filled counts towards the limit
+        final int maxInFlight = configuration.retransmitRequestsInFlight() - 1;
+
+        while (inFlightRetransmitRequests.size() < maxInFlight)
+        {
+            final RetransmitRequest retransmitRequest = retransmitRequests.peekFirst();
+            if (retransmitRequest == null)
+            {
+                return;
+            }
+
+            final long position = sendRetransmitRequest(
+                retransmitRequest.uuid, retransmitRequest.fromSeqNo, retransmitRequest.msgCount);
+            if (Pressure.isBackPressured(position))
+            {
+                // Retried when the next request is filled
+                return;
+            }
+
+            retransmitRequests.pollFirst();
+            inFlightRetransmitRequests.offerLast(retransmitRequest);
+        }
+    }
+
+    private boolean isBufferingMessages()
+    {
+        return bufferMessagesDuringRetransmit && !bufferedMessagesOverflowed;
+    }
+
+    private void bufferMessage(
+        final long seqNum,
+        final DirectBuffer buffer,
+        final int offset,
+        final int templateId,
+        final int blockLength,
+        final int version,
+        final int length)
+    {
+        final int bufferedOffset = bufferedMessagesLength;
+        final int newBufferedMessagesLength = bufferedOffset + BUFFERED_HEADER_LENGTH + length;
+        if (newBufferedMessagesLength > maxBufferedMessagesLength)
+        {
+            // Stop buffering until the gaps are filled rather than holding an unbounded number of messages.
+            bufferedMessagesOverflowed = true;
+            deliverBufferedMessages(Long.MAX_VALUE);
+            handler.onBusinessMessage(templateId, buffer, offset, blockLength, version, false);
+            return;
+        }
+
+        ExpandableDirectByteBuffer bufferedMessages = this.bufferedMessages;
+        if (bufferedMessages == null)
+        {
+            bufferedMessages = new ExpandableDirectByteBuffer();
+            this.bufferedMessages = bufferedMessages;
+        }
+
+        bufferedMessages.putLong(bufferedOffset + BUFFERED_SEQ_NUM_OFFSET, seqNum);
+        bufferedMessages.putInt(bufferedOffset + BUFFERED_TEMPLATE_ID_OFFSET, templateId);
+        bufferedMessages.putInt(bufferedOffset + BUFFERED_BLOCK_LENGTH_OFFSET, blockLength);
+        bufferedMessages.putInt(bufferedOffset + BUFFERED_VERSION_OFFSET, version);
+        bufferedMessages.putInt(bufferedOffset + BUFFERED_LENGTH_OFFSET, length);
+        bufferedMessages.putBytes(bufferedOffset + BUFFERED_HEADER_LENGTH, buffer, offset, length);
+        bufferedMessagesLength = newBufferedMessagesLength;
+    }
+
+    private void deliverBufferedMessagesBeforeNextGap()
+    {
+        RetransmitRequest nextGap = inFlightRetransmitRequests.peekFirst();
+        if (nextGap == null)
+        {
+            nextGap = retransmitRequests.peekFirst();
+        }
+
+        if (nextGap == null)
+        {
+            deliverBufferedMessages(Long.MAX_VALUE);
+        }
+        else if (nextGap.uuid == uuid)
+        {
+            deliverBufferedMessages(nextGap.fromSeqNo);
+        }
+        // Otherwise the next gap is on the previous uuid, so all of the buffered messages come after it.
+    }
+
+    private void deliverBufferedMessages(final long beforeSeqNum)
+    {
+        final ExpandableDirectByteBuffer bufferedMessages = this.bufferedMessages;
+        final int bufferedMessagesLength = this.bufferedMessagesLength;
+        int offset = bufferedMessagesOffset;
+        while (offset < bufferedMessagesLength)
+        {
+            final long seqNum = bufferedMessages.getLong(offset + BUFFERED_SEQ_NUM_OFFSET);
+            if (seqNum >= beforeSeqNum)
+            {
+                break;
+            }
+
+            final int templateId = bufferedMessages.getInt(offset + BUFFERED_TEMPLATE_ID_OFFSET);
+            final int blockLength = bufferedMessages.getInt(offset + BUFFERED_BLOCK_LENGTH_OFFSET);
+            final int version = bufferedMessages.getInt(offset + BUFFERED_VERSION_OFFSET);
+            final int length = bufferedMessages.getInt(offset + BUFFERED_LENGTH_OFFSET);
+            final int messageOffset = offset + BUFFERED_HEADER_LENGTH;
+
+            // Consumed before it's delivered so that an exception from the handler doesn't deliver it again.
+            offset = messageOffset + length;
+            bufferedMessagesOffset = offset;
+
+            handler.onBusinessMessage(templateId, bufferedMessages, messageOffset, blockLength, version, false);
+        }
+
+        final int remainingLength = bufferedMessagesLength - offset;
+        if (remainingLength > 0 && offset > 0)
+        {
+            bufferedMessages.putBytes(0, bufferedMessages, offset, remainingLength);
+        }
+        this.bufferedMessagesOffset = 0;
+        this.bufferedMessagesLength = remainingLength;
+    }
+
     private void addRemainingRetransmitRequests(
         final long uuid, final long initialFromSeqNo, final int initialMessagesRequested, final int totalMessageCount)
     {
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio;
+
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.artio.util.MutableAsciiBuffer;
+
+import java.util.concurrent.TimeUnit;
+
+import static uk.co.real_logic.artio.dictionary.SessionConstants.START_OF_HEADER;
+import static uk.co.real_logic.artio.util.AsciiBuffer.UNKNOWN_INDEX;
+
+/**
+ * Compares the word at a time scanning and checksum calculation in {@link MutableAsciiBuffer} with a byte at a time
+ * baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AsciiBufferBenchmark
+{
+    private final MutableAsciiBuffer buffer = new MutableAsciiBuffer(TestData.NEW_ORDER_SINGLE);
+    private final int checksumEnd = buffer.capacity() - "10=194\001".length() + 1;
+    private final int scanStart = checksumEnd + "0=".length();
+
+    @Benchmark
+    public int computeChecksum()
+    {
+        return buffer.computeChecksum(0, checksumEnd);
+    }
+
+    @Benchmark
+    public int computeChecksumByteAtATime()
+    {
+        final MutableAsciiBuffer buffer = this.buffer;
+        int total = 0;
+        for (int index = 0, end = checksumEnd; index < end; index++)
+        {
+            total += buffer.getByte(index);
+        }
+
+        return total % 256;
+    }
+
+    @Benchmark
+    public int scanChecksumValue()
+    {
+        return buffer.scan(scanStart, buffer.capacity(), START_OF_HEADER);
+    }
+
+    @Benchmark
+    public int scanChecksumValueByteAtATime()
+    {
+        return scanByteAtATime(scanStart, buffer.capacity(), START_OF_HEADER);
+    }
+
+    @Benchmark
+    public int scanForMissingTerminator()
+    {
+        return buffer.scan(0, buffer.capacity(), (byte)'~');
+    }
+
+    @Benchmark
+    public int scanForMissingTerminatorByteAtATime()
+    {
+        return scanByteAtATime(0, buffer.capacity(), (byte)'~');
+    }
+
+    private int scanByteAtATime(final int startInclusive, final int endExclusive, final byte terminator)
+    {
+        final MutableAsciiBuffer buffer = this.buffer;
+        for (int i = startInclusive; i < endExclusive; i++)
+        {
+            if (buffer.getByte(i) == terminator)
+            {
+                return i;
+            }
+        }
+
+        return UNKNOWN_INDEX;
+    }
+}
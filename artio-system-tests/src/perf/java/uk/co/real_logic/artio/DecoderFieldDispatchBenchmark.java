@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 Monotonic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static uk.co.real_logic.artio.dictionary.generation.CodecUtil.newFieldOrdinalTable;
+
+/**
+ * Compares the field dispatch that generated decoders used to do, a switch on the tag, with the current one, a
+ * perfect hash of the tag into a field ordinal followed by a switch on that ordinal. The fields are the header, Logon
+ * and trailer fields of the session dictionary and the tags dispatched are those of {@link TestData#LOGON}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DecoderFieldDispatchBenchmark
+{
+    private static final int NO_FIELD_ORDINAL = -1;
+
+    // In field ordinal order
+    private static final int[] FIELD_ORDINAL_TAGS = {
+        8, 9, 35, 49, 56, 34, 50, 142, 57, 143, 43, 97, 52,
+        122, 369, 98, 108, 95, 96, 141, 789, 383, 464, 553, 554, 10 };
+
+    private static final int BITS = 6;
+    private static final int SHIFT = Integer.SIZE - BITS;
+    private static final int MULTIPLIER = perfectHashMultiplier();
+    private static final int[] FIELD_ORDINAL_TABLE = newFieldOrdinalTable(FIELD_ORDINAL_TAGS, MULTIPLIER, BITS);
+
+    private final int[] messageTags = { 8, 9, 35, 49, 56, 34, 52, 98, 108, 383, 553, 554, 10 };
+
+    @Benchmark
+    public int switchOnTag()
+    {
+        int result = 0;
+        for (final int tag : messageTags)
+        {
+            result += onTag(tag);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int switchOnHashedFieldOrdinal()
+    {
+        int result = 0;
+        for (final int tag : messageTags)
+        {
+            result += onFieldOrdinal(fieldOrdinal(tag));
+        }
+        return result;
+    }
+
+    private static int fieldOrdinal(final int tag)
+    {
+        final int slot = ((tag * MULTIPLIER) >>> SHIFT) << 1;
+        return FIELD_ORDINAL_TABLE[slot] == tag ? FIELD_ORDINAL_TABLE[slot + 1] : NO_FIELD_ORDINAL;
+    }
+
+    // Each case returns an arbitrary value so that neither switch can be folded into arithmetic.
+    private static int onTag(final int tag)
+    {
+        switch (tag)
+        {
+            case 8: return 3867;
+            case 9: return 2303;
+            case 35: return 2585;
+            case 49: return 1161;
+            case 56: return 2498;
+            case 34: return 53;
+            case 50: return 3693;
+            case 142: return 3116;
+            case 57: return 933;
+            case 143: return 1551;
+            case 43: return 2357;
+            case 97: return 3888;
+            case 52: return 564;
+            case 122: return 1639;
+            case 369: return 223;
+            case 98: return 2323;
+            case 108: return 3062;
+            case 95: return 2921;
+            case 96: return 1356;
+            case 141: return 584;
+            case 789: return 2575;
+            case 383: return 2895;
+            case 464: return 3144;
+            case 553: return 3165;
+            case 554: return 1600;
+            case 10: return 738;
+            default: return 0;
+        }
+    }
+
+    private static int onFieldOrdinal(final int fieldOrdinal)
+    {
+        switch (fieldOrdinal)
+        {
+            case 0: return 3867;
+            case 1: return 2303;
+            case 2: return 2585;
+            case 3: return 1161;
+            case 4: return 2498;
+            case 5: return 53;
+            case 6: return 3693;
+            case 7: return 3116;
+            case 8: return 933;
+            case 9: return 1551;
+            case 10: return 2357;
+            case 11: return 3888;
+            case 12: return 564;
+            case 13: return 1639;
+            case 14: return 223;
+            case 15: return 2323;
+            case 16: return 3062;
+            case 17: return 2921;
+            case 18: return 1356;
+            case 19: return 584;
+            case 20: return 2575;
+            case 21: return 2895;
+            case 22: return 3144;
+            case 23: return 3165;
+            case 24: return 1600;
+            case 25: return 738;
+            default: return 0;
+        }
+    }
+
+    // The same search as DecoderGenerator does, so that the table matches the generated one.
+    private static int perfectHashMultiplier()
+    {
+        final boolean[] usedSlots = new boolean[1 << BITS];
+        for (int attempt = 1; attempt <= 1_000; attempt++)
+        {
+            final int multiplier = (0x9E3779B9 * attempt) | 1;
+            Arrays.fill(usedSlots, false);
+            boolean collision = false;
+            for (final int tag : FIELD_ORDINAL_TAGS)
+            {
+                final int slot = (tag * multiplier) >>> SHIFT;
+                if (usedSlots[slot])
+                {
+                    collision = true;
+                    break;
+                }
+                usedSlots[slot] = true;
+            }
+
+            if (!collision)
+            {
+                return multiplier;
+            }
+        }
+
+        throw new IllegalStateException("No perfect hash of the tags into " + BITS + " bits");
+    }
+}
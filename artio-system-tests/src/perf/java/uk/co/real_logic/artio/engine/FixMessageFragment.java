@@ -0,0 +1,155 @@
+/*
+ * Copyright 2015-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.engine;
+
+import io.aeron.logbuffer.Header;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import uk.co.real_logic.artio.builder.Encoder;
+import uk.co.real_logic.artio.builder.TestRequestEncoder;
+import uk.co.real_logic.artio.decoder.TestRequestDecoder;
+import uk.co.real_logic.artio.messages.FixMessageEncoder;
+import uk.co.real_logic.artio.messages.MessageHeaderEncoder;
+import uk.co.real_logic.artio.messages.MessageStatus;
+import uk.co.real_logic.artio.util.MutableAsciiBuffer;
+
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * A single unfragmented Aeron frame containing a framed FIX message, laid out as the engine's indexers and replayers
+ * read it from a stream. Lets engine components be benchmarked without a media driver or sockets.
+ */
+public final class FixMessageFragment
+{
+    public static final long FIX_SESSION_ID = 1;
+    public static final long CONNECTION_ID = 1;
+    public static final int SEQUENCE_INDEX = 0;
+    public static final int LIBRARY_ID = 1;
+    public static final int AERON_SESSION_ID = 42;
+    public static final long RECORDING_ID = 1;
+
+    private static final int TERM_LENGTH = 64 * 1024;
+    private static final byte[] SENDING_TIME = "20200101-00:00:00.000".getBytes(US_ASCII);
+    private static final byte[] NO_META_DATA = new byte[0];
+
+    private final TestRequestEncoder testRequest = new TestRequestEncoder();
+    private final MutableAsciiBuffer asciiBuffer = new MutableAsciiBuffer(new byte[1024]);
+    private final MessageHeaderEncoder messageHeader = new MessageHeaderEncoder();
+    private final FixMessageEncoder fixMessage = new FixMessageEncoder();
+    private final DataHeaderFlyweight dataHeader = new DataHeaderFlyweight();
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[2048]);
+    private final Header header = new Header(0, LogBufferDescriptor.positionBitsToShift(TERM_LENGTH));
+    private final int streamId;
+
+    private int length;
+    private int messageOffset;
+    private int messageLength;
+
+    public FixMessageFragment(final int streamId)
+    {
+        this.streamId = streamId;
+
+        testRequest.header()
+            .senderCompID("initiator")
+            .targetCompID("acceptor")
+            .sendingTime(SENDING_TIME);
+        testRequest.testReqID("benchmark");
+
+        header.buffer(buffer);
+        header.offset(0);
+
+        sequenceNumber(1);
+    }
+
+    public FixMessageFragment sequenceNumber(final int sequenceNumber)
+    {
+        testRequest.header().msgSeqNum(sequenceNumber);
+        final long result = testRequest.encode(asciiBuffer, 0);
+        final int bodyOffset = Encoder.offset(result);
+        final int bodyLength = Encoder.length(result);
+
+        fixMessage
+            .wrapAndApplyHeader(buffer, offset(), messageHeader)
+            .session(FIX_SESSION_ID)
+            .connection(CONNECTION_ID)
+            .timestamp(0)
+            .status(MessageStatus.OK)
+            .libraryId(LIBRARY_ID)
+            .sequenceIndex(SEQUENCE_INDEX)
+            .sequenceNumber(sequenceNumber)
+            .messageType(TestRequestDecoder.MESSAGE_TYPE)
+            .putMetaData(NO_META_DATA, 0, 0)
+            .putBody(asciiBuffer, bodyOffset, bodyLength);
+
+        length = MessageHeaderEncoder.ENCODED_LENGTH + fixMessage.encodedLength();
+        messageLength = bodyLength;
+        messageOffset = offset() + length - bodyLength;
+
+        dataHeader.wrap(buffer, 0, HEADER_LENGTH);
+        dataHeader.frameLength(HEADER_LENGTH + length);
+        dataHeader.version(DataHeaderFlyweight.CURRENT_VERSION);
+        dataHeader.flags((short)DataHeaderFlyweight.BEGIN_AND_END_FLAGS);
+        dataHeader.headerType(DataHeaderFlyweight.HDR_TYPE_DATA);
+        dataHeader.termOffset(0);
+        dataHeader.sessionId(AERON_SESSION_ID);
+        dataHeader.streamId(streamId);
+        dataHeader.termId(0);
+
+        return this;
+    }
+
+    public UnsafeBuffer buffer()
+    {
+        return buffer;
+    }
+
+    /**
+     * Gets the offset of the engine's message header, as passed to a fragment handler.
+     *
+     * @return the offset of the engine's message header.
+     */
+    public int offset()
+    {
+        return HEADER_LENGTH;
+    }
+
+    public int length()
+    {
+        return length;
+    }
+
+    /**
+     * Gets the offset of the FIX message itself within the buffer.
+     *
+     * @return the offset of the FIX message itself within the buffer.
+     */
+    public int messageOffset()
+    {
+        return messageOffset;
+    }
+
+    public int messageLength()
+    {
+        return messageLength;
+    }
+
+    public Header header()
+    {
+        return header;
+    }
+}
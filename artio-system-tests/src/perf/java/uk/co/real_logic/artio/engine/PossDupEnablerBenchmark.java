@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.engine;
+
+import io.aeron.logbuffer.BufferClaim;
+import io.aeron.logbuffer.ControlledFragmentHandler.Action;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.artio.LogTag;
+import uk.co.real_logic.artio.fields.UtcTimestampEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static uk.co.real_logic.artio.CommonConfiguration.DEFAULT_OUTBOUND_LIBRARY_STREAM;
+import static uk.co.real_logic.artio.messages.FixMessageDecoder.metaDataHeaderLength;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PossDupEnablerBenchmark
+{
+    private static final int CLAIM_BUFFER_SIZE = 4096;
+
+    private final FixMessageFragment fragment = new FixMessageFragment(DEFAULT_OUTBOUND_LIBRARY_STREAM);
+    private final UnsafeBuffer claimBuffer = new UnsafeBuffer(new byte[CLAIM_BUFFER_SIZE]);
+    private final BufferClaim bufferClaim = new BufferClaim();
+
+    private final PossDupEnabler possDupEnabler = new PossDupEnabler(
+        new UtcTimestampEncoder(),
+        bufferClaim,
+        this::claim,
+        (buffer, offset) -> {},
+        (message) -> {},
+        Throwable::printStackTrace,
+        System::currentTimeMillis,
+        CLAIM_BUFFER_SIZE - HEADER_LENGTH,
+        LogTag.FIX_MESSAGE);
+
+    @Benchmark
+    public Action enablePossDupFlag()
+    {
+        final FixMessageFragment fragment = this.fragment;
+
+        return possDupEnabler.enablePossDupFlag(
+            fragment.buffer(),
+            fragment.messageOffset(),
+            fragment.messageLength(),
+            fragment.offset(),
+            fragment.length(),
+            metaDataHeaderLength());
+    }
+
+    private boolean claim(final int totalLength, final int messageLength)
+    {
+        bufferClaim.wrap(claimBuffer, 0, HEADER_LENGTH + totalLength);
+        return true;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.engine.logger;
+
+import org.agrona.IoUtil;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.concurrent.NoOpIdleStrategy;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.artio.engine.FixMessageFragment;
+import uk.co.real_logic.artio.session.Session;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static uk.co.real_logic.artio.CommonConfiguration.DEFAULT_OUTBOUND_LIBRARY_STREAM;
+import static uk.co.real_logic.artio.engine.EngineConfiguration.*;
+import static uk.co.real_logic.artio.engine.FixMessageFragment.FIX_SESSION_ID;
+import static uk.co.real_logic.artio.engine.FixMessageFragment.RECORDING_ID;
+import static uk.co.real_logic.artio.engine.FixMessageFragment.SEQUENCE_INDEX;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReplayIndexBenchmark
+{
+    private static final int STREAM_ID = DEFAULT_OUTBOUND_LIBRARY_STREAM;
+    private static final int INDEXED_MESSAGES = 10_000;
+
+    private final FixMessageFragment fragment = new FixMessageFragment(STREAM_ID);
+
+    private File logFileDir;
+    private ReplayIndex replayIndex;
+    private ReplayQuery replayQuery;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        logFileDir = Files.createTempDirectory("replay-index-benchmark").toFile();
+        final String logFileDirPath = logFileDir.getAbsolutePath();
+
+        replayIndex = new ReplayIndex(
+            logFileDirPath,
+            STREAM_ID,
+            DEFAULT_REPLAY_INDEX_FILE_SIZE,
+            DEFAULT_REPLAY_INDEX_INITIAL_FILE_SIZE,
+            DEFAULT_LOGGER_CACHE_NUM_SETS,
+            DEFAULT_LOGGER_CACHE_SET_SIZE,
+            LoggerUtil::map,
+            new UnsafeBuffer(new byte[DEFAULT_REPLAY_POSITION_BUFFER_SIZE]),
+            Throwable::printStackTrace,
+            recordingIdLookup(),
+            new Long2LongHashMap(Session.UNKNOWN));
+
+        for (int sequenceNumber = 1; sequenceNumber <= INDEXED_MESSAGES; sequenceNumber++)
+        {
+            fragment.sequenceNumber(sequenceNumber);
+            indexMessage();
+        }
+
+        // Queries don't need an archive until replaying the ranges that they look up.
+        replayQuery = new ReplayQuery(
+            logFileDirPath,
+            DEFAULT_LOGGER_CACHE_NUM_SETS,
+            DEFAULT_LOGGER_CACHE_SET_SIZE,
+            LoggerUtil::mapExistingFile,
+            STREAM_ID,
+            new NoOpIdleStrategy(),
+            null,
+            Throwable::printStackTrace,
+            DEFAULT_ARCHIVE_REPLAY_STREAM);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        replayQuery.close();
+        replayIndex.close();
+        IoUtil.delete(logFileDir, true);
+    }
+
+    @Benchmark
+    public void indexMessage()
+    {
+        final FixMessageFragment fragment = this.fragment;
+
+        replayIndex.onCatchup(
+            fragment.buffer(), fragment.offset(), fragment.length(), fragment.header(), RECORDING_ID);
+    }
+
+    @Benchmark
+    public List<RecordingRange> queryMessage(final Query query)
+    {
+        final int querySequenceNumber = query.querySequenceNumber;
+
+        return replayQuery.queryRanges(
+            FIX_SESSION_ID, querySequenceNumber, SEQUENCE_INDEX, querySequenceNumber, SEQUENCE_INDEX);
+    }
+
+    /**
+     * Kept in its own state so that only the query benchmark is repeated for each sequence number.
+     */
+    @State(Scope.Benchmark)
+    public static class Query
+    {
+        @Param({"1", "5000", "10000"})
+        public int querySequenceNumber;
+    }
+
+    static RecordingIdLookup recordingIdLookup()
+    {
+        // Only used for fragments without a known recording id, which these benchmarks don't index.
+        return new RecordingIdLookup(
+            new NoOpIdleStrategy(), new CountersReader(new UnsafeBuffer(new byte[0]), new UnsafeBuffer(new byte[0])));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.artio.engine.logger;
+
+import org.agrona.IoUtil;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.artio.engine.FixMessageFragment;
+import uk.co.real_logic.artio.engine.MappedFile;
+import uk.co.real_logic.artio.session.Session;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static uk.co.real_logic.artio.CommonConfiguration.DEFAULT_OUTBOUND_LIBRARY_STREAM;
+import static uk.co.real_logic.artio.engine.EngineConfiguration.DEFAULT_INDEX_FILE_STATE_FLUSH_TIMEOUT_IN_MS;
+import static uk.co.real_logic.artio.engine.FixMessageFragment.FIX_SESSION_ID;
+import static uk.co.real_logic.artio.engine.FixMessageFragment.RECORDING_ID;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SequenceNumberIndexBenchmark
+{
+    private static final int STREAM_ID = DEFAULT_OUTBOUND_LIBRARY_STREAM;
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final FixMessageFragment fragment = new FixMessageFragment(STREAM_ID);
+
+    private File indexDir;
+    private SequenceNumberIndexWriter writer;
+    private SequenceNumberIndexReader reader;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        indexDir = Files.createTempDirectory("sequence-number-index-benchmark").toFile();
+
+        final UnsafeBuffer inMemoryBuffer = new UnsafeBuffer(new byte[BUFFER_SIZE]);
+        final RecordingIdLookup recordingIdLookup = ReplayIndexBenchmark.recordingIdLookup();
+        writer = new SequenceNumberIndexWriter(
+            inMemoryBuffer,
+            MappedFile.map(new File(indexDir, "sequence_numbers_sent"), BUFFER_SIZE),
+            Throwable::printStackTrace,
+            STREAM_ID,
+            recordingIdLookup,
+            DEFAULT_INDEX_FILE_STATE_FLUSH_TIMEOUT_IN_MS,
+            System::currentTimeMillis,
+            null,
+            new Long2LongHashMap(Session.UNKNOWN));
+        reader = new SequenceNumberIndexReader(inMemoryBuffer, Throwable::printStackTrace, recordingIdLookup, null);
+
+        indexMessage();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        writer.close();
+        IoUtil.delete(indexDir, true);
+    }
+
+    @Benchmark
+    public void indexMessage()
+    {
+        final FixMessageFragment fragment = this.fragment;
+
+        writer.onCatchup(fragment.buffer(), fragment.offset(), fragment.length(), fragment.header(), RECORDING_ID);
+    }
+
+    @Benchmark
+    public int lastKnownSequenceNumber()
+    {
+        return reader.lastKnownSequenceNumber(FIX_SESSION_ID);
+    }
+}
@@ -516,14 +516,39 @@ public class AbstractGatewayToGatewaySystemTest
     }
 
     List<String> getMessagesFromArchive(final EngineConfiguration configuration, final int queryStreamId)
+    {
+        return getMessagesFromArchive(
+            configuration, queryStreamId, false, FixArchiveScanner.Context.DEFAULT_MAX_CONCURRENT_REPLAYS);
+    }
+
+    List<String> getMessagesFromArchive(
+        final EngineConfiguration configuration,
+        final int queryStreamId,
+        final boolean replayConcurrently,
+        final int maxConcurrentReplays)
     {
         final List<String> messages = new ArrayList<>();
-        final FixMessageConsumer fixMessageConsumer =
-            (message, buffer, offset, length, header) -> messages.add(message.body());
+        scanArchive(
+            configuration,
+            queryStreamId,
+            replayConcurrently,
+            maxConcurrentReplays,
+            (message, buffer, offset, length, header) -> messages.add(message.body()));
+        return messages;
+    }
 
+    void scanArchive(
+        final EngineConfiguration configuration,
+        final int queryStreamId,
+        final boolean replayConcurrently,
+        final int maxConcurrentReplays,
+        final FixMessageConsumer fixMessageConsumer)
+    {
         final FixArchiveScanner.Context context = new FixArchiveScanner.Context()
             .aeronDirectoryName(configuration.aeronContext().aeronDirectoryName())
-            .idleStrategy(CommonConfiguration.backoffIdleStrategy());
+            .idleStrategy(CommonConfiguration.backoffIdleStrategy())
+            .replayConcurrently(replayConcurrently)
+            .maxConcurrentReplays(maxConcurrentReplays);
 
         try (FixArchiveScanner scanner = new FixArchiveScanner(context))
         {
@@ -534,7 +559,6 @@ public class AbstractGatewayToGatewaySystemTest
                 false,
                 DEFAULT_ARCHIVE_SCANNER_STREAM);
         }
-        return messages;
     }
 
     void writeMetaData()
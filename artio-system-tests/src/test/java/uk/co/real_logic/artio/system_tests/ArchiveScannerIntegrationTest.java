@@ -22,12 +22,16 @@ import org.junit.Test;
 import uk.co.real_logic.artio.engine.EngineConfiguration;
 import uk.co.real_logic.artio.library.LibraryConfiguration;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItems;
 import static uk.co.real_logic.artio.TestFixtures.largeTestReqId;
 import static uk.co.real_logic.artio.TestFixtures.launchMediaDriver;
+import static uk.co.real_logic.artio.engine.logger.FixArchiveScanner.Context.DEFAULT_MAX_CONCURRENT_REPLAYS;
 import static uk.co.real_logic.artio.system_tests.SystemTestUtil.*;
 
 public class ArchiveScannerIntegrationTest extends AbstractGatewayToGatewaySystemTest
@@ -77,6 +81,48 @@ public class ArchiveScannerIntegrationTest extends AbstractGatewayToGatewaySyste
         assertArchiveContainsMessages(largeTestReqId());
     }
 
+    @Test
+    public void canScanArchiveConcurrentlyInTimestampOrderWhenGatewayStopped()
+    {
+        setupAndExchangeMessages();
+        acquireAcceptingSession();
+
+        final String testReqID = largeTestReqId();
+        sendTestRequest(acceptingSession, testReqID);
+        assertReceivedSingleHeartbeat(testSystem, acceptingOtfAcceptor, testReqID);
+
+        CloseHelper.close(initiatingLibrary);
+        CloseHelper.close(acceptingLibrary);
+
+        CloseHelper.close(initiatingEngine);
+        CloseHelper.close(acceptingEngine);
+
+        final EngineConfiguration configuration = acceptingEngine.configuration();
+        final int queryStreamId = configuration.outboundLibraryStream();
+        final List<String> messages = new ArrayList<>();
+        final List<Long> timestamps = new ArrayList<>();
+        scanArchive(
+            configuration,
+            queryStreamId,
+            true,
+            DEFAULT_MAX_CONCURRENT_REPLAYS,
+            (message, buffer, offset, length, header) ->
+            {
+                messages.add(message.body());
+                timestamps.add(message.timestamp());
+            });
+
+        assertContainsMessages(messages, testReqID);
+        for (int i = 1; i < timestamps.size(); i++)
+        {
+            assertThat(messages.toString(), timestamps.get(i), greaterThanOrEqualTo(timestamps.get(i - 1)));
+        }
+
+        // Reusing a single replay slot for each recording still scans every message
+        final List<String> messagesWithOneReplay = getMessagesFromArchive(configuration, queryStreamId, true, 1);
+        assertThat(messagesWithOneReplay, containsInAnyOrder(messages.toArray()));
+    }
+
     @Test
     public void canScanArchiveWhenGatewayStopped()
     {
@@ -101,9 +147,13 @@ public class ArchiveScannerIntegrationTest extends AbstractGatewayToGatewaySyste
     private void assertArchiveContainsMessages(final String testReqIdPrefix)
     {
         final EngineConfiguration configuration = acceptingEngine.configuration();
-        final List<String> messages = getMessagesFromArchive(
-            configuration, configuration.outboundLibraryStream());
+        final List<String> messages = getMessagesFromArchive(configuration, configuration.outboundLibraryStream());
 
+        assertContainsMessages(messages, testReqIdPrefix);
+    }
+
+    private void assertContainsMessages(final List<String> messages, final String testReqIdPrefix)
+    {
         assertThat(messages.toString(), messages, hasItems(
             Matchers.containsString("35=A\00149=acceptor\00156=initiator\00134=1"),
             Matchers.containsString("\001112=" + testReqIdPrefix)));